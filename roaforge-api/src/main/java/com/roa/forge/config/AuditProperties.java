@@ -0,0 +1,28 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    /** 대기 큐 크기 - 가득 차면 기록 요청 스레드가 빈자리가 날 때까지 블록 */
+    private int queueCapacity = 10_000;
+
+    /** 한 번에 insert 할 최대 건수 */
+    private int maxBatchSize = 500;
+
+    /** 첫 건이 큐에 들어온 뒤 이 시간이 지나면 배치가 덜 찼어도 기록 */
+    private Duration maxLatency = Duration.ofMillis(200);
+
+    /** 기록 실패 시 재시도 횟수 (초과하면 로그에 남기고 폐기) */
+    private int maxRetries = 3;
+
+    /** 감사 로그 내보내기 응답의 비동기 타임아웃 (이 요청에만 적용, 나머지 비동기 요청은 spring.mvc.async 기본값) */
+    private Duration exportTimeout = Duration.ofMinutes(60);
+}
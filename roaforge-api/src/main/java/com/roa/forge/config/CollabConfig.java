@@ -0,0 +1,19 @@
+package com.roa.forge.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class CollabConfig {
+
+    /** STOMP 하트비트 + 협업 세션의 브로드캐스트/저장 주기 작업 */
+    @Bean(name = "collabScheduler")
+    public ThreadPoolTaskScheduler collabScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("collab-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
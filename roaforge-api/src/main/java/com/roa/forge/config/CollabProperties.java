@@ -0,0 +1,36 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.collab")
+public class CollabProperties {
+
+    /** 드래그 델타를 모아 문서별로 한 번에 브로드캐스트하는 주기 */
+    private Duration broadcastInterval = Duration.ofMillis(50);
+
+    /** 모아 둔 변경분을 DB 에 저장하는 주기 */
+    private Duration flushInterval = Duration.ofSeconds(2);
+
+    /** 변경 없이 이 시간이 지나면 문서 세션 정리 */
+    private Duration sessionIdleTimeout = Duration.ofMinutes(10);
+
+    /** STOMP 하트비트 (서버/클라이언트 동일) */
+    private Duration heartbeat = Duration.ofSeconds(10);
+
+    /** 클라이언트 송신 채널 워커 수 - 브로드캐스트 팬아웃을 처리 */
+    private int outboundPoolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /** 느린 클라이언트 보호: 송신 대기 버퍼/시간 초과 시 연결 종료 */
+    private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(512);
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+    /** 웹소켓 핸드셰이크 허용 Origin */
+    private String[] allowedOrigins = {"http://localhost:3000"};
+}
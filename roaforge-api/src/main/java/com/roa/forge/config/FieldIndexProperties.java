@@ -0,0 +1,17 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.field-index")
+public class FieldIndexProperties {
+
+    /** 격자 한 칸의 크기 (pt) - 대표적인 필드 크기 정도가 적당 */
+    private double cellSize = 64;
+
+    /** 메모리에 유지할 (문서, 페이지) 인덱스 수 */
+    private int maxPages = 2000;
+}
@@ -0,0 +1,48 @@
+package com.roa.forge.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class JobExecutorConfig {
+
+    private final JobProperties jobProperties;
+
+    /**
+     * 대량 서명 항목 워커 풀.
+     * 작업별 세마포어가 동시 항목 수를 묶으므로 큐는 그 합만큼이면 충분하고, 넘치면 디스패처가 직접 실행해 속도를 늦춘다.
+     * 대화형 요청과 CPU 를 다툴 때 밀리도록 스레드 우선순위를 낮춘다.
+     */
+    @Bean(name = "jobWorkerExecutor")
+    public ThreadPoolTaskExecutor jobWorkerExecutor() {
+        int size = Math.max(1, jobProperties.getWorkerPoolSize());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(Math.max(1, jobProperties.getMaxActiveJobs() * jobProperties.getMaxConcurrency()));
+        executor.setThreadNamePrefix("job-worker-");
+        executor.setThreadPriority(Thread.NORM_PRIORITY - 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /** 작업별 디스패치 루프 (작업 하나당 스레드 하나, 초과분은 큐에서 대기) */
+    @Bean(name = "jobDispatchExecutor")
+    public ThreadPoolTaskExecutor jobDispatchExecutor() {
+        int size = Math.max(1, jobProperties.getMaxActiveJobs());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setThreadNamePrefix("job-dispatch-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,37 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.jobs")
+public class JobProperties {
+
+    /** 대량 작업 워커 수 - 대화형 서명 풀(signingExecutor)과 별도, 코어의 절반만 쓴다 */
+    private int workerPoolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /** 동시에 실행하는 작업 수 (나머지는 QUEUED 로 대기) */
+    private int maxActiveJobs = 2;
+
+    /** 작업별 동시 처리 항목 수 기본값/상한 */
+    private int defaultConcurrency = 4;
+    private int maxConcurrency = 16;
+
+    /** 한 작업의 최대 항목 수 */
+    private int maxItems = 50_000;
+
+    /** 대기 항목을 한 번에 읽는 수 */
+    private int pageSize = 200;
+
+    /** 항목별 시도 횟수 (문서 없음/서명 필드 없음처럼 재시도해도 같은 오류는 바로 실패) */
+    private int maxAttempts = 3;
+    private Duration retryBackoff = Duration.ofSeconds(2);
+
+    /** SSE 진행률 전송 최소 간격 */
+    private Duration progressInterval = Duration.ofMillis(500);
+    private Duration sseTimeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,25 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+
+    /**
+     * true 면 토큰의 권한 클레임만으로 인증 객체를 만든다 (요청당 DB 조회 없음).
+     * 비활성화/권한 변경은 액세스 토큰 만료(1시간) 후 반영된다. 권한 클레임이 없는 토큰은 항상 DB 조회.
+     */
+    private boolean stateless = true;
+
+    /** 검증 완료 토큰 캐시 유지 시간 (토큰 만료 시각을 넘지 않음) */
+    private Duration verifiedCacheTtl = Duration.ofSeconds(60);
+
+    /** 검증 완료 토큰 캐시 최대 개수 */
+    private int verifiedCacheSize = 10_000;
+}
@@ -0,0 +1,46 @@
+package com.roa.forge.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class LtvConfig {
+
+    private final LtvProperties ltvProperties;
+
+    /** LTV 대기 문서 폴링 + 재타임스탬프 대상 점검 */
+    @Bean(name = "ltvScheduler")
+    public ThreadPoolTaskScheduler ltvScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ltv-poll-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * 문서별 보강 워커. 한 배치 이상은 받지 않고 넘치면 폴링 스레드가 직접 처리한다.
+     * 서명 요청과 CPU 를 다툴 때 밀리도록 우선순위를 낮춘다.
+     */
+    @Bean(name = "ltvWorkerExecutor")
+    public ThreadPoolTaskExecutor ltvWorkerExecutor() {
+        int size = Math.max(1, ltvProperties.getConcurrency());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(Math.max(1, ltvProperties.getBatchSize()));
+        executor.setThreadNamePrefix("ltv-worker-");
+        executor.setThreadPriority(Thread.NORM_PRIORITY - 2);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
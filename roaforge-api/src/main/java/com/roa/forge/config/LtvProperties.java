@@ -0,0 +1,41 @@
+package com.roa.forge.config;
+
+import com.roa.forge.entity.SignatureLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.ltv")
+public class LtvProperties {
+
+    /** 서명 후 LTV 보강 사용 여부 (TSA 가 설정되어 B-T 로 서명될 때만 동작) */
+    private boolean enabled = false;
+
+    /** 보강 목표 수준 - B_LT(DSS 만) 또는 B_LTA(DSS + 문서 타임스탬프) */
+    private SignatureLevel targetLevel = SignatureLevel.B_LTA;
+
+    /** 서명 후 보강까지 미루는 시간 (감사 로그 수준은 기록 순서와 무관하게 맞춰진다) */
+    private Duration delay = Duration.ofSeconds(10);
+
+    private Duration pollInterval = Duration.ofSeconds(10);
+
+    /** 한 번 폴링에서 처리할 문서 수 - 같은 CA 의 OCSP/CRL 은 캐시로 한 번만 조회된다 */
+    private int batchSize = 20;
+
+    /** 동시에 보강하는 문서 수 (네트워크 + 파일 I/O 위주) */
+    private int concurrency = 2;
+
+    private int maxAttempts = 5;
+
+    /** 실패 시 재시도 간격 (시도마다 두 배) */
+    private Duration retryBackoff = Duration.ofMinutes(1);
+
+    /** 문서 타임스탬프 만료 이만큼 전에 재타임스탬프 */
+    private Duration renewBefore = Duration.ofDays(30);
+
+    private Duration renewalCheckInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,29 @@
+package com.roa.forge.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class OptimizationExecutorConfig {
+
+    private final OptimizationProperties optimizationProperties;
+
+    /** 업로드 후 PDF 최적화 전용 워커 풀 (작고 고정된 크기, 큐 초과 시 거절) */
+    @Bean(name = "optimizeExecutor")
+    public ThreadPoolTaskExecutor optimizeExecutor() {
+        int size = Math.max(1, optimizationProperties.getPoolSize());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(optimizationProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("pdf-optimize-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,33 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.optimize")
+public class OptimizationProperties {
+
+    /** 업로드 후 열람용 최적화 사본 생성 여부 */
+    private boolean enabled;
+
+    /** 이보다 작은 파일은 최적화하지 않음 */
+    private DataSize minSize = DataSize.ofKilobytes(512);
+
+    /** 이미지 해상도 상한. 페이지 크기 대비 이보다 촘촘한 이미지는 이 해상도로 줄여 JPEG 로 다시 인코딩 */
+    private int maxImageDpi = 150;
+
+    /** JPEG 재인코딩 품질 (0~1) */
+    private float jpegQuality = 0.75f;
+
+    /** 원본보다 이 비율 이상 작아질 때만 사본을 남긴다 */
+    private double minSavingsRatio = 0.05;
+
+    /** 최적화 워커 수 - 렌더링/서명과 CPU 를 나눠 쓰므로 코어의 1/4 */
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+
+    /** 대기 작업 상한 (초과 시 해당 문서는 최적화를 건너뛴다) */
+    private int queueCapacity = 100;
+}
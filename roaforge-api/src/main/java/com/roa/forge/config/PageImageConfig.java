@@ -0,0 +1,29 @@
+package com.roa.forge.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class PageImageConfig {
+
+    private final PageImageProperties pageImageProperties;
+
+    /** 페이지 렌더링 전용 워커 풀 (미리 렌더링/캐시 미스 렌더링 공용) */
+    @Bean(name = "pageRenderExecutor")
+    public ThreadPoolTaskExecutor pageRenderExecutor() {
+        int size = Math.max(1, pageImageProperties.getRenderPoolSize());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(pageImageProperties.getRenderQueueCapacity());
+        executor.setThreadNamePrefix("page-render-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
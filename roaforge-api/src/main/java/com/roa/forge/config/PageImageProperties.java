@@ -0,0 +1,36 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.page-images")
+public class PageImageProperties {
+
+    /** 메모리 LRU 상한 (인코딩된 PNG 바이트 합계 기준) */
+    private DataSize memoryMaxSize = DataSize.ofMegabytes(128);
+
+    /** 디스크 계층 디렉터리 (비어 있으면 {storage.root}/page-cache) */
+    private String diskDir;
+
+    /** 디스크 계층 상한 - 넘으면 오래 쓰지 않은 이미지부터 상한의 90% 까지 지운다 */
+    private DataSize diskMaxSize = DataSize.ofGigabytes(2);
+
+    private int defaultDpi = 96;
+    private int maxDpi = 200;
+
+    /** 렌더링 이미지 최대 픽셀 수 - 큰 페이지는 이 안에 들도록 DPI 를 낮춰 렌더링 */
+    private long maxPixels = 16_000_000;
+
+    /** 업로드 직후 미리 렌더링할 DPI 목록 */
+    private List<Integer> prerenderDpis = List.of(96);
+
+    /** 렌더링 워커 수 - 서명 풀과 CPU 를 나눠 쓰므로 코어의 절반 */
+    private int renderPoolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int renderQueueCapacity = 1000;
+}
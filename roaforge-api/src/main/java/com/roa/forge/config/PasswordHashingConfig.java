@@ -0,0 +1,86 @@
+package com.roa.forge.config;
+
+import com.roa.forge.service.ExecutorPasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class PasswordHashingConfig {
+
+    private final PasswordHashingProperties passwordHashingProperties;
+
+    /** 비밀번호 해시/검증 전용 워커 풀 (작고 고정된 크기, 큐 초과 시 거절) */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        int size = Math.max(1, passwordHashingProperties.getPoolSize());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(passwordHashingProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor) {
+        return new ExecutorPasswordEncoder(delegatingEncoder(passwordHashingProperties),
+                passwordHashExecutor, passwordHashingProperties.getTimeout());
+    }
+
+    /**
+     * 새 해시는 "{알고리즘}..." 형식으로 저장한다. 접두사 없는 기존 해시는 BCrypt 로 검증하고 다음 로그인 때 다시 해시된다.
+     */
+    public static DelegatingPasswordEncoder delegatingEncoder(PasswordHashingProperties properties) {
+        PasswordEncoder bcrypt = new CostAwareBCryptPasswordEncoder(properties.getBcryptStrength());
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("argon2", new Argon2PasswordEncoder(16, 32, 1,
+                properties.getArgon2MemoryKib(), properties.getArgon2Iterations()));
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder("", 16, properties.getPbkdf2Iterations(),
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+        String algorithm = properties.getAlgorithm();
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalStateException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + algorithm);
+        }
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /** 기본 BCryptPasswordEncoder 는 cost 를 올릴 때만 재해시 대상으로 보므로, 내릴 때도 설정값에 맞춘다 */
+    static final class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+        private final int strength;
+
+        CostAwareBCryptPasswordEncoder(int strength) {
+            super(strength);
+            this.strength = strength;
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            // $2a$10$... 의 cost 부분
+            if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') return false;
+            try {
+                return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+}
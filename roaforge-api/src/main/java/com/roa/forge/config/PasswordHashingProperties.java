@@ -0,0 +1,35 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+    /** 새 해시에 쓸 알고리즘 (bcrypt | argon2 | pbkdf2). 기존 해시는 접두사({bcrypt} 등)로 구분해 계속 검증된다 */
+    private String algorithm = "bcrypt";
+
+    /** BCrypt cost (2^n 라운드). 바뀌면 다음 로그인 때 새 cost 로 다시 해시한다 */
+    private int bcryptStrength = 10;
+
+    /** Argon2id 메모리(KiB)/반복 횟수 */
+    private int argon2MemoryKib = 19 * 1024;
+    private int argon2Iterations = 2;
+
+    /** PBKDF2-HMAC-SHA256 반복 횟수 */
+    private int pbkdf2Iterations = 310_000;
+
+    /** 해시/검증 워커 수 - 로그인이 몰려도 나머지 요청이 쓸 CPU 를 남기도록 코어의 절반 */
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /** 대기 작업 상한 (초과 시 503) */
+    private int queueCapacity = 64;
+
+    /** 요청 스레드가 해시 결과를 기다리는 최대 시간 (초과 시 503) */
+    private Duration timeout = Duration.ofSeconds(5);
+}
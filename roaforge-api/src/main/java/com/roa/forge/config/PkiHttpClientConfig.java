@@ -0,0 +1,47 @@
+package com.roa.forge.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PkiHttpClientConfig {
+
+    private final PkiProperties pkiProperties;
+
+    /**
+     * TSA/OCSP/CRL 호출용 HTTP 클라이언트.
+     * spring.threads.virtual.enabled=true 면 내부 실행기도 가상 스레드 - 호출 스레드가 응답을 기다리는 동안 캐리어 스레드를 점유하지 않는다.
+     */
+    @Bean(name = "pkiHttpClient")
+    public HttpClient pkiHttpClient(Environment environment) {
+        Executor executor;
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            log.info("PKI HTTP 클라이언트: 가상 스레드 모드");
+        } else {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(pkiProperties.getPlatformPoolSize());
+            pool.setMaxPoolSize(pkiProperties.getPlatformPoolSize());
+            pool.setThreadNamePrefix("pki-http-");
+            pool.initialize();
+            executor = pool;
+        }
+        return HttpClient.newBuilder()
+                .connectTimeout(pkiProperties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+    }
+}
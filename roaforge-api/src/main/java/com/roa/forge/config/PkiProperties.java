@@ -0,0 +1,42 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.pki")
+public class PkiProperties {
+
+    /** RFC 3161 TSA 주소 (설정 시 서명에 signature-time-stamp 를 넣어 PAdES-B-T, 서명 크기 여유 필요) */
+    private String tsaUrl;
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration requestTimeout = Duration.ofSeconds(15);
+
+    /** 외부 PKI 서버 동시 호출 상한 - 가상 스레드 모드에서도 상대 서버를 보호 */
+    private int maxConcurrentRequests = 256;
+
+    /** 플랫폼 스레드 모드에서 HTTP 클라이언트 내부 실행기 크기 */
+    private int platformPoolSize = 16;
+
+    /** OCSP/CRL 응답에 nextUpdate 가 없을 때 캐시 보관 시간 */
+    private Duration revocationDefaultTtl = Duration.ofMinutes(5);
+
+    /** nextUpdate 가 너무 가깝거나 먼 응답의 보관 시간 하한/상한 - 어느 쪽이든 nextUpdate 를 넘겨 보관하지는 않는다 */
+    private Duration revocationMinTtl = Duration.ofSeconds(30);
+    private Duration revocationMaxTtl = Duration.ofHours(24);
+
+    /** 캐시에 유지할 OCSP 응답 + CRL 개수 */
+    private int revocationCacheSize = 10_000;
+
+    /** 캐시에 남기는 CRL 원본(DER, DSS 에 그대로 넣는다) 총량 - 넘으면 오래 안 쓴 CRL 부터 뺀다 */
+    private DataSize revocationCrlCacheBytes = DataSize.ofMegabytes(64);
+
+    /** thisUpdate/nextUpdate 검사 시 허용하는 응답 서버와의 시계 차이 */
+    private Duration revocationClockSkew = Duration.ofMinutes(5);
+}
@@ -0,0 +1,19 @@
+package com.roa.forge.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class QuotaConfig {
+
+    /** 라이선스 사용량 카운터 재조정 (주기 작업 1개) */
+    @Bean(name = "quotaScheduler")
+    public ThreadPoolTaskScheduler quotaScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("quota-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
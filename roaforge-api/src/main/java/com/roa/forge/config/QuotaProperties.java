@@ -0,0 +1,19 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.quota")
+public class QuotaProperties {
+
+    /** 라이선스 maxUsers/maxDocuments 한도 적용 여부 */
+    private boolean enabled = true;
+
+    /** 메모리 카운터를 DB 실제 건수/라이선스 한도와 맞추는 주기 */
+    private Duration reconcileInterval = Duration.ofSeconds(30);
+}
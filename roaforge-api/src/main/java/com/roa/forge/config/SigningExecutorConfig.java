@@ -0,0 +1,45 @@
+package com.roa.forge.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class SigningExecutorConfig {
+
+    private final SigningProperties signingProperties;
+
+    /**
+     * 서명 전용 워커 풀.
+     * 코어 수만큼 고정하고 큐를 제한해서, 몰리는 요청은 Tomcat 스레드를 붙잡지 않고 바로 거절(503)한다.
+     */
+    @Bean(name = "signingExecutor")
+    public ThreadPoolTaskExecutor signingExecutor() {
+        int size = Math.max(1, signingProperties.getPoolSize());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(signingProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("sign-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /** 서명 키스토어 파일 변경 감시 (주기 작업 1개) */
+    @Bean(name = "credentialReloadScheduler")
+    public ThreadPoolTaskScheduler credentialReloadScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("credential-reload-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
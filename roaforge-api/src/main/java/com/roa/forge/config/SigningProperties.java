@@ -0,0 +1,39 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.signing")
+public class SigningProperties {
+
+    /** 서명용 PKCS#12 키스토어 경로 (미설정 시 서명 요청에서 오류) */
+    private String keystorePath;
+    private String keystorePassword;
+
+    /** 키 별칭 (비어 있으면 키스토어의 첫 번째 키 엔트리) */
+    private String keyAlias;
+
+    /** 키스토어 파일 변경 확인 주기 (0 이면 재로드하지 않음) */
+    private Duration keystoreReloadInterval = Duration.ofSeconds(30);
+
+    /** 서명 워커 수 - CMS/RSA 연산은 CPU 바운드라 코어 수가 기본값 */
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    /** 워커가 모두 바쁠 때 대기시킬 최대 작업 수 (초과 시 즉시 거절) */
+    private int queueCapacity = 256;
+
+    /** /Contents 에 예약할 CMS 서명 크기(byte) */
+    private int signatureSize = 16384;
+
+    /** 이 크기 이상인 문서는 디스크 기반(임시파일 캐시 + memory-mapped 다이제스트)으로 서명 */
+    private DataSize streamingThreshold = DataSize.ofMegabytes(64);
+
+    /** 서명본 파일명 접미사 (문서 id 42 의 contract.pdf → contract-42-signed.pdf) */
+    private String signedSuffix = "-signed";
+}
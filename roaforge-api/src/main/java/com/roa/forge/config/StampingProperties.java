@@ -0,0 +1,21 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.stamping")
+public class StampingProperties {
+
+    /** TEXT/DATE 값에 쓸 TrueType(.ttf) 글꼴 경로. 비어 있으면 Helvetica (WinAnsi 밖의 문자는 '?') */
+    private String fontPath;
+
+    /** 필드 높이에 맞춘 글자 크기의 상한/하한(pt). 하한에서도 넘치면 필드 경계에서 잘린다 */
+    private float maxFontSize = 11f;
+    private float minFontSize = 5f;
+
+    /** 필드 경계와 글자 사이 여백(pt) */
+    private float padding = 2f;
+}
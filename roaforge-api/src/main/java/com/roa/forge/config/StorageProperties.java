@@ -0,0 +1,14 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.storage")
+public class StorageProperties {
+
+    /** Document.path 가 상대경로일 때 기준이 되는 저장소 루트 */
+    private String root = "./storage";
+}
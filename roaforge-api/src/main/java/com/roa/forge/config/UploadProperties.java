@@ -0,0 +1,18 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.upload")
+public class UploadProperties {
+
+    /** 업로드 최대 크기 (스트리밍 중 초과하면 즉시 중단) */
+    private DataSize maxSize = DataSize.ofMegabytes(512);
+
+    /** 저장소 루트 아래 업로드 원본 디렉터리. 파일은 {dir}/{해시 앞 2자리}/{해시}.pdf 로 내용 주소화된다 */
+    private String dir = "documents";
+}
@@ -0,0 +1,31 @@
+package com.roa.forge.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class VerificationExecutorConfig {
+
+    private final VerificationProperties verificationProperties;
+
+    /** 서명 하나씩 병렬 검증하는 워커 풀 - 서명 풀과 분리, 넘치면 바로 거절(503) */
+    @Bean(name = "verifyExecutor")
+    public ThreadPoolTaskExecutor verifyExecutor() {
+        int size = Math.max(1, verificationProperties.getPoolSize());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(verificationProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("verify-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,30 @@
+package com.roa.forge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.verify")
+public class VerificationProperties {
+
+    /** 신뢰 앵커 키스토어 (인증서 엔트리만 사용, 변경되면 다음 검증 때 다시 읽고 캐시를 비운다) */
+    private String trustStorePath;
+    private String trustStorePassword;
+    private String trustStoreType = "PKCS12";
+
+    /** 서명용 키스토어 체인의 루트도 신뢰 (자체 발급 문서 검증용) */
+    private boolean trustSigningRoot = true;
+
+    /** 서명별 검증 워커 수 - 다이제스트/서명 검증은 CPU 바운드 */
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 256;
+
+    /** 보관할 검증 보고서 수 (콘텐츠 SHA-256 + 신뢰 앵커 버전 기준) */
+    private int cacheSize = 1000;
+
+    /** 업로드 검증 최대 크기 */
+    private DataSize maxUploadSize = DataSize.ofMegabytes(512);
+}
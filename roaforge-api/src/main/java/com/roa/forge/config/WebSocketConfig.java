@@ -0,0 +1,65 @@
+package com.roa.forge.config;
+
+import com.roa.forge.filter.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final CollabProperties collabProperties;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final TaskScheduler collabScheduler;
+
+    public WebSocketConfig(CollabProperties collabProperties,
+                           StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           @Qualifier("collabScheduler") TaskScheduler collabScheduler) {
+        this.collabProperties = collabProperties;
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.collabScheduler = collabScheduler;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins(collabProperties.getAllowedOrigins());
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        long heartbeat = collabProperties.getHeartbeat().toMillis();
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                .setTaskScheduler(collabScheduler);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        int size = collabProperties.getOutboundPoolSize();
+        registration.taskExecutor()
+                .corePoolSize(size)
+                .maxPoolSize(size);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendBufferSizeLimit((int) collabProperties.getSendBufferSizeLimit().toBytes())
+                .setSendTimeLimit((int) collabProperties.getSendTimeLimit().toMillis());
+    }
+}
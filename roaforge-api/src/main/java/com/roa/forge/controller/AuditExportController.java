@@ -0,0 +1,67 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.config.AuditProperties;
+import com.roa.forge.dto.AuditExportFormat;
+import com.roa.forge.dto.AuditExportTarget;
+import com.roa.forge.service.AuditExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+@Tag(name = "Audit Export", description = "감사 로그 내보내기 API")
+public class AuditExportController {
+
+    private final AuditExportService auditExportService;
+    private final AuditProperties auditProperties;
+
+    @GetMapping("/export")
+    @Operation(summary = "감사 로그 내보내기",
+            description = "target=SIGNATURE|ACTIVITY, format=NDJSON|CSV, [from, to) 기간 전체를 스트리밍 (gzip=true 면 .gz)")
+    public WebAsyncTask<Void> export(
+            @RequestParam AuditExportTarget target,
+            @RequestParam(defaultValue = "NDJSON") AuditExportFormat format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        auditExportService.validateRange(from, to);
+
+        String fileName = target.name().toLowerCase(Locale.ROOT) + "_log."
+                + (format == AuditExportFormat.CSV ? "csv" : "ndjson")
+                + (gzip ? ".gz" : "");
+        String contentType = gzip
+                ? "application/gzip"
+                : (format == AuditExportFormat.CSV ? "text/csv;charset=UTF-8" : "application/x-ndjson");
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+
+        // StreamingResponseBody 는 전역 spring.mvc.async.request-timeout 을 따르므로, 긴 타임아웃은 이 작업에만 건다
+        return new WebAsyncTask<>(auditProperties.getExportTimeout().toMillis(), () -> {
+            OutputStream out = response.getOutputStream();
+            if (gzip) {
+                // syncFlush=true 로 주기적 flush 가 압축 스트림에서도 즉시 전송되게 한다
+                try (GZIPOutputStream gz = new GZIPOutputStream(out, 64 * 1024, true)) {
+                    auditExportService.export(target, format, from, to, gz);
+                }
+            } else {
+                auditExportService.export(target, format, from, to, out);
+            }
+            out.flush();
+            return null;
+        });
+    }
+}
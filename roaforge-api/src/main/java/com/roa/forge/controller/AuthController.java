@@ -2,17 +2,24 @@ package com.roa.forge.controller;
 
 import com.roa.forge.dto.TokenResponse;
 import com.roa.forge.dto.RegisterRequest;
+import com.roa.forge.entity.ActivityLog;
+import com.roa.forge.service.AuditLogWriter;
 import com.roa.forge.service.AuthService;
+import com.roa.forge.service.PasswordHashingUnavailableException;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
 import com.roa.forge.provider.JwtTokenProvider;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -23,6 +30,7 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthService authService;
+    private final AuditLogWriter auditLogWriter;
 
     @PostMapping("/register")
     @Operation(summary = "회원가입", description = "username/email/password로 회원가입")
@@ -37,8 +45,15 @@ public class AuthController {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(username, password));
 
-            String accessToken = jwtTokenProvider.createAccessToken(authentication.getName());
+            List<String> authorities = authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList();
+            String accessToken = jwtTokenProvider.createAccessToken(authentication.getName(), authorities);
             String refreshToken = jwtTokenProvider.createRefreshToken(authentication.getName());
+            auditLogWriter.submit(ActivityLog.builder()
+                    .username(authentication.getName())
+                    .action("LOGIN")
+                    .build());
 
             return Map.of(
                     "accessToken", accessToken,
@@ -51,13 +66,23 @@ public class AuthController {
 
     @PostMapping("/refresh")
     public Map<String, String> refresh(@RequestParam String refreshToken) {
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new RuntimeException("Invalid refresh token");
-        }
-
-        String username = jwtTokenProvider.getUsername(refreshToken);
-        String newAccessToken = jwtTokenProvider.createAccessToken(username);
+        String username = jwtTokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"))
+                .getSubject();
+        String newAccessToken = authService.refreshAccessToken(username);
 
         return Map.of("accessToken", newAccessToken);
     }
+
+    @ExceptionHandler(IllegalStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> conflict(IllegalStateException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler({TaskRejectedException.class, PasswordHashingUnavailableException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> busy(RuntimeException e) {
+        return Map.of("message", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.CacheRegionStats;
+import com.roa.forge.dto.RevocationCacheStats;
+import com.roa.forge.dto.VerificationCacheStats;
+import com.roa.forge.service.CacheStatisticsService;
+import com.roa.forge.service.RevocationDataService;
+import com.roa.forge.service.VerificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "캐시 통계 API")
+public class CacheController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+    private final RevocationDataService revocationDataService;
+    private final VerificationService verificationService;
+
+    @GetMapping("/stats")
+    @Operation(summary = "2차 캐시 리전 통계", description = "리전별 적중/미스/적재 횟수와 적중률")
+    public List<CacheRegionStats> stats() {
+        return cacheStatisticsService.regionStats();
+    }
+
+    @GetMapping("/revocation")
+    @Operation(summary = "OCSP/CRL 캐시 통계", description = "항목 수, 적중/미스, 실제 조회 수와 합류(single-flight) 횟수")
+    public RevocationCacheStats revocation() {
+        return revocationDataService.stats();
+    }
+
+    @GetMapping("/verification")
+    @Operation(summary = "서명 검증 보고서 캐시 통계", description = "항목 수, 적중/미스, 현재 신뢰 앵커 version")
+    public VerificationCacheStats verification() {
+        return verificationService.stats();
+    }
+}
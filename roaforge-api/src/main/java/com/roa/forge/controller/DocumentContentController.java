@@ -0,0 +1,128 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.service.DocumentContent;
+import com.roa.forge.service.DocumentContentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/documents")
+@RequiredArgsConstructor
+@Tag(name = "Document Content", description = "문서 파일 다운로드 API")
+public class DocumentContentController {
+
+    /** Tomcat sendfile 지원 여부/요청 속성 (NIO 커넥터 기본 활성) */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final DocumentContentService documentContentService;
+
+    @GetMapping("/{id}/content")
+    @Operation(summary = "문서 파일 다운로드",
+            description = "Range(단일 구간, 여러 구간은 전체 응답) 요청과 ETag 조건부 요청(If-None-Match/If-Range)을 지원. "
+                    + "optimized=true 면 서명 전 문서의 열람용 최적화 사본(있을 때)")
+    public void download(@PathVariable Long id,
+                         @RequestParam(defaultValue = "false") boolean signed,
+                         @RequestParam(defaultValue = "false") boolean optimized,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        DocumentContent content = documentContentService.describe(id, signed, optimized);
+
+        // If-None-Match 일치 시 304 - 파일은 열지 않는다
+        if (new ServletWebRequest(request, response).checkNotModified(content.getEtag())) return;
+
+        long length = Files.size(content.getFile());
+        long start = 0;
+        long end = length - 1;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, content.getEtag())) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            // 여러 구간(multipart/byteranges)과 해석할 수 없는 Range 는 무시하고 전체 본문(200)으로 응답한다
+            if (ranges.size() == 1) {
+                if (length == 0 || !satisfiable(ranges.get(0), length)) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(content.getFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        response.setContentLengthLong(end - start + 1);
+        if (length == 0) return;
+
+        writeRange(request, response, content, start, end);
+    }
+
+    /** sendfile 가능하면 커널에 맡기고, 아니면 FileChannel.transferTo 로 힙 복사 없이 전송 */
+    private void writeRange(HttpServletRequest request, HttpServletResponse response,
+                            DocumentContent content, long start, long end) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, content.getFile().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(content.getFile(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /** If-Range 가 없거나 현재 ETag 와 같을 때만 부분 응답 */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.equals(etag);
+    }
+
+    private static boolean satisfiable(HttpRange range, long length) {
+        try {
+            return range.getRangeStart(length) <= range.getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
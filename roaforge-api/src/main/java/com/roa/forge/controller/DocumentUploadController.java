@@ -0,0 +1,56 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.DocumentUploadResponse;
+import com.roa.forge.service.DocumentIngestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/documents")
+@RequiredArgsConstructor
+@Tag(name = "Document Upload", description = "문서 업로드 API")
+public class DocumentUploadController {
+
+    private final DocumentIngestService documentIngestService;
+
+    @PostMapping(consumes = MediaType.APPLICATION_PDF_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "PDF 업로드 (본문)",
+            description = "요청 본문(application/pdf)을 메모리에 올리지 않고 저장. 같은 내용이 이미 있으면 파일을 재사용")
+    public DocumentUploadResponse upload(@RequestParam String name, InputStream body) {
+        return documentIngestService.ingest(name, body);
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "PDF 업로드 (multipart)",
+            description = "file 파트를 업로드. name 이 없으면 원본 파일명. 파트는 컨테이너가 디스크에 받아 둔 것을 읽는다")
+    public DocumentUploadResponse uploadMultipart(@RequestPart("file") MultipartFile file,
+                                                  @RequestParam(required = false) String name) throws IOException {
+        String documentName = name != null && !name.isBlank() ? name : file.getOriginalFilename();
+        try (InputStream in = file.getInputStream()) {
+            return documentIngestService.ingest(documentName, in);
+        }
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> invalid(IllegalArgumentException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> conflict(IllegalStateException e) {
+        return Map.of("message", e.getMessage());
+    }
+}
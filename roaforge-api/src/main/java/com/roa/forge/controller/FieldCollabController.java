@@ -0,0 +1,42 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.FieldDelta;
+import com.roa.forge.service.CollaborativeLayoutService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * 협업 편집 STOMP 채널
+ * - 송신: /app/documents/{id}/fields (FieldDelta)
+ * - 구독: /topic/documents/{id}/fields (FieldDeltaBatch), .../saved (FieldLayoutResult), .../resync
+ * - 오류: /user/queue/errors
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class FieldCollabController {
+
+    private final CollaborativeLayoutService collaborativeLayoutService;
+
+    @MessageMapping("/documents/{id}/fields")
+    public void onDelta(@DestinationVariable Long id, @Valid @Payload FieldDelta delta, Principal principal) {
+        collaborativeLayoutService.accept(id, delta, principal.getName());
+    }
+
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public Map<String, String> onError(Exception e) {
+        log.debug("협업 델타 처리 실패", e);
+        return Map.of("message", String.valueOf(e.getMessage()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.FieldBox;
+import com.roa.forge.dto.FieldOverlap;
+import com.roa.forge.entity.FieldType;
+import com.roa.forge.service.FieldSpatialIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/documents/{id}/pages/{page}/fields")
+@RequiredArgsConstructor
+@Tag(name = "Field Index", description = "필드 히트 테스트/겹침 검사 API")
+public class FieldIndexController {
+
+    private final FieldSpatialIndex fieldSpatialIndex;
+
+    @GetMapping("/at")
+    @Operation(summary = "좌표 아래의 필드", description = "클릭 좌표(pt, 좌상단 기준)를 포함하는 필드")
+    public List<FieldBox> at(@PathVariable Long id, @PathVariable int page,
+                             @RequestParam double x, @RequestParam double y) {
+        return fieldSpatialIndex.grid(id, page).at(x, y);
+    }
+
+    @GetMapping("/within")
+    @Operation(summary = "사각형과 겹치는 필드", description = "배치 전 겹침 검사용, type/excludeId 로 대상 한정")
+    public List<FieldBox> within(@PathVariable Long id, @PathVariable int page,
+                                 @RequestParam double x, @RequestParam double y,
+                                 @RequestParam double w, @RequestParam double h,
+                                 @RequestParam(required = false) FieldType type,
+                                 @RequestParam(required = false) Long excludeId) {
+        return fieldSpatialIndex.grid(id, page).query(x, y, w, h, box ->
+                (type == null || box.getType() == type) && !box.getId().equals(excludeId));
+    }
+
+    @GetMapping("/overlaps")
+    @Operation(summary = "페이지 내 겹치는 필드 쌍", description = "type 지정 시 해당 유형끼리만 (예: SIGNATURE)")
+    public List<FieldOverlap> overlaps(@PathVariable Long id, @PathVariable int page,
+                                       @RequestParam(required = false) FieldType type) {
+        return fieldSpatialIndex.grid(id, page).overlaps(box -> type == null || box.getType() == type);
+    }
+}
@@ -0,0 +1,68 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.EffectiveField;
+import com.roa.forge.dto.FieldLayoutDiff;
+import com.roa.forge.dto.FieldLayoutResult;
+import com.roa.forge.dto.FieldValueRequest;
+import com.roa.forge.service.DocumentTemplateService;
+import com.roa.forge.service.FieldLayoutService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/documents")
+@RequiredArgsConstructor
+@Tag(name = "Field Layout", description = "필드 에디터 레이아웃 저장 API")
+public class FieldLayoutController {
+
+    private final FieldLayoutService fieldLayoutService;
+    private final DocumentTemplateService documentTemplateService;
+
+    @GetMapping("/{id}/fields")
+    @Operation(summary = "문서 필드 조회", description = "템플릿 인스턴스면 템플릿 레이아웃과 오버라이드를 합친 결과")
+    public List<EffectiveField> getFields(@PathVariable Long id) {
+        return documentTemplateService.effectiveFields(id);
+    }
+
+    @PutMapping("/{id}/fields/{fieldId}/value")
+    @Operation(summary = "필드 값 입력", description = "템플릿 필드의 값은 인스턴스 오버라이드에 저장")
+    public ResponseEntity<Void> fillValue(@PathVariable Long id, @PathVariable Long fieldId,
+                                          @Valid @RequestBody FieldValueRequest request) {
+        documentTemplateService.fillValue(id, fieldId, request.getValue());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PatchMapping("/{id}/fields")
+    @Operation(summary = "필드 레이아웃 변경분 저장",
+            description = "created/moved/resized/deleted 변경분을 한 트랜잭션으로 반영, version 불일치 시 409, 서명 필드끼리 겹치면 400")
+    public FieldLayoutResult applyDiff(@PathVariable Long id, @Valid @RequestBody FieldLayoutDiff diff) {
+        return fieldLayoutService.applyDiff(id, diff);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> invalid(IllegalArgumentException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> immutable(IllegalStateException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> conflict(OptimisticLockingFailureException e) {
+        return Map.of("message", "다른 사용자가 먼저 레이아웃을 변경했습니다. 최신 버전을 다시 불러오세요.");
+    }
+}
@@ -0,0 +1,35 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.QuotaUsage;
+import com.roa.forge.service.QuotaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/license")
+@RequiredArgsConstructor
+@Tag(name = "License", description = "라이선스 사용량 API")
+public class LicenseController {
+
+    private final QuotaService quotaService;
+
+    @GetMapping("/quota")
+    @Operation(summary = "라이선스 사용량", description = "자원별 한도(-1 은 제한 없음), 확정 사용량, 진행 중 예약")
+    public List<QuotaUsage> quota() {
+        return quotaService.usage();
+    }
+
+    @PostMapping("/quota/reconcile")
+    @Operation(summary = "사용량 재조정", description = "라이선스 변경 직후 주기를 기다리지 않고 한도/사용량을 다시 읽는다")
+    public List<QuotaUsage> reconcile() {
+        quotaService.reconcile();
+        return quotaService.usage();
+    }
+}
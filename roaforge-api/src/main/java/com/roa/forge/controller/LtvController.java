@@ -0,0 +1,44 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.LtvStatusResponse;
+import com.roa.forge.service.LtvService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/documents")
+@RequiredArgsConstructor
+@Tag(name = "LTV", description = "서명 후 장기 검증(B-LT/B-LTA) 보강 API")
+public class LtvController {
+
+    private final LtvService ltvService;
+
+    @GetMapping("/{id}/ltv")
+    @Operation(summary = "LTV 보강 상태", description = "서명 수준, 보강 상태, 시도 횟수, 문서 타임스탬프 만료 시각")
+    public LtvStatusResponse status(@PathVariable Long id) {
+        return ltvService.status(id);
+    }
+
+    @PostMapping("/{id}/ltv/retry")
+    @Operation(summary = "LTV 보강 재시도", description = "FAILED 는 다시 보강, DONE 은 재타임스탬프")
+    public LtvStatusResponse retry(@PathVariable Long id) {
+        return ltvService.retry(id);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Map<String, String> notFound(IllegalArgumentException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> conflict(IllegalStateException e) {
+        return Map.of("message", e.getMessage());
+    }
+}
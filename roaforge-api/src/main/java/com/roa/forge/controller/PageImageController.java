@@ -0,0 +1,75 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.PageImageStats;
+import com.roa.forge.service.PageImageCache;
+import com.roa.forge.service.PageImageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Page Images", description = "필드 에디터용 페이지 이미지 API")
+public class PageImageController {
+
+    private final PageImageService pageImageService;
+    private final PageImageCache pageImageCache;
+
+    @GetMapping("/api/documents/{id}/pages/{page}/image")
+    @Operation(summary = "페이지 이미지 조회", description = "PNG, 메모리/디스크 캐시 적중 시 렌더링 없이 반환")
+    public CompletableFuture<ResponseEntity<byte[]>> getPageImage(@PathVariable Long id,
+                                                                  @PathVariable int page,
+                                                                  @RequestParam(required = false) Integer dpi) {
+        return pageImageService.getPageImage(id, page, dpi)
+                .thenApply(image -> ResponseEntity.ok()
+                        .contentType(MediaType.IMAGE_PNG)
+                        .eTag(image.getEtag())
+                        .cacheControl(CacheControl.maxAge(Duration.ofDays(7)).cachePrivate())
+                        .body(image.getBytes()));
+    }
+
+    @GetMapping("/api/page-images/stats")
+    @Operation(summary = "페이지 이미지 캐시 통계", description = "적중/미스/축출 횟수와 메모리 사용량")
+    public PageImageStats stats() {
+        return pageImageCache.stats();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> invalid(IllegalArgumentException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> busy(TaskRejectedException e) {
+        return Map.of("message", "렌더링 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.");
+    }
+
+    /** 렌더링 스레드에서 난 예외(페이지 범위 초과 등)는 CompletionException 으로 감싸져 오므로 풀어서 응답 */
+    @ExceptionHandler(CompletionException.class)
+    public ResponseEntity<Map<String, String>> unwrap(CompletionException e) {
+        Throwable cause = e.getCause() == null ? e : e.getCause();
+        if (cause instanceof IllegalArgumentException iae) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(invalid(iae));
+        }
+        if (cause instanceof TaskRejectedException rejected) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(busy(rejected));
+        }
+        log.error("페이지 렌더링 실패", cause);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("message", "페이지 렌더링에 실패했습니다."));
+    }
+}
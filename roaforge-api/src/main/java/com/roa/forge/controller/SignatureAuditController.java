@@ -0,0 +1,28 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.CursorPage;
+import com.roa.forge.dto.SignatureLogSearch;
+import com.roa.forge.dto.SignatureLogView;
+import com.roa.forge.service.SignatureAuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/signature-logs")
+@RequiredArgsConstructor
+@Tag(name = "Signature Audit", description = "서명 감사 로그 조회 API")
+public class SignatureAuditController {
+
+    private final SignatureAuditService signatureAuditService;
+
+    @GetMapping
+    @Operation(summary = "서명 감사 로그 검색",
+            description = "문서/서명자/인증서 일련번호/기간 필터, 최신순 커서 페이지네이션 (nextCursor 를 cursor 로 전달)")
+    public CursorPage<SignatureLogView> search(@ModelAttribute SignatureLogSearch search,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer size) {
+        return signatureAuditService.search(search, cursor, size);
+    }
+}
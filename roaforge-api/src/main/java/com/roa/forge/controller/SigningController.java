@@ -0,0 +1,93 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.SignResponse;
+import com.roa.forge.dto.SigningContext;
+import com.roa.forge.service.DocumentNotFoundException;
+import com.roa.forge.service.PdfSigningService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/documents")
+@RequiredArgsConstructor
+@Tag(name = "Signing", description = "PAdES 전자서명 API")
+public class SigningController {
+
+    private final PdfSigningService pdfSigningService;
+
+    @PostMapping("/{id}/sign")
+    @Operation(summary = "문서 서명", description = "문서의 모든 SIGNATURE 필드에 PAdES-B-B(TSA 설정 시 B-T) 서명 적용, B-LT/B-LTA 는 응답 후 보강")
+    public CompletableFuture<SignResponse> sign(@PathVariable Long id,
+                                                Authentication authentication,
+                                                HttpServletRequest request) {
+        return pdfSigningService.signAsync(id, contextOf(authentication, request));
+    }
+
+    @PostMapping("/sign")
+    @Operation(summary = "문서 일괄 서명", description = "여러 문서를 서명 워커 풀에서 병렬로 서명, 문서별 실패/거절은 error 로")
+    public CompletableFuture<List<SignResponse>> signAll(@RequestBody List<Long> documentIds,
+                                                         Authentication authentication,
+                                                         HttpServletRequest request) {
+        return pdfSigningService.signAllAsync(documentIds, contextOf(authentication, request));
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> busy(TaskRejectedException e) {
+        return Map.of("message", PdfSigningService.BUSY_MESSAGE);
+    }
+
+    @ExceptionHandler(DocumentNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Map<String, String> notFound(DocumentNotFoundException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> invalid(IllegalArgumentException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> conflict(IllegalStateException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    /** 워커 스레드에서 난 예외는 CompletionException 으로 감싸져 올 수 있으므로 풀어서 같은 규칙으로 응답 */
+    @ExceptionHandler(CompletionException.class)
+    public ResponseEntity<Map<String, String>> unwrap(CompletionException e) {
+        Throwable cause = e.getCause() == null ? e : e.getCause();
+        if (cause instanceof TaskRejectedException rejected) return respond(HttpStatus.SERVICE_UNAVAILABLE, busy(rejected));
+        if (cause instanceof DocumentNotFoundException missing) return respond(HttpStatus.NOT_FOUND, notFound(missing));
+        if (cause instanceof IllegalArgumentException iae) return respond(HttpStatus.BAD_REQUEST, invalid(iae));
+        if (cause instanceof IllegalStateException ise) return respond(HttpStatus.CONFLICT, conflict(ise));
+        log.error("서명 실패", cause);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, Map.of("message", "서명에 실패했습니다."));
+    }
+
+    private static ResponseEntity<Map<String, String>> respond(HttpStatus status, Map<String, String> body) {
+        return ResponseEntity.status(status).body(body);
+    }
+
+    static SigningContext contextOf(Authentication authentication, HttpServletRequest request) {
+        String userAgent = request.getHeader("User-Agent");
+        if (userAgent != null && userAgent.length() > 500) userAgent = userAgent.substring(0, 500);
+        return new SigningContext(authentication.getName(), request.getRemoteAddr(), userAgent);
+    }
+}
@@ -0,0 +1,74 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.JobProgress;
+import com.roa.forge.dto.SigningJobRequest;
+import com.roa.forge.service.SigningJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Signing Jobs", description = "대량 서명 작업 API")
+public class SigningJobController {
+
+    private final SigningJobService signingJobService;
+
+    @PostMapping("/sign")
+    @Operation(summary = "대량 서명 작업 등록", description = "작업/항목을 저장하고 즉시 202, 진행률은 /events 로 구독")
+    public ResponseEntity<JobProgress> create(@Valid @RequestBody SigningJobRequest request,
+                                              Authentication authentication,
+                                              HttpServletRequest httpRequest) {
+        JobProgress progress = signingJobService.create(request,
+                SigningController.contextOf(authentication, httpRequest));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(progress);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "작업 진행률 조회")
+    public JobProgress get(@PathVariable Long id) {
+        return signingJobService.getProgress(id);
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "작업 진행률 구독 (SSE)", description = "progress 이벤트 반복, 종료 시 finished 이벤트 후 연결 종료")
+    public SseEmitter events(@PathVariable Long id) {
+        return signingJobService.subscribe(id);
+    }
+
+    @PostMapping("/{id}/retry")
+    @Operation(summary = "실패 항목 재시도", description = "FAILED 항목만 다시 실행, 취소된 작업은 남은 항목부터 재개")
+    public JobProgress retry(@PathVariable Long id) {
+        return signingJobService.retry(id);
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "작업 취소", description = "처리 중인 항목은 마치고 남은 항목은 대기 상태로 둔다")
+    public ResponseEntity<Void> cancel(@PathVariable Long id) {
+        signingJobService.cancel(id);
+        return ResponseEntity.accepted().build();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> invalid(IllegalArgumentException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> conflict(IllegalStateException e) {
+        return Map.of("message", e.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.InstantiateRequest;
+import com.roa.forge.dto.InstantiateResponse;
+import com.roa.forge.service.DocumentTemplateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/templates")
+@RequiredArgsConstructor
+@Tag(name = "Templates", description = "문서 템플릿 API")
+public class TemplateController {
+
+    private final DocumentTemplateService documentTemplateService;
+
+    @PostMapping("/{documentId}")
+    @Operation(summary = "문서를 템플릿으로 지정", description = "이후 필드 레이아웃은 변경 불가, 인스턴스들이 공유")
+    public ResponseEntity<Void> markAsTemplate(@PathVariable Long documentId) {
+        documentTemplateService.markAsTemplate(documentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/instances")
+    @Operation(summary = "템플릿으로 문서 일괄 생성", description = "필드 행을 복사하지 않고 문서 행만 배치 insert")
+    public InstantiateResponse instantiate(@PathVariable Long id, @Valid @RequestBody InstantiateRequest request) {
+        return new InstantiateResponse(id, documentTemplateService.instantiate(id, request.getNames()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> invalid(IllegalArgumentException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> conflict(IllegalStateException e) {
+        return Map.of("message", e.getMessage());
+    }
+}
@@ -1,13 +1,21 @@
 package com.roa.forge.controller;
 
+import com.roa.forge.dto.CursorPage;
+import com.roa.forge.dto.PasswordChangeRequest;
+import com.roa.forge.dto.UserSearch;
+import com.roa.forge.dto.UserSummary;
 import com.roa.forge.entity.UserAccount;
+import com.roa.forge.service.PasswordHashingUnavailableException;
 import com.roa.forge.service.UserAccountService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
@@ -18,9 +26,12 @@ public class UserAccountController {
     private final UserAccountService userAccountService;
 
     @GetMapping
-    @Operation(summary = "모든 사용자 조회")
-    public List<UserAccount> getAll() {
-        return userAccountService.getAllUsers();
+    @Operation(summary = "사용자 목록 조회",
+            description = "active/provider/emailPrefix 필터, id 순 커서 페이지네이션 (nextCursor 를 cursor 로 전달)")
+    public CursorPage<UserSummary> search(@ModelAttribute UserSearch search,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer size) {
+        return userAccountService.searchUsers(search, cursor, size);
     }
 
     @GetMapping("/{id}")
@@ -41,9 +52,57 @@ public class UserAccountController {
         return userAccountService.updateUser(id, updated);
     }
 
+    @PatchMapping("/{id}/deactivate")
+    @Operation(summary = "사용자 비활성화")
+    public void deactivate(@PathVariable Long id) {
+        userAccountService.deactivateUser(id);
+    }
+
+    @PatchMapping("/{id}/activate")
+    @Operation(summary = "사용자 활성화")
+    public void activate(@PathVariable Long id) {
+        userAccountService.activateUser(id);
+    }
+
+    @PutMapping("/{id}/password")
+    @Operation(summary = "비밀번호 변경", description = "새 비밀번호는 요청 본문으로 (쿼리 문자열/접근 로그에 남지 않도록)")
+    public void changePassword(@PathVariable Long id, @Valid @RequestBody PasswordChangeRequest request) {
+        userAccountService.changePassword(id, request.getPassword());
+    }
+
+    @PostMapping("/{id}/roles/{roleName}")
+    @Operation(summary = "역할 부여")
+    public void assignRole(@PathVariable Long id, @PathVariable String roleName) {
+        userAccountService.assignRole(id, roleName);
+    }
+
+    @DeleteMapping("/{id}/roles/{roleName}")
+    @Operation(summary = "역할 회수")
+    public void revokeRole(@PathVariable Long id, @PathVariable String roleName) {
+        userAccountService.revokeRole(id, roleName);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "사용자 삭제")
     public void delete(@PathVariable Long id) {
         userAccountService.deleteUser(id);
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> invalid(IllegalArgumentException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> conflict(IllegalStateException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler({TaskRejectedException.class, PasswordHashingUnavailableException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> busy(RuntimeException e) {
+        return Map.of("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.");
+    }
 }
\ No newline at end of file
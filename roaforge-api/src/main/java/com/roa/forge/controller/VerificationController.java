@@ -0,0 +1,72 @@
+package com.roa.forge.controller;
+
+import com.roa.forge.dto.TrustAnchorInfo;
+import com.roa.forge.dto.VerificationReport;
+import com.roa.forge.service.TrustAnchorStore;
+import com.roa.forge.service.VerificationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Verification", description = "PDF 서명 검증 API")
+public class VerificationController {
+
+    private final VerificationService verificationService;
+    private final TrustAnchorStore trustAnchorStore;
+
+    @GetMapping("/documents/{id}/verification")
+    @Operation(summary = "저장된 문서 서명 검증", description = "기본은 서명본, signed=false 면 원본 파일을 검증 (같은 내용은 캐시된 보고서)")
+    public VerificationReport verifyDocument(@PathVariable Long id,
+                                             @RequestParam(defaultValue = "true") boolean signed) {
+        return verificationService.verifyDocument(id, signed);
+    }
+
+    @PostMapping(value = "/verify", consumes = MediaType.APPLICATION_PDF_VALUE)
+    @Operation(summary = "업로드 PDF 서명 검증", description = "요청 본문(application/pdf)의 모든 서명을 병렬 검증")
+    public VerificationReport verifyUpload(InputStream body) {
+        return verificationService.verifyUpload(body);
+    }
+
+    @GetMapping("/verify/trust-anchors")
+    @Operation(summary = "신뢰 앵커 조회", description = "현재 신뢰 앵커 목록과 version (보고서 캐시 키의 일부)")
+    public TrustAnchorInfo trustAnchors() {
+        return info(trustAnchorStore.current());
+    }
+
+    @PostMapping("/verify/trust-anchors/reload")
+    @Operation(summary = "신뢰 앵커 다시 읽기", description = "키스토어를 다시 읽는다. 앵커가 바뀌면 캐시된 보고서는 무효")
+    public TrustAnchorInfo reloadTrustAnchors() {
+        return info(trustAnchorStore.reload());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> invalid(IllegalArgumentException e) {
+        return Map.of("message", e.getMessage());
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Map<String, String> busy(TaskRejectedException e) {
+        return Map.of("message", "검증 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.");
+    }
+
+    private static TrustAnchorInfo info(TrustAnchorStore.Snapshot snapshot) {
+        return new TrustAnchorInfo(snapshot.getVersion(), snapshot.getCertificates().size(),
+                snapshot.getCertificates().stream()
+                        .map(X509Certificate::getSubjectX500Principal)
+                        .map(Object::toString)
+                        .toList());
+    }
+}
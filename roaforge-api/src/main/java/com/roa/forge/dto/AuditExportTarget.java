@@ -0,0 +1,5 @@
+package com.roa.forge.dto;
+
+public enum AuditExportTarget {
+    SIGNATURE, ACTIVITY
+}
@@ -0,0 +1,14 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/** 키셋 페이지 - nextCursor 가 null 이면 마지막 페이지 */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+}
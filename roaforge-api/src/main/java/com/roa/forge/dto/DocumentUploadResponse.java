@@ -0,0 +1,16 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DocumentUploadResponse {
+    private Long documentId;
+    private String name;
+    private String contentHash;
+    private int pageCount;
+    private long size;
+    /** 같은 내용의 파일이 이미 있어 저장/분석 없이 재사용했는지 */
+    private boolean duplicate;
+}
@@ -0,0 +1,48 @@
+package com.roa.forge.dto;
+
+import com.roa.forge.entity.Field;
+import com.roa.forge.entity.FieldOverride;
+import com.roa.forge.entity.FieldType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/** 템플릿 레이아웃 + 인스턴스 오버라이드를 합친 최종 필드 (읽기 전용) */
+@Getter
+@ToString
+@AllArgsConstructor
+public class EffectiveField {
+    private final Long id;
+    private final Integer page;
+    private final Double x;
+    private final Double y;
+    private final Double w;
+    private final Double h;
+    private final FieldType type;
+    private final String data;
+
+    /** 템플릿에서 물려받은 필드 여부 (id 는 템플릿 필드 id) */
+    private final boolean inherited;
+
+    public static EffectiveField of(Field field, boolean inherited) {
+        return new EffectiveField(field.getId(), field.getPage(), field.getX(), field.getY(),
+                field.getW(), field.getH(), field.getType(), field.getData(), inherited);
+    }
+
+    /** 오버라이드에 값이 있는 항목만 덮어쓴다 */
+    public EffectiveField with(FieldOverride o) {
+        return new EffectiveField(id,
+                o.getPage() != null ? o.getPage() : page,
+                o.getX() != null ? o.getX() : x,
+                o.getY() != null ? o.getY() : y,
+                o.getW() != null ? o.getW() : w,
+                o.getH() != null ? o.getH() : h,
+                type,
+                o.getValue() != null ? o.getValue() : data,
+                inherited);
+    }
+
+    public FieldBox toBox() {
+        return new FieldBox(id, page, x, y, w, h, type);
+    }
+}
@@ -0,0 +1,35 @@
+package com.roa.forge.dto;
+
+import com.roa.forge.entity.Field;
+import com.roa.forge.entity.FieldType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/** 공간 인덱스용 필드 사각형 (좌상단 기준 좌표, PDF pt 단위) */
+@Getter
+@ToString
+@AllArgsConstructor
+public class FieldBox {
+    private final Long id;
+    private final Integer page;
+    private final Double x;
+    private final Double y;
+    private final Double w;
+    private final Double h;
+    private final FieldType type;
+
+    public static FieldBox of(Field field) {
+        return new FieldBox(field.getId(), field.getPage(), field.getX(), field.getY(),
+                field.getW(), field.getH(), field.getType());
+    }
+
+    /** 변이 맞닿기만 한 경우는 겹침으로 보지 않는다 */
+    public boolean intersects(double qx, double qy, double qw, double qh) {
+        return x < qx + qw && qx < x + w && y < qy + qh && qy < y + h;
+    }
+
+    public boolean contains(double px, double py) {
+        return px >= x && px <= x + w && py >= y && py <= y + h;
+    }
+}
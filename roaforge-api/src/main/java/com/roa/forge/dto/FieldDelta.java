@@ -0,0 +1,47 @@
+package com.roa.forge.dto;
+
+import com.roa.forge.entity.FieldType;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+/**
+ * 협업 편집 채널로 주고받는 필드 단위 변경.
+ * 저장된 필드는 id, 아직 저장 전인 필드는 ADD 때 클라이언트가 정한 clientId 로 가리킨다.
+ * 좌표/크기 상한 14400pt 는 PDF 페이지 최대 크기.
+ */
+@Data
+public class FieldDelta {
+
+    public enum Op { ADD, MOVE, RESIZE, REMOVE }
+
+    @NotNull
+    private Op op;
+
+    private Long id;
+
+    @Size(max = 64)
+    private String clientId;
+
+    @Min(1)
+    private Integer page;
+
+    @PositiveOrZero @DecimalMax("14400")
+    private Double x;
+
+    @PositiveOrZero @DecimalMax("14400")
+    private Double y;
+
+    @Positive @DecimalMax("14400")
+    private Double w;
+
+    @Positive @DecimalMax("14400")
+    private Double h;
+
+    private FieldType type;
+
+    @Size(max = 1000)
+    private String data;
+
+    /** 보낸 사용자 (서버가 채움) */
+    private String editor;
+}
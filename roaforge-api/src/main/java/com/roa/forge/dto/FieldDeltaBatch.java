@@ -0,0 +1,14 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/** 한 브로드캐스트 주기 동안 모인 델타 (필드·연산별 마지막 값만) */
+@Getter
+@AllArgsConstructor
+public class FieldDeltaBatch {
+    private final Long documentId;
+    private final List<FieldDelta> deltas;
+}
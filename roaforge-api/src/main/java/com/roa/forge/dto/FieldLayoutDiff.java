@@ -0,0 +1,84 @@
+package com.roa.forge.dto;
+
+import com.roa.forge.entity.FieldType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** 에디터 자동 저장용 필드 레이아웃 변경분 (좌표/크기 상한 14400pt 는 PDF 페이지 최대 크기) */
+@Data
+public class FieldLayoutDiff {
+
+    /** 클라이언트가 마지막으로 받은 문서 버전 */
+    @NotNull
+    private Long version;
+
+    @Valid
+    private List<Created> created = new ArrayList<>();
+
+    @Valid
+    private List<Moved> moved = new ArrayList<>();
+
+    @Valid
+    private List<Resized> resized = new ArrayList<>();
+
+    private List<Long> deleted = new ArrayList<>();
+
+    @Data
+    public static class Created {
+        /** 클라이언트 임시 키 - 응답에서 발급된 id 와 매핑 */
+        @NotBlank
+        private String clientId;
+
+        @NotNull @Min(1)
+        private Integer page;
+
+        @NotNull @PositiveOrZero @DecimalMax("14400")
+        private Double x;
+
+        @NotNull @PositiveOrZero @DecimalMax("14400")
+        private Double y;
+
+        @NotNull @Positive @DecimalMax("14400")
+        private Double w;
+
+        @NotNull @Positive @DecimalMax("14400")
+        private Double h;
+
+        @NotNull
+        private FieldType type;
+
+        @Size(max = 1000)
+        private String data;
+    }
+
+    @Data
+    public static class Moved {
+        @NotNull
+        private Long id;
+
+        @NotNull @Min(1)
+        private Integer page;
+
+        @NotNull @PositiveOrZero @DecimalMax("14400")
+        private Double x;
+
+        @NotNull @PositiveOrZero @DecimalMax("14400")
+        private Double y;
+    }
+
+    @Data
+    public static class Resized {
+        @NotNull
+        private Long id;
+
+        @NotNull @Positive @DecimalMax("14400")
+        private Double w;
+
+        @NotNull @Positive @DecimalMax("14400")
+        private Double h;
+    }
+}
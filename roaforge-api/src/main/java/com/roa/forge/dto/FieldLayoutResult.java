@@ -0,0 +1,16 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class FieldLayoutResult {
+    /** 반영 후 문서 버전 - 다음 저장 요청에 사용 */
+    private Long version;
+
+    /** clientId → 발급된 필드 id */
+    private Map<String, Long> createdIds;
+}
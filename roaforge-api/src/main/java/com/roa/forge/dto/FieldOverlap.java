@@ -0,0 +1,14 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/** 서로 겹치는 두 필드 (firstId < secondId) */
+@Getter
+@ToString
+@AllArgsConstructor
+public class FieldOverlap {
+    private final Long firstId;
+    private final Long secondId;
+}
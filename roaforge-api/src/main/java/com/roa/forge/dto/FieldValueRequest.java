@@ -0,0 +1,10 @@
+package com.roa.forge.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class FieldValueRequest {
+    @Size(max = 1000)
+    private String value;
+}
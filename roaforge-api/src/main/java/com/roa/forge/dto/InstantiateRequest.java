@@ -0,0 +1,17 @@
+package com.roa.forge.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class InstantiateRequest {
+
+    /** 만들 인스턴스 문서 이름 (하나당 문서 1개) */
+    @NotEmpty
+    @Size(max = 10000)
+    private List<@NotBlank @Size(max = 200) String> names;
+}
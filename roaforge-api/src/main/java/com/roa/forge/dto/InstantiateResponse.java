@@ -0,0 +1,13 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class InstantiateResponse {
+    private Long templateId;
+    private List<Long> documentIds;
+}
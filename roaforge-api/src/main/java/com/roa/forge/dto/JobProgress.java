@@ -0,0 +1,22 @@
+package com.roa.forge.dto;
+
+import com.roa.forge.entity.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/** 작업 진행률 (조회 응답 및 SSE 이벤트) */
+@Getter
+@ToString
+@AllArgsConstructor
+public class JobProgress {
+    private final Long jobId;
+    private final JobStatus status;
+    private final int total;
+    private final int succeeded;
+    private final int failed;
+
+    public int getRemaining() {
+        return Math.max(0, total - succeeded - failed);
+    }
+}
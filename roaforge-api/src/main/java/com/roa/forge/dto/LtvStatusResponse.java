@@ -0,0 +1,26 @@
+package com.roa.forge.dto;
+
+import com.roa.forge.entity.Document;
+import com.roa.forge.entity.LtvStatus;
+import com.roa.forge.entity.SignatureLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class LtvStatusResponse {
+    private Long documentId;
+    private SignatureLevel signatureLevel;
+    private LtvStatus ltvStatus;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String error;
+    private LocalDateTime archiveExpiresAt;
+
+    public static LtvStatusResponse of(Document d) {
+        return new LtvStatusResponse(d.getId(), d.getSignatureLevel(), d.getLtvStatus(), d.getLtvAttempts(),
+                d.getLtvNextAttemptAt(), d.getLtvError(), d.getArchiveExpiresAt());
+    }
+}
@@ -0,0 +1,20 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PageImageStats {
+    private long memoryHits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+    private long renders;
+    private int memoryEntries;
+    private long memoryBytes;
+    private long memoryMaxBytes;
+    private long diskEvictions;
+    private long diskBytes;
+    private long diskMaxBytes;
+}
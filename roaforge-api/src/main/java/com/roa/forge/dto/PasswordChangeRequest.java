@@ -0,0 +1,13 @@
+package com.roa.forge.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.ToString;
+
+@Data
+public class PasswordChangeRequest {
+    @ToString.Exclude
+    @NotBlank @Size(min = 8, max = 100)
+    private String password;
+}
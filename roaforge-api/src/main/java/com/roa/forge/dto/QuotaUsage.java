@@ -0,0 +1,16 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class QuotaUsage {
+    private String resource;
+    /** -1 이면 제한 없음 */
+    private long limit;
+    private long used;
+    /** 아직 커밋되지 않은 생성 요청 */
+    private long reserved;
+    private boolean licensed;
+}
@@ -0,0 +1,20 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RevocationCacheStats {
+    private int ocspEntries;
+    private int crlEntries;
+    private long crlRevokedSerials;
+    private long crlBytes;
+    private long hitCount;
+    private long missCount;
+    private long fetchCount;
+    /** 진행 중인 조회에 합류해 네트워크 호출을 생략한 횟수 */
+    private long collapsedCount;
+    private int inFlight;
+    private double hitRatio;
+}
@@ -0,0 +1,25 @@
+package com.roa.forge.dto;
+
+import com.roa.forge.entity.SignatureLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SignResponse {
+    private Long documentId;
+    private String signedPath;
+    private int signatureCount;
+    /** 응답 시점 수준 (B-LT/B-LTA 는 이후 LTV 보강으로) */
+    private SignatureLevel signatureLevel;
+    /** 일괄 서명에서 이 문서가 실패한 사유 (성공이면 null) */
+    private String error;
+
+    public SignResponse(Long documentId, String signedPath, int signatureCount, SignatureLevel signatureLevel) {
+        this(documentId, signedPath, signatureCount, signatureLevel, null);
+    }
+
+    public static SignResponse failed(Long documentId, String error) {
+        return new SignResponse(documentId, null, 0, null, error);
+    }
+}
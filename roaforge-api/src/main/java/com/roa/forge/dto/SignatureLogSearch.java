@@ -0,0 +1,22 @@
+package com.roa.forge.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/** 서명 감사 로그 검색 조건 (모두 선택) */
+@Data
+public class SignatureLogSearch {
+    private Long documentId;
+    private String signer;
+    private String certSerial;
+
+    /** signed_at >= from */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    /** signed_at < to */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+}
@@ -0,0 +1,23 @@
+package com.roa.forge.dto;
+
+import com.roa.forge.entity.SignatureLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/** signature_log 조회용 프로젝션 (JPQL constructor expression) */
+@Data
+@AllArgsConstructor
+public class SignatureLogView {
+    private Long id;
+    private Long documentId;
+    private Long fieldId;
+    private String signer;
+    private String certSubject;
+    private String certIssuer;
+    private String certSerial;
+    private SignatureLevel signatureLevel;
+    private LocalDateTime signedAt;
+    private String ipAddress;
+}
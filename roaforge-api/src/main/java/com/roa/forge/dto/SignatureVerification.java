@@ -0,0 +1,48 @@
+package com.roa.forge.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/** 서명(또는 문서 타임스탬프) 하나의 검증 결과 */
+@Data
+@NoArgsConstructor
+public class SignatureVerification {
+
+    public enum Kind { SIGNATURE, DOCUMENT_TIMESTAMP }
+
+    private String fieldName;
+    private Kind kind;
+    private String subFilter;
+    private String signerName;
+    /** 서명 사전의 /M (서명자 주장 시각) */
+    private Instant claimedSigningTime;
+
+    private String signerSubject;
+    private String signerIssuer;
+    private String signerSerial;
+
+    /** ByteRange 가 /Contents 만 빼고 파일 앞부분을 빈틈없이 덮는지 */
+    private boolean byteRangeValid;
+    /** 마지막 서명 이후 증분 업데이트가 없는지 (앞선 서명은 false 가 정상) */
+    private boolean coversWholeDocument;
+    /** ByteRange 다이제스트와 CMS messageDigest(타임스탬프면 messageImprint) 일치 */
+    private boolean digestValid;
+    private boolean signatureValid;
+    /** 신뢰 앵커까지 체인 구성 (폐기 여부는 보지 않는다) */
+    private boolean chainValid;
+    private List<String> chain = new ArrayList<>();
+
+    /** 서명 타임스탬프/문서 타임스탬프 시각, 없으면 null */
+    private Instant timestamp;
+    private Boolean timestampValid;
+
+    /** 체인 검증 기준 시각 (TSA 까지 신뢰 앵커로 확인된 타임스탬프), 없어 검증 시점으로 확인했으면 null */
+    private Instant validationTime;
+
+    private boolean valid;
+    private List<String> errors = new ArrayList<>();
+}
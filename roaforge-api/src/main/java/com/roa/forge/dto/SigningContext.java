@@ -0,0 +1,13 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 서명 요청자 정보 (SignatureLog 기록용) */
+@Getter
+@AllArgsConstructor
+public class SigningContext {
+    private String signer;
+    private String ipAddress;
+    private String userAgent;
+}
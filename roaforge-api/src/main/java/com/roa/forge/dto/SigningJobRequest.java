@@ -0,0 +1,19 @@
+package com.roa.forge.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SigningJobRequest {
+
+    @NotEmpty
+    private List<@NotNull Long> documentIds;
+
+    /** 동시 처리 항목 수 (없으면 기본값, 상한 초과 시 상한으로) */
+    @Min(1)
+    private Integer concurrency;
+}
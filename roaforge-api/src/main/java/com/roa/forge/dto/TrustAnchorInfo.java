@@ -0,0 +1,14 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TrustAnchorInfo {
+    private String version;
+    private int count;
+    private List<String> subjects;
+}
@@ -0,0 +1,11 @@
+package com.roa.forge.dto;
+
+import lombok.Data;
+
+/** 사용자 목록 검색 조건 (모두 선택) */
+@Data
+public class UserSearch {
+    private Boolean active;
+    private String provider;
+    private String emailPrefix;
+}
@@ -0,0 +1,18 @@
+package com.roa.forge.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** 사용자 목록용 경량 프로젝션 (비밀번호/providerId 제외) */
+@Data
+public class UserSummary {
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final Boolean active;
+    private final String provider;
+    private final LocalDateTime createdAt;
+    private List<String> roles = List.of();
+}
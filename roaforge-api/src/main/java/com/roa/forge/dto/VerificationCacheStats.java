@@ -0,0 +1,16 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class VerificationCacheStats {
+    private int entries;
+    private long hitCount;
+    private long missCount;
+    /** 같은 파일 검증이 진행 중일 때 합류한 횟수 */
+    private long collapsedCount;
+    private double hitRatio;
+    private String trustAnchorsVersion;
+}
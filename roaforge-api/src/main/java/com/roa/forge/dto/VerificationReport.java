@@ -0,0 +1,26 @@
+package com.roa.forge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class VerificationReport {
+    private String sha256;
+    private long fileSize;
+    private int signatureCount;
+    /** 서명이 하나 이상이고 모두 유효하며, 마지막 서명 이후 DSS/VRI 추가 외의 변경이 없음 */
+    private boolean valid;
+    /** 마지막 서명(또는 문서 타임스탬프) 뒤에 DSS/VRI 추가가 아닌 증분 업데이트가 있음 */
+    private boolean modifiedAfterLastSignature;
+    /** 신뢰할 시각 없이 현재 시각으로 체인을 확인한 서명이 있어 결과가 시간에 따라 바뀜 - 캐시하지 않는다 */
+    private boolean timeDependent;
+    /** /DSS (LTV 검증 데이터) 포함 여부 */
+    private boolean dssPresent;
+    private String trustAnchorsVersion;
+    private Instant verifiedAt;
+    private List<SignatureVerification> signatures;
+}
@@ -5,23 +5,33 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "activity_log")
+@Table(
+        name = "activity_log",
+        indexes = {
+                @Index(name = "idx_activity_created_at_id", columnList = "created_at,id")
+        }
+)
 @Getter
+@ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ActivityLog {
 
+    /** pooled 시퀀스 - IDENTITY 와 달리 JDBC 배치 insert 가 가능 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_log_seq")
+    @SequenceGenerator(name = "activity_log_seq", sequenceName = "activity_log_seq", allocationSize = 50)
     private Long id;
 
     private String username;
     private String action;
     private String detail;
 
+    @Column(name = "created_at")
     private LocalDateTime createdAt;
 
     @Builder
@@ -31,4 +41,11 @@ public class ActivityLog {
         this.detail = detail;
         this.createdAt = LocalDateTime.now();
     }
+
+    /** 실패한 저장 시도가 할당한 id 없이 같은 내용으로 다시 저장할 사본 */
+    public ActivityLog copyWithoutId() {
+        ActivityLog copy = new ActivityLog(username, action, detail);
+        copy.createdAt = createdAt;
+        return copy;
+    }
 }
@@ -5,17 +5,30 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "document")
+@Table(
+        name = "document",
+        indexes = {
+                @Index(name = "idx_document_template", columnList = "template_id"),
+                // 업로드 중복 제거: 같은 내용의 기존 파일/페이지 수 재사용
+                @Index(name = "idx_document_content_hash", columnList = "content_hash"),
+                // LTV 파이프라인 폴링: 상태별 다음 시도 시각 순
+                @Index(name = "idx_document_ltv", columnList = "ltv_status,ltv_next_attempt_at,id")
+        }
+)
 @ToString(exclude = "fields")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Document extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /** pooled 시퀀스 - 템플릿에서 대량 생성할 때 JDBC 배치 insert 가 가능 */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "document_seq")
+    @SequenceGenerator(name = "document_seq", sequenceName = "document_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -25,18 +38,88 @@ public class Document extends BaseTimeEntity {
     @Column(name = "path", length = 500)
     private String path;
 
+    @Column(name = "signed_path", length = 500)
+    private String signedPath;
+
+    /** 원본 파일 SHA-256 (hex) - ETag/캐시 키 */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /** 서명본 파일 SHA-256 (hex) */
+    @Column(name = "signed_content_hash", length = 64)
+    private String signedContentHash;
+
     @Min(0)
     @Column(name = "page_count")
     private Integer pageCount;
 
+    /** 업로드된 원본 크기(byte) */
+    @Column(name = "original_size")
+    private Long originalSize;
+
+    /** 열람용 최적화 사본 (원본은 서명용으로 그대로 둔다). 줄어든 크기가 작으면 null */
+    @Column(name = "optimized_path", length = 500)
+    private String optimizedPath;
+
+    @Column(name = "optimized_content_hash", length = 64)
+    private String optimizedContentHash;
+
+    /** 최적화 결과 크기(byte) - 사본을 남기지 않았어도 기록 */
+    @Column(name = "optimized_size")
+    private Long optimizedSize;
+
+    @Column(name = "optimized_at")
+    private LocalDateTime optimizedAt;
+
+    /** 템플릿 여부 - 템플릿의 필드 레이아웃은 불변이며 인스턴스들이 공유한다 */
+    @Column(name = "is_template", nullable = false)
+    private boolean template;
+
+    /** 템플릿에서 만든 인스턴스면 원본 템플릿 id (필드는 복사하지 않고 FieldOverride 로 차이만 저장) */
+    @Column(name = "template_id")
+    private Long templateId;
+
+    /** 마지막 서명 시각 - LTV 결과가 그 사이 다시 서명된 파일을 덮어쓰지 않도록 비교 */
+    @Column(name = "signed_at")
+    private LocalDateTime signedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "signature_level", length = 10)
+    private SignatureLevel signatureLevel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ltv_status", length = 20)
+    private LtvStatus ltvStatus = LtvStatus.NONE;
+
+    @Column(name = "ltv_attempts", nullable = false)
+    private int ltvAttempts;
+
+    @Column(name = "ltv_next_attempt_at")
+    private LocalDateTime ltvNextAttemptAt;
+
+    @Column(name = "ltv_error", length = 500)
+    private String ltvError;
+
+    /** 마지막 문서 타임스탬프(TSA 인증서)의 만료 시각 - 이보다 먼저 재타임스탬프한다 */
+    @Column(name = "archive_expires_at")
+    private LocalDateTime archiveExpiresAt;
+
+    /** 필드 레이아웃 낙관적 잠금 - 에디터 저장 시 클라이언트 버전과 비교 */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Field> fields = new ArrayList<>();
 
     @Builder
-    private Document(String name, String path, Integer pageCount, List<Field> fields) {
+    private Document(String name, String path, String contentHash, Integer pageCount, Long originalSize,
+                     List<Field> fields) {
         this.name = name;
         this.path = path;
+        this.contentHash = contentHash;
         this.pageCount = pageCount;
+        this.originalSize = originalSize;
         if (fields != null) {
             this.fields = fields;
             // 넘어온 필드가 있으면 역참조 정리
@@ -47,8 +130,10 @@ public class Document extends BaseTimeEntity {
     public void addField(Field field) {
         if (field == null) return;
         Document prev = field.getDocument();
-        if (prev != null && prev != this) prev.removeField(field);
-        if (!this.fields.contains(field)) this.fields.add(field);
+        // 역참조가 이미 이 문서면 목록에도 있다 - contains() 로 컬렉션 전체를 훑거나 지연 로딩하지 않는다
+        if (prev == this) return;
+        if (prev != null) prev.removeField(field);
+        this.fields.add(field);
         field.setDocumentInternal(this);
     }
 
@@ -56,4 +141,42 @@ public class Document extends BaseTimeEntity {
         if (field == null) return;
         if (this.fields.remove(field)) field.setDocumentInternal(null);
     }
+
+    /** 템플릿 인스턴스 - 파일/해시/페이지 수/최적화 사본을 공유하고 필드 행은 만들지 않는다 */
+    public static Document instanceOf(Document template, String name) {
+        if (!template.isTemplate()) {
+            throw new IllegalStateException("템플릿이 아닌 문서입니다. : " + template.getId());
+        }
+        Document instance = new Document(name, template.getPath(), template.getContentHash(), template.getPageCount(),
+                template.getOriginalSize(), null);
+        instance.optimizedPath = template.getOptimizedPath();
+        instance.optimizedContentHash = template.getOptimizedContentHash();
+        instance.optimizedSize = template.getOptimizedSize();
+        instance.optimizedAt = template.getOptimizedAt();
+        instance.templateId = template.getId();
+        return instance;
+    }
+
+    public void markAsTemplate() {
+        if (this.templateId != null) {
+            throw new IllegalStateException("템플릿 인스턴스는 템플릿으로 만들 수 없습니다. : " + this.id);
+        }
+        this.template = true;
+    }
+
+    /**
+     * 서명 완료된 사본 경로 기록 (원본 path 는 보존).
+     * ltvAfter 가 있으면 그 시각 이후 LTV 파이프라인이 검증 데이터를 덧붙인다.
+     */
+    public void markSigned(String signedPath, SignatureLevel level, LocalDateTime ltvAfter) {
+        this.signedPath = signedPath;
+        this.signedContentHash = null;
+        this.signedAt = LocalDateTime.now();
+        this.signatureLevel = level;
+        this.ltvStatus = ltvAfter == null ? LtvStatus.NONE : LtvStatus.PENDING;
+        this.ltvAttempts = 0;
+        this.ltvNextAttemptAt = ltvAfter;
+        this.ltvError = null;
+        this.archiveExpiresAt = null;
+    }
 }
\ No newline at end of file
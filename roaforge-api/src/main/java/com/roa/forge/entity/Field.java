@@ -17,8 +17,10 @@ import lombok.*;
 @Getter
 public class Field extends BaseTimeEntity {
 
+    /** pooled 시퀀스 - 에디터 일괄 저장 시 JDBC 배치 insert 가 가능 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "field_seq")
+    @SequenceGenerator(name = "field_seq", sequenceName = "field_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -65,6 +67,22 @@ public class Field extends BaseTimeEntity {
         this.data = data;
     }
 
+    public void moveTo(int page, double x, double y) {
+        this.page = page;
+        this.x = x;
+        this.y = y;
+    }
+
+    public void resize(double w, double h) {
+        this.w = w;
+        this.h = h;
+    }
+
+    /** 입력값 채우기 */
+    public void fill(String data) {
+        this.data = data;
+    }
+
     void setDocumentInternal(Document document) {
         this.document = document;
     }
@@ -0,0 +1,83 @@
+package com.roa.forge.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 템플릿 인스턴스에서 템플릿 필드와 달라진 부분만 저장 (copy-on-write).
+ * null 인 좌표/크기는 템플릿 값을 그대로 쓴다.
+ */
+@Entity
+@Getter
+@ToString
+@Table(
+        name = "field_override",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_field_override_doc_field", columnNames = {"document_id", "template_field_id"})
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FieldOverride extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "field_override_seq")
+    @SequenceGenerator(name = "field_override_seq", sequenceName = "field_override_seq", allocationSize = 50)
+    private Long id;
+
+    /** 인스턴스 문서 id */
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Column(name = "template_field_id", nullable = false)
+    private Long templateFieldId;
+
+    @Column(name = "page")
+    private Integer page;
+
+    @Column(name = "x")
+    private Double x;
+
+    @Column(name = "y")
+    private Double y;
+
+    @Column(name = "w")
+    private Double w;
+
+    @Column(name = "h")
+    private Double h;
+
+    /** 인스턴스에서 삭제된 템플릿 필드 */
+    @Column(name = "hidden", nullable = false)
+    private boolean hidden;
+
+    /** 인스턴스별 입력값 */
+    @Column(name = "filled_value", length = 1000)
+    private String value;
+
+    public FieldOverride(Long documentId, Long templateFieldId) {
+        this.documentId = documentId;
+        this.templateFieldId = templateFieldId;
+    }
+
+    public void moveTo(int page, double x, double y) {
+        this.page = page;
+        this.x = x;
+        this.y = y;
+    }
+
+    public void resize(double w, double h) {
+        this.w = w;
+        this.h = h;
+    }
+
+    public void hide() {
+        this.hidden = true;
+    }
+
+    public void fill(String value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,5 @@
+package com.roa.forge.entity;
+
+public enum JobItemStatus {
+    PENDING, RUNNING, SUCCEEDED, FAILED
+}
@@ -0,0 +1,5 @@
+package com.roa.forge.entity;
+
+public enum JobStatus {
+    QUEUED, RUNNING, COMPLETED, COMPLETED_WITH_ERRORS, CANCELLED
+}
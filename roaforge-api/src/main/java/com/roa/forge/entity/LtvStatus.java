@@ -0,0 +1,6 @@
+package com.roa.forge.entity;
+
+/** 서명 이후 LTV 보강(B-LT/B-LTA) 진행 상태 */
+public enum LtvStatus {
+    NONE, PENDING, PROCESSING, DONE, FAILED
+}
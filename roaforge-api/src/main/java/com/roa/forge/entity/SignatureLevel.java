@@ -0,0 +1,6 @@
+package com.roa.forge.entity;
+
+/** PAdES 베이스라인 수준 (B-B → B-T: 서명 타임스탬프, B-LT: DSS 검증 데이터, B-LTA: 문서 타임스탬프) */
+public enum SignatureLevel {
+    B_B, B_T, B_LT, B_LTA
+}
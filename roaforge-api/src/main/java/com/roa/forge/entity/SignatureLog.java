@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -13,15 +14,21 @@ import java.time.LocalDateTime;
 @Table(
         name = "signature_log",
         indexes = {
-                @Index(name = "idx_signature_doc", columnList = "document_id"),
-                @Index(name = "idx_signature_signed_at", columnList = "signed_at")
+                // 감사 조회는 (signed_at, id) 키셋 페이지네이션 - 필터 컬럼 + 정렬 키 복합 인덱스
+                @Index(name = "idx_signature_doc_signed", columnList = "document_id,signed_at,id"),
+                @Index(name = "idx_signature_signer_signed", columnList = "signer,signed_at,id"),
+                @Index(name = "idx_signature_serial_signed", columnList = "cert_serial,signed_at,id"),
+                @Index(name = "idx_signature_signed_at_id", columnList = "signed_at,id")
         }
 )
+@ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SignatureLog {
 
+    /** pooled 시퀀스 - IDENTITY 와 달리 JDBC 배치 insert 가 가능 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "signature_log_seq")
+    @SequenceGenerator(name = "signature_log_seq", sequenceName = "signature_log_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "document_id", nullable = false)
@@ -45,6 +52,11 @@ public class SignatureLog {
     @Column(name = "signed_at", nullable = false, updatable = false)
     private LocalDateTime signedAt;
 
+    /** 서명 시 B-B/B-T, LTV 보강이 끝나면 B-LT/B-LTA 로 갱신 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "signature_level", length = 10)
+    private SignatureLevel signatureLevel;
+
     @Column(name = "ip_address", length = 45)
     private String ipAddress;
 
@@ -54,15 +66,24 @@ public class SignatureLog {
     @Builder
     public SignatureLog(Long documentId, Long fieldId, String signer,
                         String certSubject, String certIssuer, String certSerial,
-                        String ipAddress, String userAgent) {
+                        SignatureLevel signatureLevel, String ipAddress, String userAgent) {
         this.documentId = documentId;
         this.fieldId = fieldId;
         this.signer = signer;
         this.certSubject = certSubject;
         this.certIssuer = certIssuer;
         this.certSerial = certSerial;
+        this.signatureLevel = signatureLevel;
         this.ipAddress = ipAddress;
         this.userAgent = userAgent;
         this.signedAt = LocalDateTime.now();
     }
+
+    /** 실패한 저장 시도가 할당한 id 없이 같은 내용으로 다시 저장할 사본 */
+    public SignatureLog copyWithoutId() {
+        SignatureLog copy = new SignatureLog(documentId, fieldId, signer, certSubject, certIssuer, certSerial,
+                signatureLevel, ipAddress, userAgent);
+        copy.signedAt = signedAt;
+        return copy;
+    }
 }
\ No newline at end of file
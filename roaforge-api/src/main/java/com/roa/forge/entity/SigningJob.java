@@ -0,0 +1,99 @@
+package com.roa.forge.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 대량 서명 작업 - 항목 상태는 SigningJobItem, 집계는 완료 시점에 기록 */
+@Entity
+@Getter
+@ToString
+@Table(
+        name = "signing_job",
+        indexes = {
+                @Index(name = "idx_signing_job_status", columnList = "status")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SigningJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "signing_job_seq")
+    @SequenceGenerator(name = "signing_job_seq", sequenceName = "signing_job_seq", allocationSize = 1)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private JobStatus status;
+
+    /** 서명자 (SignatureLog.signer 로 기록) */
+    @Column(name = "signer", nullable = false, length = 100)
+    private String signer;
+
+    @Column(name = "ip_address", length = 45)
+    private String ipAddress;
+
+    @Column(name = "user_agent", length = 500)
+    private String userAgent;
+
+    /** 이 작업이 동시에 처리할 최대 항목 수 */
+    @Column(name = "concurrency", nullable = false)
+    private int concurrency;
+
+    @Column(name = "total", nullable = false)
+    private int total;
+
+    @Column(name = "succeeded", nullable = false)
+    private int succeeded;
+
+    @Column(name = "failed", nullable = false)
+    private int failed;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public SigningJob(String signer, String ipAddress, String userAgent, int concurrency, int total) {
+        this.status = JobStatus.QUEUED;
+        this.signer = signer;
+        this.ipAddress = ipAddress;
+        this.userAgent = userAgent;
+        this.concurrency = concurrency;
+        this.total = total;
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.COMPLETED_WITH_ERRORS
+                || status == JobStatus.CANCELLED;
+    }
+
+    public void start() {
+        this.status = JobStatus.RUNNING;
+        if (this.startedAt == null) this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+    }
+
+    public void finish(int succeeded, int failed) {
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.status = failed == 0 ? JobStatus.COMPLETED : JobStatus.COMPLETED_WITH_ERRORS;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void cancel(int succeeded, int failed) {
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.status = JobStatus.CANCELLED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /** 실패 항목 재시도 - 다시 대기열로 */
+    public void requeue() {
+        this.status = JobStatus.QUEUED;
+        this.finishedAt = null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.roa.forge.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/** 대량 서명 작업의 문서 1건 - 상태 전이는 저장소의 단건 update 로만 (엔티티를 읽지 않음) */
+@Entity
+@Getter
+@ToString
+@Table(
+        name = "signing_job_item",
+        indexes = {
+                // 대기 항목을 id 순 키셋으로 꺼낸다
+                @Index(name = "idx_job_item_job_status_id", columnList = "job_id,status,id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SigningJobItem {
+
+    /** pooled 시퀀스 - 수만 건 항목을 배치 insert */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "signing_job_item_seq")
+    @SequenceGenerator(name = "signing_job_item_seq", sequenceName = "signing_job_item_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobItemStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public SigningJobItem(Long jobId, Long documentId) {
+        this.jobId = jobId;
+        this.documentId = documentId;
+        this.status = JobItemStatus.PENDING;
+    }
+}
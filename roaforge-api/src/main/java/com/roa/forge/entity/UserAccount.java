@@ -1,15 +1,20 @@
 package com.roa.forge.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "userAccount")
 @Getter
 @ToString(exclude = {"roles", "password", "providerId"})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -18,6 +23,11 @@ import java.util.Set;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uni_user_username", columnNames = "username"),
                 @UniqueConstraint(name = "uni_user_email", columnNames = "email")
+        },
+        indexes = {
+                // 관리자 목록의 필터 + id 키셋 정렬
+                @Index(name = "idx_user_active_id", columnList = "active,id"),
+                @Index(name = "idx_user_provider_id", columnList = "provider,id")
         }
 )
 public class UserAccount extends BaseTimeEntity {
@@ -34,6 +44,7 @@ public class UserAccount extends BaseTimeEntity {
     @NotBlank
     @Size(min = 8, max = 200)
     @Column(nullable = false, length = 200)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
     @Email
@@ -46,6 +57,7 @@ public class UserAccount extends BaseTimeEntity {
     private Boolean active = true;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "userAccount.roles")
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -1,6 +1,7 @@
 package com.roa.forge.filter;
 
 import com.roa.forge.provider.JwtTokenProvider;
+import com.roa.forge.provider.VerifiedToken;
 import com.roa.forge.service.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -30,25 +31,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String header = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
-
-        if (header != null && header.startsWith("Bearer ")) {
-            token = header.substring(7);
-            if (jwtTokenProvider.validateToken(token)) {
-                username = jwtTokenProvider.getUsername(token);
-            }
-        }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-            UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-            auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        if (header != null && header.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            jwtTokenProvider.verify(header.substring(7))
+                    .ifPresent(token -> authenticate(token, request));
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private void authenticate(VerifiedToken token, HttpServletRequest request) {
+        UserDetails userDetails = customUserDetailsService.loadUserByToken(token);
+
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+        auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+}
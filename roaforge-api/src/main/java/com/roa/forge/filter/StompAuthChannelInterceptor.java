@@ -0,0 +1,57 @@
+package com.roa.forge.filter;
+
+import com.roa.forge.provider.JwtTokenProvider;
+import com.roa.forge.service.CustomUserDetailsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더로 인증한다.
+ * 핸드셰이크(/ws)는 브라우저가 헤더를 실을 수 없어 열어 두고, 인증은 연결 단위로 한 번만 한다.
+ * CONNECT 에서 인증되지 않은 세션의 SUBSCRIBE/SEND 등은 모두 거부한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CustomUserDetailsService customUserDetailsService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        // 하트비트는 command 가 없다
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        StompCommand command = accessor.getCommand();
+        if (command != StompCommand.CONNECT && command != StompCommand.STOMP) {
+            // CONNECT 에서 설정한 사용자는 같은 세션의 이후 프레임에 실려 온다
+            if (command != StompCommand.DISCONNECT && accessor.getUser() == null) {
+                throw new AccessDeniedException("인증되지 않은 STOMP 세션입니다.");
+            }
+            return message;
+        }
+
+        String header = accessor.getFirstNativeHeader("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            throw new BadCredentialsException("Authorization 헤더가 필요합니다.");
+        }
+        UserDetails userDetails = jwtTokenProvider.verify(header.substring(7))
+                .map(customUserDetailsService::loadUserByToken)
+                .orElseThrow(() -> new BadCredentialsException("유효하지 않은 토큰입니다."));
+
+        accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        return message;
+    }
+}
@@ -1,21 +1,39 @@
 package com.roa.forge.provider;
 
+import com.roa.forge.config.JwtProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private static final String SECRET_KEY = "your-very-secure-secret-key-should-be-long";
     private static final long ACCESS_EXPIRATION_MS = 1000 * 60 * 60;        // 1시간
     private static final long REFRESH_EXPIRATION_MS = 1000L * 60 * 60 * 24 * 14; // 2주
 
+    /** 권한 목록 클레임 (ROLE_xxx 문자열 배열) */
+    public static final String AUTHORITIES_CLAIM = "auth";
+
     private final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
 
+    /** 파서는 불변/스레드 안전하므로 하나만 만들어 재사용 */
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    /** 최근 검증한 토큰 → 클레임 (HMAC 재검증/JSON 재파싱 생략) */
+    private final ConcurrentHashMap<String, VerifiedToken> verifiedCache = new ConcurrentHashMap<>();
+
+    private final JwtProperties jwtProperties;
+
     public String createAccessToken(String username) {
         return Jwts.builder()
                 .setSubject(username)
@@ -25,6 +43,17 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /** 권한을 클레임으로 담은 액세스 토큰 - 필터가 DB 조회 없이 인증 객체를 만든다 */
+    public String createAccessToken(String username, Collection<String> authorities) {
+        return Jwts.builder()
+                .setSubject(username)
+                .claim(AUTHORITIES_CLAIM, List.copyOf(authorities))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_EXPIRATION_MS))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
     public String createRefreshToken(String username) {
         return Jwts.builder()
                 .setSubject(username)
@@ -34,19 +63,43 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getUsername(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
+    /** 서명 검증과 클레임 추출을 한 번의 파싱으로 처리 (유효하지 않으면 empty) */
+    public Optional<VerifiedToken> verify(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedCache.get(token);
+        if (cached != null) {
+            if (cached.getCacheUntil() > now) return Optional.of(cached);
+            verifiedCache.remove(token, cached);
+        }
 
-    public boolean validateToken(String token) {
+        Claims claims;
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            claims = parser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+
+        long cacheUntil = now + jwtProperties.getVerifiedCacheTtl().toMillis();
+        if (claims.getExpiration() != null) cacheUntil = Math.min(cacheUntil, claims.getExpiration().getTime());
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), authoritiesOf(claims), cacheUntil);
+        remember(token, verified, now);
+        return Optional.of(verified);
+    }
+
+    private static List<String> authoritiesOf(Claims claims) {
+        Object value = claims.get(AUTHORITIES_CLAIM);
+        if (!(value instanceof Collection<?> list)) return null;
+        return list.stream().map(String::valueOf).toList();
+    }
+
+    /** 상한을 넘으면 만료된 항목부터 정리하고, 그래도 넘치면 비운다 */
+    private void remember(String token, VerifiedToken verified, long now) {
+        int max = jwtProperties.getVerifiedCacheSize();
+        if (max <= 0) return;
+        if (verifiedCache.size() >= max) {
+            verifiedCache.values().removeIf(v -> v.getCacheUntil() <= now);
+            if (verifiedCache.size() >= max) verifiedCache.clear();
         }
+        verifiedCache.put(token, verified);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.roa.forge.provider;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/** 서명 검증이 끝난 JWT 의 필요한 클레임만 담은 불변 객체 */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    private final String subject;
+
+    /** 권한 클레임이 없는(이전 방식) 토큰이면 null */
+    private final List<String> authorities;
+
+    /** 캐시 유효 시각 (epoch millis) */
+    private final long cacheUntil;
+}
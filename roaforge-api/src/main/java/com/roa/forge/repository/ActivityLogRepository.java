@@ -0,0 +1,23 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.entity.ActivityLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
+
+    /** 내보내기용 커서 스트림 - 트랜잭션 안에서 소비하고 닫아야 한다 */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from ActivityLog a where a.createdAt >= :from and a.createdAt < :to order by a.createdAt, a.id")
+    Stream<ActivityLog> streamByCreatedAt(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
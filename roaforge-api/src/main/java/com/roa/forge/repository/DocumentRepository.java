@@ -0,0 +1,153 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.entity.Document;
+import com.roa.forge.entity.LtvStatus;
+import com.roa.forge.entity.SignatureLevel;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DocumentRepository extends JpaRepository<Document, Long> {
+
+    @Query("select d.templateId from Document d where d.id = :id")
+    Optional<Long> findTemplateIdById(@Param("id") Long id);
+
+    /** 조회와 동시에 커밋 시 version 강제 증가 (필드만 바뀌어도 문서 버전이 올라가게) */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select d from Document d where d.id = :id")
+    Optional<Document> findForLayoutUpdateById(@Param("id") Long id);
+
+    /** 같은 내용으로 먼저 저장된 문서 (업로드 중복 제거) */
+    Optional<Document> findFirstByContentHashAndPageCountIsNotNullOrderByIdAsc(String contentHash);
+
+    /** 해시를 계산할 때 읽은 버전 그대로일 때만 기록 (그 사이 파일이 바뀌었으면 0) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.contentHash = :hash
+            where d.id = :id and d.version = :version and d.contentHash is null
+            """)
+    int updateContentHash(@Param("id") Long id, @Param("version") Long version, @Param("hash") String hash);
+
+    /** markSigned 가 버전을 올리므로, 다시 서명된 문서에는 이전 서명본의 해시가 기록되지 않는다 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.signedContentHash = :hash
+            where d.id = :id and d.version = :version and d.signedContentHash is null
+            """)
+    int updateSignedContentHash(@Param("id") Long id, @Param("version") Long version, @Param("hash") String hash);
+
+    /**
+     * 같은 원본(해시)을 쓰는 문서 전체에 최적화 결과 기록 (중복 업로드/템플릿 인스턴스 포함).
+     * 벌크 update 라 @Version 이 오르지 않아 에디터 저장과 충돌하지 않는다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.optimizedPath = :path, d.optimizedContentHash = :optimizedHash,
+                d.optimizedSize = :size, d.optimizedAt = :at
+            where d.contentHash = :hash and d.optimizedAt is null
+            """)
+    int recordOptimization(@Param("hash") String contentHash, @Param("path") String optimizedPath,
+                           @Param("optimizedHash") String optimizedContentHash, @Param("size") long optimizedSize,
+                           @Param("at") LocalDateTime at);
+
+    /** 같은 원본으로 이미 최적화된 문서 (중복 업로드에 결과만 복사) */
+    Optional<Document> findFirstByContentHashAndOptimizedAtIsNotNull(String contentHash);
+
+    // ---- LTV 파이프라인 상태 전이 ----
+    // 벌크 update 로만 바꾼다: 엔티티 수정은 @Version 을 올려 에디터 저장이 충돌하기 때문
+
+    @Query("""
+            select d.id from Document d
+            where d.ltvStatus = com.roa.forge.entity.LtvStatus.PENDING and d.ltvNextAttemptAt <= :now
+            order by d.ltvNextAttemptAt, d.id
+            """)
+    List<Long> findLtvDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** PENDING → PROCESSING 선점 (여러 인스턴스가 폴링해도 한 곳만 성공) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.ltvStatus = com.roa.forge.entity.LtvStatus.PROCESSING
+            where d.id = :id and d.ltvStatus = com.roa.forge.entity.LtvStatus.PENDING
+            """)
+    int claimLtv(@Param("id") Long id);
+
+    /**
+     * 다시 서명되지 않았을 때만 (signedAt 이 그대로일 때만) 완료 처리.
+     * 파일 내용과 signedContentHash 가 바뀌므로 이 전이만은 version 을 올린다 -
+     * 보강 전에 읽은 엔티티를 저장하면 옛 해시를 되살리지 않고 충돌로 끝난다
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.ltvStatus = com.roa.forge.entity.LtvStatus.DONE,
+                d.signatureLevel = :level, d.archiveExpiresAt = :archiveExpiresAt,
+                d.signedContentHash = null, d.ltvError = null, d.version = d.version + 1
+            where d.id = :id and d.ltvStatus = com.roa.forge.entity.LtvStatus.PROCESSING and d.signedAt = :signedAt
+            """)
+    int completeLtv(@Param("id") Long id, @Param("signedAt") LocalDateTime signedAt,
+                    @Param("level") SignatureLevel level, @Param("archiveExpiresAt") LocalDateTime archiveExpiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.ltvStatus = :status, d.ltvAttempts = d.ltvAttempts + 1,
+                d.ltvNextAttemptAt = :nextAttemptAt, d.ltvError = :error
+            where d.id = :id and d.ltvStatus = com.roa.forge.entity.LtvStatus.PROCESSING
+            """)
+    int failLtv(@Param("id") Long id, @Param("status") LtvStatus status,
+                @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    /** 파일 잠금을 얻지 못했을 때처럼 시도 횟수를 쓰지 않고 되돌린다 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.ltvStatus = com.roa.forge.entity.LtvStatus.PENDING, d.ltvNextAttemptAt = :nextAttemptAt
+            where d.id = :id and d.ltvStatus = com.roa.forge.entity.LtvStatus.PROCESSING
+            """)
+    int releaseLtv(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /** 문서 타임스탬프 만료가 다가온 B-LTA 문서를 재타임스탬프 대기열로 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.ltvStatus = com.roa.forge.entity.LtvStatus.PENDING, d.ltvAttempts = 0,
+                d.ltvNextAttemptAt = :now
+            where d.ltvStatus = com.roa.forge.entity.LtvStatus.DONE
+              and d.signatureLevel = com.roa.forge.entity.SignatureLevel.B_LTA
+              and d.archiveExpiresAt <= :threshold
+            """)
+    int requeueArchiveRenewals(@Param("now") LocalDateTime now, @Param("threshold") LocalDateTime threshold);
+
+    /** 수동 재시도 (FAILED/DONE → PENDING) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.ltvStatus = com.roa.forge.entity.LtvStatus.PENDING, d.ltvAttempts = 0,
+                d.ltvNextAttemptAt = :now, d.ltvError = null
+            where d.id = :id and d.signedPath is not null
+              and d.ltvStatus in (com.roa.forge.entity.LtvStatus.FAILED, com.roa.forge.entity.LtvStatus.DONE)
+            """)
+    int requeueLtv(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** 재기동 시 처리 중 상태로 남은 문서 복구 */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Document d set d.ltvStatus = com.roa.forge.entity.LtvStatus.PENDING, d.ltvNextAttemptAt = :now
+            where d.ltvStatus = com.roa.forge.entity.LtvStatus.PROCESSING
+            """)
+    int resetInterruptedLtv(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,14 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.entity.FieldOverride;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FieldOverrideRepository extends JpaRepository<FieldOverride, Long> {
+
+    List<FieldOverride> findAllByDocumentId(Long documentId);
+
+    List<FieldOverride> findAllByDocumentIdAndTemplateFieldIdIn(Long documentId, Collection<Long> templateFieldIds);
+}
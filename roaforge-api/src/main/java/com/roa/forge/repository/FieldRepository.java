@@ -0,0 +1,29 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.dto.FieldBox;
+import com.roa.forge.entity.Field;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FieldRepository extends JpaRepository<Field, Long> {
+
+    @Query("select f from Field f where f.document.id = :documentId and f.id in :ids")
+    List<Field> findAllByDocumentIdAndIdIn(@Param("documentId") Long documentId, @Param("ids") Collection<Long> ids);
+
+    @Query("select f from Field f where f.document.id = :documentId order by f.page, f.id")
+    List<Field> findAllByDocumentId(@Param("documentId") Long documentId);
+
+    @Modifying
+    @Query("delete from Field f where f.document.id = :documentId and f.id in :ids")
+    int deleteAllByDocumentIdAndIdIn(@Param("documentId") Long documentId, @Param("ids") Collection<Long> ids);
+
+    /** idx_field_document_page 로 한 페이지만 읽는 공간 인덱스 적재용 프로젝션 */
+    @Query("select new com.roa.forge.dto.FieldBox(f.id, f.page, f.x, f.y, f.w, f.h, f.type) " +
+            "from Field f where f.document.id = :documentId and f.page = :page")
+    List<FieldBox> findBoxesByDocumentIdAndPage(@Param("documentId") Long documentId, @Param("page") Integer page);
+}
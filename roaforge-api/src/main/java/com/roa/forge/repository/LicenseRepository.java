@@ -0,0 +1,20 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.entity.License;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LicenseRepository extends JpaRepository<License, Long> {
+
+    /** date 에 유효한 라이선스 (가장 최근에 시작한 것부터) */
+    @Query("""
+            select l from License l
+            where l.startDate <= :date and (l.endDate is null or l.endDate >= :date)
+            order by l.startDate desc, l.id desc
+            """)
+    List<License> findActiveOn(@Param("date") LocalDate date);
+}
@@ -0,0 +1,49 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.entity.SignatureLevel;
+import com.roa.forge.entity.SignatureLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+public interface SignatureLogRepository extends JpaRepository<SignatureLog, Long>, SignatureLogRepositoryCustom {
+
+    /** 내보내기용 커서 스트림 - 트랜잭션 안에서 소비하고 닫아야 한다 */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s from SignatureLog s where s.signedAt >= :from and s.signedAt < :to order by s.signedAt, s.id")
+    Stream<SignatureLog> streamBySignedAt(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /** 문서의 마지막 서명(signedAt 이후 기록) 로그에 LTV 보강 결과 수준 반영 */
+    @Transactional
+    @Modifying
+    @Query("update SignatureLog s set s.signatureLevel = :level where s.documentId = :documentId and s.signedAt >= :since")
+    int updateSignatureLevel(@Param("documentId") Long documentId, @Param("since") LocalDateTime since,
+                             @Param("level") SignatureLevel level);
+
+    /**
+     * 방금 insert 한 로그에 문서의 현재 서명 수준 반영 - 기록이 LTV 보강 완료보다 늦게 들어와도 수준이 맞는다.
+     * 그 뒤 다시 서명된 문서(문서 signedAt 이 로그보다 늦음)는 건드리지 않는다
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update SignatureLog s set s.signatureLevel =
+                (select d.signatureLevel from Document d where d.id = s.documentId)
+            where s.id in :ids and exists (
+                select 1 from Document d
+                where d.id = s.documentId and d.signedAt <= s.signedAt and d.signatureLevel is not null)
+            """)
+    int applyDocumentLevel(@Param("ids") Collection<Long> ids);
+}
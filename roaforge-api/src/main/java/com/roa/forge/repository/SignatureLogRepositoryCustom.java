@@ -0,0 +1,15 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.dto.SignatureLogSearch;
+import com.roa.forge.dto.SignatureLogView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SignatureLogRepositoryCustom {
+
+    /**
+     * (signed_at DESC, id DESC) 키셋 조회. afterSignedAt/afterId 가 null 이면 첫 페이지.
+     */
+    List<SignatureLogView> searchPage(SignatureLogSearch search, LocalDateTime afterSignedAt, Long afterId, int limit);
+}
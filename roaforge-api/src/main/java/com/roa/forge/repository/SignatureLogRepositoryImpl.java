@@ -0,0 +1,65 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.dto.SignatureLogSearch;
+import com.roa.forge.dto.SignatureLogView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class SignatureLogRepositoryImpl implements SignatureLogRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SignatureLogView> searchPage(SignatureLogSearch search, LocalDateTime afterSignedAt, Long afterId, int limit) {
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+
+        if (search.getDocumentId() != null) {
+            where.add("s.documentId = :documentId");
+            params.put("documentId", search.getDocumentId());
+        }
+        if (search.getSigner() != null) {
+            where.add("s.signer = :signer");
+            params.put("signer", search.getSigner());
+        }
+        if (search.getCertSerial() != null) {
+            where.add("s.certSerial = :certSerial");
+            params.put("certSerial", search.getCertSerial());
+        }
+        if (search.getFrom() != null) {
+            where.add("s.signedAt >= :from");
+            params.put("from", search.getFrom());
+        }
+        if (search.getTo() != null) {
+            where.add("s.signedAt < :to");
+            params.put("to", search.getTo());
+        }
+        if (afterSignedAt != null && afterId != null) {
+            // 마지막으로 본 (signedAt, id) 보다 뒤 - 인덱스 seek 으로 깊이와 무관하게 일정한 비용
+            where.add("(s.signedAt < :afterSignedAt or (s.signedAt = :afterSignedAt and s.id < :afterId))");
+            params.put("afterSignedAt", afterSignedAt);
+            params.put("afterId", afterId);
+        }
+
+        StringBuilder jpql = new StringBuilder("""
+                select new com.roa.forge.dto.SignatureLogView(
+                    s.id, s.documentId, s.fieldId, s.signer, s.certSubject, s.certIssuer,
+                    s.certSerial, s.signatureLevel, s.signedAt, s.ipAddress)
+                from SignatureLog s
+                """);
+        if (!where.isEmpty()) jpql.append(" where ").append(String.join(" and ", where));
+        jpql.append(" order by s.signedAt desc, s.id desc");
+
+        TypedQuery<SignatureLogView> query = entityManager.createQuery(jpql.toString(), SignatureLogView.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.entity.SigningJobItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** 항목 상태 전이는 모두 단건/조건부 update - 워커 스레드가 엔티티를 읽거나 잠그지 않는다 */
+public interface SigningJobItemRepository extends JpaRepository<SigningJobItem, Long> {
+
+    /** 대기 항목 키셋 조회 (idx_job_item_job_status_id) */
+    @Query("select i from SigningJobItem i where i.jobId = :jobId " +
+            "and i.status = com.roa.forge.entity.JobItemStatus.PENDING and i.id > :afterId order by i.id")
+    List<SigningJobItem> findPending(@Param("jobId") Long jobId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update SigningJobItem i set i.status = com.roa.forge.entity.JobItemStatus.RUNNING " +
+            "where i.id = :id and i.status = com.roa.forge.entity.JobItemStatus.PENDING")
+    int markRunning(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update SigningJobItem i set i.status = com.roa.forge.entity.JobItemStatus.SUCCEEDED, " +
+            "i.attempts = i.attempts + :attempts, i.lastError = null, i.finishedAt = :now where i.id = :id")
+    int markSucceeded(@Param("id") Long id, @Param("attempts") int attempts, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update SigningJobItem i set i.status = com.roa.forge.entity.JobItemStatus.FAILED, " +
+            "i.attempts = i.attempts + :attempts, i.lastError = :error, i.finishedAt = :now where i.id = :id")
+    int markFailed(@Param("id") Long id, @Param("attempts") int attempts,
+                   @Param("error") String error, @Param("now") LocalDateTime now);
+
+    /** 실패 항목 재시도 */
+    @Transactional
+    @Modifying
+    @Query("update SigningJobItem i set i.status = com.roa.forge.entity.JobItemStatus.PENDING, i.finishedAt = null " +
+            "where i.jobId = :jobId and i.status = com.roa.forge.entity.JobItemStatus.FAILED")
+    int requeueFailed(@Param("jobId") Long jobId);
+
+    /** 비정상 종료로 RUNNING 에 멈춘 항목을 되돌린다 (기동 시) */
+    @Transactional
+    @Modifying
+    @Query("update SigningJobItem i set i.status = com.roa.forge.entity.JobItemStatus.PENDING " +
+            "where i.status = com.roa.forge.entity.JobItemStatus.RUNNING")
+    int resetInterrupted();
+
+    /** [status, count] */
+    @Query("select i.status, count(i) from SigningJobItem i where i.jobId = :jobId group by i.status")
+    List<Object[]> countByStatus(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,13 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.entity.JobStatus;
+import com.roa.forge.entity.SigningJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SigningJobRepository extends JpaRepository<SigningJob, Long> {
+
+    List<SigningJob> findAllByStatusInOrderByIdAsc(Collection<JobStatus> statuses);
+}
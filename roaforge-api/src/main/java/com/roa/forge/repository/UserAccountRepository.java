@@ -1,14 +1,19 @@
 package com.roa.forge.repository;
 
 import com.roa.forge.entity.UserAccount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
-public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
+public interface UserAccountRepository extends JpaRepository<UserAccount, Long>, UserAccountRepositoryCustom {
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
     Optional<UserAccount> findByEmail(String email);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<UserAccount> findByUsername(String username);
     Optional<UserAccount> findByProviderAndProviderId(String provider, String providerId);
+    long countByActiveTrue();
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.dto.UserSearch;
+import com.roa.forge.dto.UserSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface UserAccountRepositoryCustom {
+
+    /** id 오름차순 키셋 조회 (afterId 가 null 이면 첫 페이지) */
+    List<UserSummary> searchPage(UserSearch search, Long afterId, int limit);
+
+    /** 한 페이지 사용자들의 역할 이름을 한 번의 쿼리로 조회 */
+    Map<Long, List<String>> findRoleNamesByUserIds(Collection<Long> userIds);
+}
@@ -0,0 +1,69 @@
+package com.roa.forge.repository;
+
+import com.roa.forge.dto.UserSearch;
+import com.roa.forge.dto.UserSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.*;
+
+class UserAccountRepositoryImpl implements UserAccountRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserSummary> searchPage(UserSearch search, Long afterId, int limit) {
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+
+        if (search.getActive() != null) {
+            where.add("u.active = :active");
+            params.put("active", search.getActive());
+        }
+        if (search.getProvider() != null) {
+            where.add("u.provider = :provider");
+            params.put("provider", search.getProvider());
+        }
+        if (search.getEmailPrefix() != null && !search.getEmailPrefix().isBlank()) {
+            // 접두 일치만 허용해서 uni_user_email 인덱스 범위 스캔이 가능하게 한다
+            where.add("u.email like :emailPrefix escape '!'");
+            params.put("emailPrefix", escapeLike(search.getEmailPrefix()) + "%");
+        }
+        if (afterId != null) {
+            where.add("u.id > :afterId");
+            params.put("afterId", afterId);
+        }
+
+        StringBuilder jpql = new StringBuilder("""
+                select new com.roa.forge.dto.UserSummary(
+                    u.id, u.username, u.email, u.active, u.provider, u.createdAt)
+                from UserAccount u
+                """);
+        if (!where.isEmpty()) jpql.append(" where ").append(String.join(" and ", where));
+        jpql.append(" order by u.id");
+
+        TypedQuery<UserSummary> query = entityManager.createQuery(jpql.toString(), UserSummary.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Map<Long, List<String>> findRoleNamesByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        List<Object[]> rows = entityManager.createQuery(
+                        "select u.id, r.name from UserAccount u join u.roles r where u.id in :ids", Object[].class)
+                .setParameter("ids", userIds)
+                .getResultList();
+        Map<Long, List<String>> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        return result;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,176 @@
+package com.roa.forge.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.roa.forge.dto.AuditExportFormat;
+import com.roa.forge.dto.AuditExportTarget;
+import com.roa.forge.entity.ActivityLog;
+import com.roa.forge.entity.SignatureLog;
+import com.roa.forge.repository.ActivityLogRepository;
+import com.roa.forge.repository.SignatureLogRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 감사 로그 전체 내보내기.
+ * DB 커서(fetch size 1000)로 한 행씩 읽어 바로 쓰고 엔티티를 detach 하므로, 건수와 무관하게 힙 사용량이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditExportService {
+
+    /** 이 건수마다 flush 해서 클라이언트가 진행 중임을 알 수 있게 한다 */
+    private static final int FLUSH_EVERY = 1000;
+    /** 스프레드시트가 수식으로 해석하는 첫 글자 */
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final String[] SIGNATURE_COLUMNS = {
+            "id", "documentId", "fieldId", "signer", "certSubject", "certIssuer", "certSerial",
+            "signatureLevel", "signedAt", "ipAddress", "userAgent"};
+    private static final String[] ACTIVITY_COLUMNS = {"id", "username", "action", "detail", "createdAt"};
+
+    private final SignatureLogRepository signatureLogRepository;
+    private final ActivityLogRepository activityLogRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void export(AuditExportTarget target, AuditExportFormat format,
+                       LocalDateTime from, LocalDateTime to, OutputStream out) {
+        validateRange(from, to);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        tx.executeWithoutResult(status -> {
+            if (target == AuditExportTarget.SIGNATURE) {
+                try (Stream<SignatureLog> rows = signatureLogRepository.streamBySignedAt(from, to)) {
+                    write(rows, format, SIGNATURE_COLUMNS, AuditExportService::signatureRow, out);
+                }
+            } else {
+                try (Stream<ActivityLog> rows = activityLogRepository.streamByCreatedAt(from, to)) {
+                    write(rows, format, ACTIVITY_COLUMNS, AuditExportService::activityRow, out);
+                }
+            }
+        });
+    }
+
+    /** 응답 헤더를 보내기 전에 컨트롤러에서 먼저 검증할 수 있도록 분리 */
+    public void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("내보내기 기간(from < to)이 올바르지 않습니다.");
+        }
+    }
+
+    private <T> void write(Stream<T> rows, AuditExportFormat format, String[] columns,
+                           Function<T, Map<String, Object>> mapper, OutputStream out) {
+        try {
+            if (format == AuditExportFormat.CSV) {
+                writeCsv(rows.iterator(), columns, mapper, out);
+            } else {
+                writeNdjson(rows.iterator(), mapper, out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 내보내기 실패", e);
+        }
+    }
+
+    private <T> void writeNdjson(Iterator<T> rows, Function<T, Map<String, Object>> mapper, OutputStream out)
+            throws IOException {
+        JsonGenerator gen = objectMapper.getFactory().createGenerator(out);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        gen.setRootValueSeparator(new SerializedString("\n"));
+        gen.flush();
+        // ObjectMapper.writeValue(gen, ..) 는 기본 설정에서 행마다 flush 한다 - FLUSH_EVERY 단위로만 내보낸다
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            writer.writeValue(gen, mapper.apply(row));
+            entityManager.detach(row);
+            if (++count % FLUSH_EVERY == 0) gen.flush();
+        }
+        if (count > 0) gen.writeRaw('\n');
+        gen.flush();
+    }
+
+    private <T> void writeCsv(Iterator<T> rows, String[] columns, Function<T, Map<String, Object>> mapper,
+                              OutputStream out) throws IOException {
+        Writer w = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        w.write(String.join(",", columns));
+        w.write("\r\n");
+        w.flush();
+        long count = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            Map<String, Object> values = mapper.apply(row);
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) w.write(',');
+                w.write(csv(values.get(columns[i])));
+            }
+            w.write("\r\n");
+            entityManager.detach(row);
+            if (++count % FLUSH_EVERY == 0) w.flush();
+        }
+        w.flush();
+    }
+
+    private static String csv(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        // 사용자 입력 문자열이 스프레드시트에서 수식으로 실행되지 않도록 (CSV 수식 주입)
+        if (value instanceof CharSequence && !s.isEmpty() && FORMULA_PREFIXES.indexOf(s.charAt(0)) >= 0) {
+            s = "'" + s;
+        }
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) return s;
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+
+    private static Map<String, Object> signatureRow(SignatureLog s) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", s.getId());
+        m.put("documentId", s.getDocumentId());
+        m.put("fieldId", s.getFieldId());
+        m.put("signer", s.getSigner());
+        m.put("certSubject", s.getCertSubject());
+        m.put("certIssuer", s.getCertIssuer());
+        m.put("certSerial", s.getCertSerial());
+        m.put("signatureLevel", s.getSignatureLevel());
+        m.put("signedAt", s.getSignedAt());
+        m.put("ipAddress", s.getIpAddress());
+        m.put("userAgent", s.getUserAgent());
+        return m;
+    }
+
+    private static Map<String, Object> activityRow(ActivityLog a) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", a.getId());
+        m.put("username", a.getUsername());
+        m.put("action", a.getAction());
+        m.put("detail", a.getDetail());
+        m.put("createdAt", a.getCreatedAt());
+        return m;
+    }
+}
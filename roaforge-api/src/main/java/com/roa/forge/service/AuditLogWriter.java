@@ -0,0 +1,227 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.AuditProperties;
+import com.roa.forge.entity.ActivityLog;
+import com.roa.forge.entity.SignatureLog;
+import com.roa.forge.repository.SignatureLogRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ActivityLog / SignatureLog 비동기 배치 기록기.
+ *
+ * <p>요청 스레드는 큐에 넣고 바로 돌아가고, 전용 스레드가 maxBatchSize 또는 maxLatency 중 먼저 도달하는
+ * 시점에 한 트랜잭션으로 JDBC 배치 insert 한다. 큐가 가득 차면 submit 이 블록된다(backpressure).
+ * 배치가 실제 다중 행 INSERT 로 바뀌는지는 드라이버 몫이다 - MySQL/MariaDB 운영 DB 는 URL 에
+ * rewriteBatchedStatements=true 를 붙인다 (기본 H2 는 배치를 문장별로 실행한다).
+ *
+ * <p>내구성: 정상 종료 시 웹 서버가 요청을 멈춘 뒤 큐를 모두 비우고 종료한다. 프로세스 비정상 종료 시
+ * 아직 기록되지 않은 항목(최대 queueCapacity + maxBatchSize 건)은 유실될 수 있다.
+ * 기록 실패는 maxRetries 만큼 재시도하고, 그래도 실패하면 ERROR 로그를 남기고 버린다.
+ * SignatureLog 는 같은 트랜잭션에서 문서의 현재 서명 수준(LTV 보강 결과)을 반영한다.
+ */
+@Slf4j
+@Service
+public class AuditLogWriter implements SmartLifecycle {
+
+    /** 웹 서버(graceful shutdown 포함)보다 늦게 멈추도록 낮은 phase */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final AuditProperties auditProperties;
+    private final SignatureLogRepository signatureLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Object> queue;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(AuditProperties auditProperties, SignatureLogRepository signatureLogRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.auditProperties = auditProperties;
+        this.signatureLogRepository = signatureLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(auditProperties.getQueueCapacity());
+    }
+
+    public void submit(ActivityLog log) {
+        enqueue(log);
+    }
+
+    public void submit(SignatureLog log) {
+        enqueue(log);
+    }
+
+    public void submitAll(Collection<SignatureLog> logs) {
+        logs.forEach(this::enqueue);
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void enqueue(Object entry) {
+        if (!running) {
+            // 종료 이후 들어온 기록은 호출 스레드에서 바로 저장
+            writeWithRetry(List.of(entry));
+            return;
+        }
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeWithRetry(List.of(entry));
+            return;
+        }
+        // 넣는 사이 stop() 이 큐를 이미 비웠으면 아무도 꺼내 가지 않는다 -
+        // 큐에서 직접 빼낸 쪽(여기 또는 stop/기록 스레드)만 저장하므로 중복/유실 없이 한 번만 기록된다
+        if (!running && queue.remove(entry)) {
+            writeWithRetry(List.of(entry));
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-writer");
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) return;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            List<Object> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            writeWithRetry(rest);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainLoop() {
+        int maxBatch = Math.max(1, auditProperties.getMaxBatchSize());
+        long maxLatencyNanos = auditProperties.getMaxLatency().toNanos();
+        List<Object> batch = new ArrayList<>(maxBatch);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Object first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxLatencyNanos;
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0 || !running) break;
+                    Object next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeWithRetry(List<Object> batch) {
+        if (batch.isEmpty()) return;
+        List<Object> entries = batch;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                List<Object> toPersist = entries;
+                transactionTemplate.executeWithoutResult(status -> {
+                    toPersist.forEach(entityManager::persist);
+                    entityManager.flush();
+                    List<Long> signatureIds = toPersist.stream()
+                            .filter(SignatureLog.class::isInstance)
+                            .map(entry -> ((SignatureLog) entry).getId())
+                            .toList();
+                    if (!signatureIds.isEmpty()) signatureLogRepository.applyDocumentLevel(signatureIds);
+                    entityManager.clear();
+                });
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= auditProperties.getMaxRetries()) {
+                    // 항목 내용(IP, User-Agent 등)은 남기지 않고 건수와 id 만
+                    log.error("감사 로그 {}건 기록 실패 - 폐기합니다: {}", batch.size(), describe(entries), e);
+                    return;
+                }
+                log.warn("감사 로그 기록 실패, 재시도 {}/{}", attempt + 1, auditProperties.getMaxRetries(), e);
+                sleepQuietly(100L << attempt);
+                // 실패한 시도가 할당한 시퀀스 id 는 행이 없으므로 merge 하면 낙관적 락 예외 - id 없는 사본으로 다시 persist
+                entries = entries.stream().map(AuditLogWriter::copyWithoutId).toList();
+            }
+        }
+    }
+
+    private static Object copyWithoutId(Object entry) {
+        if (entry instanceof ActivityLog a) return a.copyWithoutId();
+        if (entry instanceof SignatureLog s) return s.copyWithoutId();
+        throw new IllegalArgumentException("감사 로그 항목이 아닙니다: " + entry.getClass().getName());
+    }
+
+    /** "ActivityLog 3건 [ids 101, 102], SignatureLog 2건 [ids 없음]" */
+    private static String describe(List<Object> batch) {
+        Map<String, List<Long>> ids = new TreeMap<>();
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Object entry : batch) {
+            String type = entry.getClass().getSimpleName();
+            counts.merge(type, 1, Integer::sum);
+            Long id = entry instanceof ActivityLog a ? a.getId()
+                    : entry instanceof SignatureLog s ? s.getId() : null;
+            List<Long> list = ids.computeIfAbsent(type, k -> new ArrayList<>());
+            if (id != null) list.add(id);
+        }
+        StringJoiner out = new StringJoiner(", ");
+        counts.forEach((type, count) -> {
+            List<Long> list = ids.get(type);
+            out.add(type + " " + count + "건 [ids " + (list.isEmpty() ? "없음" : list) + "]");
+        });
+        return out.toString();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
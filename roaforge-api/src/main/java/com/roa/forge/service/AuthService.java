@@ -2,6 +2,7 @@ package com.roa.forge.service;
 
 import com.roa.forge.dto.RegisterRequest;
 import com.roa.forge.dto.TokenResponse;
+import com.roa.forge.entity.ActivityLog;
 import com.roa.forge.entity.Role;
 import com.roa.forge.entity.UserAccount;
 import com.roa.forge.provider.JwtTokenProvider;
@@ -11,6 +12,8 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.UUID;
 
@@ -22,6 +25,8 @@ public class AuthService {
     private final RoleRepository roleRepo;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwt;
+    private final AuditLogWriter auditLogWriter;
+    private final QuotaService quotaService;
 
     private Role ensureUserRole() {
         return roleRepo.findByName("ROLE_USER")
@@ -33,6 +38,7 @@ public class AuthService {
     public TokenResponse registerLocal(RegisterRequest req) {
         if (userRepo.existsByEmail(req.getEmail())) throw new IllegalArgumentException("이미 가입된 이메일입니다.");
         if (userRepo.existsByUsername(req.getUsername())) throw new IllegalArgumentException("이미 사용 중인 사용자명입니다.");
+        quotaService.reserve(QuotaResource.USERS, 1);
 
         UserAccount user = UserAccount.builder()
                 .username(req.getUsername())
@@ -43,9 +49,16 @@ public class AuthService {
                 .build();
         user.addRole(ensureUserRole());
         userRepo.save(user);
+        submitAfterCommit(ActivityLog.builder()
+                .username(user.getUsername())
+                .action("REGISTER")
+                .detail("LOCAL")
+                .build());
 
         String subject = user.getEmail(); // JWT subject는 email로 통일
-        return new TokenResponse(jwt.createAccessToken(subject), jwt.createRefreshToken(subject));
+        return new TokenResponse(
+                jwt.createAccessToken(subject, CustomUserDetailsService.authoritiesOf(user)),
+                jwt.createRefreshToken(subject));
     }
 
     /** 구글 최초 로그인: 없으면 생성/연결 */
@@ -59,6 +72,7 @@ public class AuthService {
                             return existing;
                         })
                         .orElseGet(() -> { // 신규 유저 생성
+                            quotaService.reserve(QuotaResource.USERS, 1);
                             String username = deriveUniqueUsername(email, nameOrNull);
                             // 소셜용 패스워드(검증용 아님). @NotBlank/@Size 때문에 랜덤 비번 저장
                             String fakePwd = passwordEncoder.encode(UUID.randomUUID().toString());
@@ -85,7 +99,31 @@ public class AuthService {
         return candidate;
     }
 
+    /** refresh 토큰 subject(username 또는 email) 의 현재 권한으로 access 토큰 재발급 */
+    @Transactional
+    public String refreshAccessToken(String subject) {
+        UserAccount user = userRepo.findByUsername(subject)
+                .or(() -> userRepo.findByEmail(subject))
+                .filter(u -> Boolean.TRUE.equals(u.getActive()))
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+        return jwt.createAccessToken(subject, CustomUserDetailsService.authoritiesOf(user));
+    }
+
     public TokenResponse issueTokens(String subjectEmail) {
         return new TokenResponse(jwt.createAccessToken(subjectEmail), jwt.createRefreshToken(subjectEmail));
     }
+
+    /** 가입이 롤백되면 (중복 키 등) 없는 사용자의 기록이 남지 않도록 커밋 후에 넣는다 */
+    private void submitAfterCommit(ActivityLog entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            auditLogWriter.submit(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                auditLogWriter.submit(entry);
+            }
+        });
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.roa.forge.service;
+
+import com.roa.forge.dto.CacheRegionStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** Hibernate 2차 캐시 리전별 적중률 (hibernate.generate_statistics 필요) */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStats> regionStats() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheRegionStats> result = new ArrayList<>();
+        Arrays.stream(stats.getSecondLevelCacheRegionNames()).sorted().forEach(region -> {
+            CacheRegionStatistics r = stats.getCacheRegionStatistics(region);
+            if (r != null) {
+                result.add(of(region, r.getHitCount(), r.getMissCount(), r.getPutCount(), r.getElementCountInMemory()));
+            }
+        });
+        result.add(of("query-cache", stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount(),
+                stats.getQueryCachePutCount(), -1));
+        return result;
+    }
+
+    private static CacheRegionStats of(String region, long hits, long misses, long puts, long elements) {
+        long total = hits + misses;
+        return new CacheRegionStats(region, hits, misses, puts, total == 0 ? 0 : (double) hits / total, elements);
+    }
+}
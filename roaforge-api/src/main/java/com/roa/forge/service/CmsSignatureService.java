@@ -0,0 +1,101 @@
+package com.roa.forge.service;
+
+import com.roa.forge.entity.SignatureLevel;
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.DERSet;
+import org.bouncycastle.asn1.cms.Attribute;
+import org.bouncycastle.asn1.cms.AttributeTable;
+import org.bouncycastle.asn1.cms.CMSAttributes;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.cms.CMSAbsentContent;
+import org.bouncycastle.cms.CMSAttributeTableGenerator;
+import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.CMSSignedDataGenerator;
+import org.bouncycastle.cms.DefaultSignedAttributeTableGenerator;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.cms.SignerInformationStore;
+import org.bouncycastle.cms.jcajce.JcaSignerInfoGeneratorBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.tsp.TimeStampToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PAdES-B-B 용 detached CMS(SignedData) 생성.
+ * ByteRange 다이제스트는 호출 측에서 스트리밍으로 계산해서 넘기고, 여기서는 서명 속성만 서명한다.
+ * TSA 가 설정되어 있으면 서명값에 대한 타임스탬프를 비서명 속성으로 붙여 PAdES-B-T 로 만든다.
+ */
+@Service
+public class CmsSignatureService {
+
+    public static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /** null 이면 타임스탬프 없이 B-B */
+    private final TimestampClient timestampClient;
+
+    public CmsSignatureService() {
+        this(null);
+    }
+
+    @Autowired
+    public CmsSignatureService(TimestampClient timestampClient) {
+        this.timestampClient = timestampClient;
+    }
+
+    /** sign() 결과의 PAdES 수준 */
+    public SignatureLevel level() {
+        return timestampClient != null && timestampClient.isEnabled() ? SignatureLevel.B_T : SignatureLevel.B_B;
+    }
+
+    /**
+     * @param contentDigest ByteRange 구간의 SHA-256 다이제스트
+     * @return DER 인코딩된 CMS SignedData (/Contents 에 들어갈 값)
+     */
+    public byte[] sign(byte[] contentDigest, SignerCredential credential) {
+        try {
+            ASN1EncodableVector attrs = new ASN1EncodableVector();
+            // messageDigest 를 미리 넣어두면 DefaultSignedAttributeTableGenerator 가 덮어쓰지 않는다
+            attrs.add(new Attribute(CMSAttributes.messageDigest, new DERSet(new DEROctetString(contentDigest))));
+            attrs.add(credential.getSigningCertificateV2());
+
+            DefaultSignedAttributeTableGenerator base = new DefaultSignedAttributeTableGenerator(new AttributeTable(attrs));
+            // PAdES baseline: 서명 시각은 /M 으로만 표현하고 signing-time 속성은 넣지 않는다
+            CMSAttributeTableGenerator signedAttrs = params -> base.getAttributes(params).remove(CMSAttributes.signingTime);
+
+            // 인증서 변환/체인 저장소/다이제스트 계산기는 자격 증명에 미리 만들어 둔 것을 쓴다
+            ContentSigner contentSigner = credential.newContentSigner();
+
+            CMSSignedDataGenerator gen = new CMSSignedDataGenerator();
+            gen.addSignerInfoGenerator(new JcaSignerInfoGeneratorBuilder(credential.getDigestCalculatorProvider())
+                    .setSignedAttributeGenerator(signedAttrs)
+                    .build(contentSigner, credential.getCertificateHolder()));
+            gen.addCertificates(credential.getCertStore());
+
+            CMSSignedData signed = gen.generate(new CMSAbsentContent(), false);
+            if (timestampClient != null && timestampClient.isEnabled()) {
+                signed = addSignatureTimestamp(signed);
+            }
+            return signed.getEncoded("DER");
+        } catch (Exception e) {
+            throw new IllegalStateException("CMS 서명 생성 실패", e);
+        }
+    }
+
+    /** signature-time-stamp (id-aa-signatureTimeStampToken) 비서명 속성 추가 */
+    private CMSSignedData addSignatureTimestamp(CMSSignedData signed) throws Exception {
+        List<SignerInformation> signers = new ArrayList<>();
+        for (SignerInformation signer : signed.getSignerInfos().getSigners()) {
+            TimeStampToken token = timestampClient.timestamp(signer.getSignature());
+            ASN1EncodableVector unsigned = new ASN1EncodableVector();
+            unsigned.add(new Attribute(PKCSObjectIdentifiers.id_aa_signatureTimeStampToken,
+                    new DERSet(ASN1Primitive.fromByteArray(token.getEncoded()))));
+            signers.add(SignerInformation.replaceUnsignedAttributes(signer, new AttributeTable(unsigned)));
+        }
+        return CMSSignedData.replaceSigners(signed, new SignerInformationStore(signers));
+    }
+}
@@ -0,0 +1,301 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.CollabProperties;
+import com.roa.forge.dto.FieldDelta;
+import com.roa.forge.dto.FieldDeltaBatch;
+import com.roa.forge.dto.FieldLayoutDiff;
+import com.roa.forge.dto.FieldLayoutResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 문서별 실시간 협업 편집 세션.
+ * 들어온 델타는 메모리에서 필드 단위로 합쳐(마지막 값 우선) 짧은 주기로 한 번에 브로드캐스트하고,
+ * 더 긴 주기로 한 번의 diff 저장(FieldLayoutService.applySnapshot)으로 DB 에 반영한다.
+ * 마우스 이동마다 DB 쓰기/메시지 전송이 일어나지 않는다.
+ */
+@Slf4j
+@Service
+public class CollaborativeLayoutService {
+
+    private final FieldLayoutService fieldLayoutService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final CollabProperties collabProperties;
+    private final TaskScheduler collabScheduler;
+
+    private final ConcurrentHashMap<Long, DocumentSession> sessions = new ConcurrentHashMap<>();
+    private final List<ScheduledFuture<?>> tasks = new ArrayList<>();
+
+    public CollaborativeLayoutService(FieldLayoutService fieldLayoutService,
+                                      SimpMessagingTemplate messagingTemplate,
+                                      CollabProperties collabProperties,
+                                      @Qualifier("collabScheduler") TaskScheduler collabScheduler) {
+        this.fieldLayoutService = fieldLayoutService;
+        this.messagingTemplate = messagingTemplate;
+        this.collabProperties = collabProperties;
+        this.collabScheduler = collabScheduler;
+    }
+
+    @PostConstruct
+    void start() {
+        tasks.add(collabScheduler.scheduleWithFixedDelay(this::broadcast, collabProperties.getBroadcastInterval()));
+        tasks.add(collabScheduler.scheduleWithFixedDelay(this::flush, collabProperties.getFlushInterval()));
+    }
+
+    /** 종료 시 남은 변경분까지 저장 */
+    @PreDestroy
+    void stop() {
+        tasks.forEach(task -> task.cancel(false));
+        broadcast();
+        flush();
+    }
+
+    public static String topic(Long documentId) {
+        return "/topic/documents/" + documentId + "/fields";
+    }
+
+    public void accept(Long documentId, FieldDelta delta, String editor) {
+        validate(delta);
+        delta.setEditor(editor);
+        // 정리 중인 세션에 들어오면 새 세션으로 다시 시도
+        while (!sessions.computeIfAbsent(documentId, id -> new DocumentSession()).accept(delta)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    public int activeSessions() {
+        return sessions.size();
+    }
+
+    void broadcast() {
+        sessions.forEach((documentId, session) -> {
+            List<FieldDelta> deltas = session.drainOutbound();
+            if (deltas.isEmpty()) return;
+            try {
+                messagingTemplate.convertAndSend(topic(documentId), new FieldDeltaBatch(documentId, deltas));
+            } catch (Exception e) {
+                log.warn("필드 델타 브로드캐스트 실패: documentId={}", documentId, e);
+            }
+        });
+    }
+
+    void flush() {
+        long idleNanos = collabProperties.getSessionIdleTimeout().toNanos();
+        sessions.forEach((documentId, session) -> {
+            FieldLayoutDiff diff = session.drainPending();
+            if (diff == null) {
+                if (session.retireIfIdle(idleNanos)) sessions.remove(documentId, session);
+                return;
+            }
+            try {
+                FieldLayoutResult result = fieldLayoutService.applySnapshot(documentId, diff);
+                session.assigned(result.getCreatedIds());
+                messagingTemplate.convertAndSend(topic(documentId) + "/saved", result);
+            } catch (Exception e) {
+                // 반영하지 못한 변경은 버리고 클라이언트가 REST 로 다시 불러오게 한다
+                log.warn("협업 레이아웃 저장 실패: documentId={}, diff={}", documentId, diff, e);
+                messagingTemplate.convertAndSend(topic(documentId) + "/resync",
+                        Map.of("message", "레이아웃 저장에 실패했습니다. 다시 불러오세요."));
+            }
+        });
+    }
+
+    private static void validate(FieldDelta d) {
+        if (d.getId() == null && (d.getClientId() == null || d.getClientId().isBlank())) {
+            throw new IllegalArgumentException("id 또는 clientId 가 필요합니다.");
+        }
+        switch (d.getOp()) {
+            case ADD -> {
+                if (d.getClientId() == null || d.getPage() == null || d.getX() == null || d.getY() == null
+                        || d.getW() == null || d.getH() == null || d.getType() == null) {
+                    throw new IllegalArgumentException("ADD 에는 clientId, page, x, y, w, h, type 이 필요합니다.");
+                }
+            }
+            case MOVE -> {
+                if (d.getPage() == null || d.getX() == null || d.getY() == null) {
+                    throw new IllegalArgumentException("MOVE 에는 page, x, y 가 필요합니다.");
+                }
+            }
+            case RESIZE -> {
+                if (d.getW() == null || d.getH() == null) {
+                    throw new IllegalArgumentException("RESIZE 에는 w, h 가 필요합니다.");
+                }
+            }
+            case REMOVE -> { }
+        }
+    }
+
+    /**
+     * 한 문서의 대기 중인 변경. 모든 접근은 this 로 동기화.
+     * 아직 id 가 없는 필드(clientId)에 대한 이동/크기 변경/삭제는 생성 저장이 끝나 id 가 매핑될 때까지 보류한다.
+     */
+    static final class DocumentSession {
+
+        /** 브로드캐스트 대기: 필드·연산별 마지막 델타 */
+        private final LinkedHashMap<String, FieldDelta> outbound = new LinkedHashMap<>();
+
+        /** 저장 대기 */
+        private final LinkedHashMap<String, FieldLayoutDiff.Created> created = new LinkedHashMap<>();
+        private final Map<Long, FieldLayoutDiff.Moved> moved = new HashMap<>();
+        private final Map<Long, FieldLayoutDiff.Resized> resized = new HashMap<>();
+        private final Set<Long> deleted = new HashSet<>();
+
+        /** id 매핑 전(생성 저장 중) 필드에 대한 변경 */
+        private final Map<String, FieldDelta> movedByClient = new HashMap<>();
+        private final Map<String, FieldDelta> resizedByClient = new HashMap<>();
+        private final Set<String> deletedByClient = new HashSet<>();
+
+        private final Map<String, Long> assignedIds = new HashMap<>();
+
+        private long lastActivity = System.nanoTime();
+        private boolean retired;
+
+        synchronized boolean accept(FieldDelta d) {
+            if (retired) return false;
+            lastActivity = System.nanoTime();
+
+            if (d.getId() == null && d.getOp() != FieldDelta.Op.ADD) {
+                Long assigned = assignedIds.get(d.getClientId());
+                if (assigned != null) d.setId(assigned);
+            }
+            coalesceOutbound(d);
+
+            Long id = d.getId();
+            String clientId = d.getClientId();
+            switch (d.getOp()) {
+                case ADD -> created.put(clientId, toCreated(d));
+                case MOVE -> {
+                    FieldLayoutDiff.Created pending = id == null ? created.get(clientId) : null;
+                    if (pending != null) {
+                        pending.setPage(d.getPage());
+                        pending.setX(d.getX());
+                        pending.setY(d.getY());
+                    } else if (id != null) {
+                        moved.put(id, toMoved(id, d));
+                    } else {
+                        movedByClient.put(clientId, d);
+                    }
+                }
+                case RESIZE -> {
+                    FieldLayoutDiff.Created pending = id == null ? created.get(clientId) : null;
+                    if (pending != null) {
+                        pending.setW(d.getW());
+                        pending.setH(d.getH());
+                    } else if (id != null) {
+                        resized.put(id, toResized(id, d));
+                    } else {
+                        resizedByClient.put(clientId, d);
+                    }
+                }
+                case REMOVE -> {
+                    if (id != null) {
+                        remove(id);
+                    } else if (created.remove(clientId) == null) {
+                        movedByClient.remove(clientId);
+                        resizedByClient.remove(clientId);
+                        deletedByClient.add(clientId);
+                    }
+                }
+            }
+            return true;
+        }
+
+        synchronized List<FieldDelta> drainOutbound() {
+            if (outbound.isEmpty()) return List.of();
+            List<FieldDelta> deltas = new ArrayList<>(outbound.values());
+            outbound.clear();
+            return deltas;
+        }
+
+        /** 저장할 변경이 없으면 null */
+        synchronized FieldLayoutDiff drainPending() {
+            if (created.isEmpty() && moved.isEmpty() && resized.isEmpty() && deleted.isEmpty()) return null;
+            FieldLayoutDiff diff = new FieldLayoutDiff();
+            diff.setCreated(new ArrayList<>(created.values()));
+            diff.setMoved(new ArrayList<>(moved.values()));
+            diff.setResized(new ArrayList<>(resized.values()));
+            diff.setDeleted(new ArrayList<>(deleted));
+            created.clear();
+            moved.clear();
+            resized.clear();
+            deleted.clear();
+            return diff;
+        }
+
+        /** 생성 저장 후 clientId → id 매핑, 보류해 둔 변경을 id 기준으로 옮긴다 */
+        synchronized void assigned(Map<String, Long> createdIds) {
+            assignedIds.putAll(createdIds);
+            createdIds.forEach((clientId, id) -> {
+                FieldDelta m = movedByClient.remove(clientId);
+                if (m != null) moved.put(id, toMoved(id, m));
+                FieldDelta r = resizedByClient.remove(clientId);
+                if (r != null) resized.put(id, toResized(id, r));
+                if (deletedByClient.remove(clientId)) remove(id);
+            });
+        }
+
+        /**
+         * 저장 대기분을 비운 직후(flush 스레드)에만 호출 - 이 시점에 남은 clientId 보류분은 생성 저장이 실패한 것이라 버린다.
+         */
+        synchronized boolean retireIfIdle(long idleNanos) {
+            if (!outbound.isEmpty() || System.nanoTime() - lastActivity < idleNanos) return false;
+            retired = true;
+            return true;
+        }
+
+        private void remove(Long id) {
+            moved.remove(id);
+            resized.remove(id);
+            deleted.add(id);
+        }
+
+        private void coalesceOutbound(FieldDelta d) {
+            String field = d.getId() != null ? "#" + d.getId() : "~" + d.getClientId();
+            if (d.getOp() == FieldDelta.Op.REMOVE) {
+                outbound.remove(field + FieldDelta.Op.MOVE);
+                outbound.remove(field + FieldDelta.Op.RESIZE);
+            }
+            // 같은 키를 다시 넣으면 순서는 처음 자리 그대로, 값만 최신으로 바뀐다
+            outbound.put(field + d.getOp(), d);
+        }
+
+        private static FieldLayoutDiff.Created toCreated(FieldDelta d) {
+            FieldLayoutDiff.Created c = new FieldLayoutDiff.Created();
+            c.setClientId(d.getClientId());
+            c.setPage(d.getPage());
+            c.setX(d.getX());
+            c.setY(d.getY());
+            c.setW(d.getW());
+            c.setH(d.getH());
+            c.setType(d.getType());
+            c.setData(d.getData());
+            return c;
+        }
+
+        private static FieldLayoutDiff.Moved toMoved(Long id, FieldDelta d) {
+            FieldLayoutDiff.Moved m = new FieldLayoutDiff.Moved();
+            m.setId(id);
+            m.setPage(d.getPage());
+            m.setX(d.getX());
+            m.setY(d.getY());
+            return m;
+        }
+
+        private static FieldLayoutDiff.Resized toResized(Long id, FieldDelta d) {
+            FieldLayoutDiff.Resized r = new FieldLayoutDiff.Resized();
+            r.setId(id);
+            r.setW(d.getW());
+            r.setH(d.getH());
+            return r;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.roa.forge.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Optional;
+
+/** 서명 검증을 마친 CRL, 폐기 목록은 RevokedSerials 로만 유지하고 파싱 결과는 버린다 */
+@Getter
+@RequiredArgsConstructor
+public class CrlData {
+
+    private final String url;
+    private final String issuer;
+    private final Instant thisUpdate;
+    /** CRL 에 없으면 null */
+    private final Instant nextUpdate;
+    private final RevokedSerials revoked;
+    /** DSS 에 그대로 넣을 원본 DER - 캐시에 남는 총량은 RevocationDataService 가 제한한다 */
+    private final byte[] encoded;
+
+    public boolean isRevoked(BigInteger serial) {
+        return revoked.contains(serial);
+    }
+
+    public Optional<Instant> revocationTime(BigInteger serial) {
+        return revoked.revocationTime(serial);
+    }
+}
@@ -1,19 +1,26 @@
 package com.roa.forge.service;
 
+import com.roa.forge.config.JwtProperties;
 import com.roa.forge.entity.UserAccount;
+import com.roa.forge.provider.VerifiedToken;
 import com.roa.forge.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserAccountRepository userAccountRepository;
+    private final JwtProperties jwtProperties;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -24,9 +31,34 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .username(user.getUsername())
                 .password(user.getPassword())
                 .disabled(!user.getActive())
-                .authorities(user.getRoles().stream()
-                        .map(role -> "ROLE_" + role.getName())
-                        .toArray(String[]::new))
+                .authorities(authoritiesOf(user).toArray(String[]::new))
                 .build();
     }
+
+    /** 로그인 직후 재해시된 비밀번호 저장 (DaoAuthenticationProvider 가 upgradeEncoding 이 true 일 때 호출) */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userAccountRepository.findByUsername(user.getUsername())
+                .ifPresent(account -> account.changePassword(newPassword));
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
+    /** 검증된 토큰 → 사용자, stateless 모드에서 권한 클레임이 있으면 DB 를 조회하지 않는다 */
+    public UserDetails loadUserByToken(VerifiedToken token) {
+        if (jwtProperties.isStateless() && token.getAuthorities() != null) {
+            return User.withUsername(token.getSubject())
+                    .password("")
+                    .authorities(token.getAuthorities().toArray(String[]::new))
+                    .build();
+        }
+        return loadUserByUsername(token.getSubject());
+    }
+
+    /** 역할 → 권한 문자열 (JWT 권한 클레임과 동일한 규칙) */
+    public static List<String> authoritiesOf(UserAccount user) {
+        return user.getRoles().stream()
+                .map(role -> "ROLE_" + role.getName())
+                .toList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.roa.forge.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+
+/** 다운로드 대상 파일과 ETag (강한 검증자, 콘텐츠 SHA-256 기반) */
+@Getter
+@RequiredArgsConstructor
+public class DocumentContent {
+
+    private final Path file;
+    private final String fileName;
+    private final String contentHash;
+    /** 업로드 시 읽은 페이지 수 (알 수 없으면 null) */
+    private final Integer pageCount;
+
+    public String getEtag() {
+        return "\"" + contentHash + "\"";
+    }
+}
@@ -0,0 +1,57 @@
+package com.roa.forge.service;
+
+import com.roa.forge.entity.Document;
+import com.roa.forge.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@Service
+@RequiredArgsConstructor
+public class DocumentContentService {
+
+    private final DocumentRepository documentRepository;
+    private final StorageService storageService;
+
+    /**
+     * 문서(또는 서명본)의 파일 위치와 ETag 조회.
+     * 해시는 최초 한 번만 계산해서 저장하므로 이후 조건부 요청은 파일을 열지 않고 DB 값만으로 판단한다.
+     */
+    public DocumentContent describe(Long documentId, boolean signed) {
+        return describe(documentId, signed, false);
+    }
+
+    /**
+     * optimized 면 서명 전 문서에 한해 열람용 최적화 사본이 있을 때 그 파일을 준다 (없으면 원본).
+     * 사본 해시는 만들 때 계산해 두므로 파일을 다시 읽지 않는다.
+     */
+    public DocumentContent describe(Long documentId, boolean signed, boolean optimized) {
+        Document doc = documentRepository.findById(documentId).orElseThrow(() ->
+                new IllegalArgumentException("문서를 찾을 수 없습니다. : " + documentId));
+
+        if (optimized && !signed && doc.getSignedPath() == null && doc.getOptimizedPath() != null) {
+            Path file = storageService.resolve(doc.getOptimizedPath());
+            return new DocumentContent(file, Paths.get(doc.getPath()).getFileName().toString(), doc.getOptimizedContentHash(),
+                    doc.getPageCount());
+        }
+
+        String path = signed ? doc.getSignedPath() : doc.getPath();
+        if (path == null) {
+            throw new IllegalArgumentException(signed
+                    ? "서명되지 않은 문서입니다. : " + documentId
+                    : "문서 파일이 없습니다. : " + documentId);
+        }
+        Path file = storageService.resolve(path);
+
+        String hash = signed ? doc.getSignedContentHash() : doc.getContentHash();
+        if (hash == null) {
+            hash = storageService.sha256Hex(file);
+            // 읽은 뒤 다시 서명되는 등 버전이 바뀌었으면 기록하지 않는다 (다음 요청이 새 파일로 다시 계산)
+            if (signed) documentRepository.updateSignedContentHash(documentId, doc.getVersion(), hash);
+            else documentRepository.updateContentHash(documentId, doc.getVersion(), hash);
+        }
+        return new DocumentContent(file, Paths.get(path).getFileName().toString(), hash, doc.getPageCount());
+    }
+}
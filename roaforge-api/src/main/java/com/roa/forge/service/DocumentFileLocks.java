@@ -0,0 +1,24 @@
+package com.roa.forge.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명본 파일을 쓰는 작업(서명, LTV 보강)끼리의 문서 단위 배타 표시.
+ * 같은 문서를 동시에 쓰면 결과 파일이 꼬이므로 먼저 잡은 쪽만 진행한다.
+ */
+@Component
+public class DocumentFileLocks {
+
+    private final Set<Long> held = ConcurrentHashMap.newKeySet();
+
+    public boolean tryAcquire(Long documentId) {
+        return held.add(documentId);
+    }
+
+    public void release(Long documentId) {
+        held.remove(documentId);
+    }
+}
@@ -0,0 +1,217 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.UploadProperties;
+import com.roa.forge.dto.DocumentUploadResponse;
+import com.roa.forge.entity.Document;
+import com.roa.forge.repository.DocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * PDF 업로드 → Document 생성.
+ * 요청 본문을 고정 버퍼로 저장소의 임시 파일에 흘려 쓰면서 SHA-256 을 함께 계산하고, 헤더는 첫 1KB 에서 바로 확인한다.
+ * 같은 해시의 파일이 이미 있으면 그 파일과 페이지 수를 재사용하고, 없으면 트레일러/xref 만 읽어 페이지 수를 구한 뒤
+ * 내용 주소 경로({dir}/{해시 앞 2자리}/{해시}.pdf)로 옮긴다.
+ */
+@Slf4j
+@Service
+public class DocumentIngestService {
+
+    private static final byte[] PDF_HEADER = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    /** 헤더 앞에 쓰레기 바이트가 있어도 1KB 안이면 허용 (PDF 리더들과 같은 기준) */
+    private static final int HEADER_WINDOW = 1024;
+
+    private record Received(long size, String sha256) {
+    }
+
+    private final DocumentRepository documentRepository;
+    private final StorageService storageService;
+    private final UploadProperties uploadProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuotaService quotaService;
+    private final TransactionTemplate transactionTemplate;
+
+    public DocumentIngestService(DocumentRepository documentRepository,
+                                 StorageService storageService,
+                                 UploadProperties uploadProperties,
+                                 ApplicationEventPublisher eventPublisher,
+                                 QuotaService quotaService,
+                                 PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.storageService = storageService;
+        this.uploadProperties = uploadProperties;
+        this.eventPublisher = eventPublisher;
+        this.quotaService = quotaService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public DocumentUploadResponse ingest(String name, InputStream body) {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("문서 이름이 비어 있습니다.");
+        if (name.length() > 200) throw new IllegalArgumentException("문서 이름은 200자 이하여야 합니다.");
+
+        // 한도 초과면 본문을 받기 전에 거절한다
+        QuotaService.Reservation reservation = quotaService.reserve(QuotaResource.DOCUMENTS, 1);
+        Path temp = null;
+        try {
+            Path dir = storageService.resolve(uploadProperties.getDir());
+            Files.createDirectories(dir);
+            // 최종 위치와 같은 파일시스템에 받아야 이동이 rename 한 번으로 끝난다
+            temp = Files.createTempFile(dir, ".upload-", ".part");
+            Received received = receive(body, temp);
+            DocumentUploadResponse response = register(name, temp, received.sha256(), received.size());
+            reservation.commit();
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일 저장 실패", e);
+        } finally {
+            reservation.release();
+            deleteQuietly(temp);
+        }
+    }
+
+    private DocumentUploadResponse register(String name, Path temp, String hash, long size) throws IOException {
+        Optional<Document> existing = documentRepository.findFirstByContentHashAndPageCountIsNotNullOrderByIdAsc(hash)
+                .filter(d -> d.getPath() != null && Files.exists(storageService.resolve(d.getPath())));
+
+        String path;
+        int pageCount;
+        boolean duplicate = existing.isPresent();
+        if (duplicate) {
+            path = existing.get().getPath();
+            pageCount = existing.get().getPageCount();
+        } else {
+            pageCount = pageCount(temp);
+            path = store(temp, hash);
+        }
+
+        Long id = transactionTemplate.execute(status -> {
+            Document document = documentRepository.save(Document.builder()
+                    .name(name)
+                    .path(path)
+                    .contentHash(hash)
+                    .pageCount(pageCount)
+                    .originalSize(size)
+                    .build());
+            eventPublisher.publishEvent(new DocumentUploadedEvent(document.getId(), hash, duplicate));
+            return document.getId();
+        });
+        log.info("문서 업로드: id={}, {}쪽, {}B{}", id, pageCount, size, duplicate ? " (중복 - 기존 파일 재사용)" : "");
+        return new DocumentUploadResponse(id, name, hash, pageCount, size, duplicate);
+    }
+
+    /** 본문을 파일로 쓰면서 같은 버퍼로 해시 계산 (파일을 다시 읽지 않는다) */
+    private Received receive(InputStream body, Path temp) throws IOException {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        long limit = uploadProperties.getMaxSize().toBytes();
+        byte[] head = new byte[HEADER_WINDOW];
+        int headLength = 0;
+        boolean headerChecked = false;
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            byte[] buf = new byte[64 * 1024];
+            int n;
+            while ((n = body.read(buf)) != -1) {
+                total += n;
+                if (total > limit) {
+                    throw new IllegalArgumentException("업로드 파일이 너무 큽니다. (최대 " + uploadProperties.getMaxSize() + ")");
+                }
+                // PDF 가 아니면 본문을 끝까지 받지 않고 바로 거절
+                if (!headerChecked) {
+                    int copy = Math.min(n, head.length - headLength);
+                    System.arraycopy(buf, 0, head, headLength, copy);
+                    headLength += copy;
+                    if (headLength == head.length) {
+                        checkHeader(head, headLength);
+                        headerChecked = true;
+                    }
+                }
+                md.update(buf, 0, n);
+                out.write(buf, 0, n);
+            }
+        }
+        if (total == 0) throw new IllegalArgumentException("빈 파일입니다.");
+        if (!headerChecked) checkHeader(head, headLength);
+        return new Received(total, HexFormat.of().formatHex(md.digest()));
+    }
+
+    private static void checkHeader(byte[] head, int length) {
+        outer:
+        for (int i = 0; i + PDF_HEADER.length <= length; i++) {
+            for (int j = 0; j < PDF_HEADER.length; j++) {
+                if (head[i + j] != PDF_HEADER[j]) continue outer;
+            }
+            return;
+        }
+        throw new IllegalArgumentException("PDF 파일이 아닙니다.");
+    }
+
+    /** 트레일러/xref 경로로 먼저 읽고, 그 경로로 못 읽는 파일(xref 스트림, 암호화 등)만 PDFBox 로 연다 */
+    private static int pageCount(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OptionalInt fast = PdfTrailerInspector.pageCount(channel);
+            if (fast.isPresent()) return fast.getAsInt();
+        }
+        try (PDDocument doc = Loader.loadPDF(file.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            int pages = doc.getNumberOfPages();
+            if (pages == 0) throw new IllegalArgumentException("페이지가 없는 PDF 입니다.");
+            return pages;
+        } catch (InvalidPasswordException e) {
+            throw new IllegalArgumentException("암호로 보호된 PDF 는 업로드할 수 없습니다.");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("PDF 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /** 내용 주소 경로로 이동. 같은 해시 파일이 이미 있으면 그대로 두고 임시 파일은 버린다 */
+    private String store(Path temp, String hash) throws IOException {
+        String path = Paths.get(uploadProperties.getDir(), hash.substring(0, 2), hash + ".pdf").toString();
+        Path file = storageService.resolve(path);
+        if (Files.exists(file)) return path;
+        Files.createDirectories(file.getParent());
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 업로드됨 - 먼저 옮긴 파일을 쓴다
+        }
+        return path;
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) return;
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.roa.forge.service;
+
+/** 없는 문서 - IllegalArgumentException 이라 기존 핸들러(400)에도 그대로 걸리고, 구분이 필요한 곳은 404 로 응답한다 */
+public class DocumentNotFoundException extends IllegalArgumentException {
+
+    public DocumentNotFoundException(Long documentId) {
+        super("문서를 찾을 수 없습니다. : " + documentId);
+    }
+}
@@ -0,0 +1,126 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.OptimizationProperties;
+import com.roa.forge.config.UploadProperties;
+import com.roa.forge.entity.Document;
+import com.roa.forge.repository.DocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * 업로드 후 열람용 최적화 사본을 만든다 (app.optimize.enabled).
+ * 서명은 항상 업로드된 원본에 하고, 사본은 서명 전 열람(다운로드 optimized=true)에만 쓴다.
+ * 사본은 원본 해시 기준 내용 주소({dir}/{해시 앞 2자리}/{해시}.opt.pdf)라 같은 원본을 쓰는 문서들이 공유한다.
+ */
+@Slf4j
+@Service
+public class DocumentOptimizationService {
+
+    private final DocumentRepository documentRepository;
+    private final PdfOptimizer pdfOptimizer;
+    private final StorageService storageService;
+    private final OptimizationProperties optimizationProperties;
+    private final UploadProperties uploadProperties;
+    private final Executor optimizeExecutor;
+    /** AFTER_COMMIT 리스너 안에서는 끝난 트랜잭션에 합류하지 않도록 새 트랜잭션으로 쓴다 */
+    private final TransactionTemplate requiresNew;
+
+    public DocumentOptimizationService(DocumentRepository documentRepository,
+                                       PdfOptimizer pdfOptimizer,
+                                       StorageService storageService,
+                                       OptimizationProperties optimizationProperties,
+                                       UploadProperties uploadProperties,
+                                       @Qualifier("optimizeExecutor") Executor optimizeExecutor,
+                                       PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.pdfOptimizer = pdfOptimizer;
+        this.storageService = storageService;
+        this.optimizationProperties = optimizationProperties;
+        this.uploadProperties = uploadProperties;
+        this.optimizeExecutor = optimizeExecutor;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentUploaded(DocumentUploadedEvent event) {
+        if (!optimizationProperties.isEnabled()) return;
+        if (event.isDuplicate()) {
+            // 같은 원본이 이미 최적화됐으면 결과만 기록, 진행 중이면 완료 시 해시 단위로 함께 기록된다
+            documentRepository.findFirstByContentHashAndOptimizedAtIsNotNull(event.getContentHash())
+                    .ifPresent(done -> requiresNew.executeWithoutResult(status ->
+                            documentRepository.recordOptimization(event.getContentHash(),
+                                    done.getOptimizedPath(), done.getOptimizedContentHash(), done.getOptimizedSize(),
+                                    done.getOptimizedAt())));
+            return;
+        }
+        try {
+            optimizeExecutor.execute(() -> optimize(event.getDocumentId()));
+        } catch (TaskRejectedException e) {
+            log.warn("최적화 큐가 가득 차 최적화를 건너뜁니다. documentId={}", event.getDocumentId());
+        }
+    }
+
+    void optimize(Long documentId) {
+        Optional<Document> found = documentRepository.findById(documentId);
+        if (found.isEmpty() || found.get().getOptimizedAt() != null || found.get().getSignedPath() != null) return;
+        Document document = found.get();
+        String hash = document.getContentHash();
+
+        Path source = storageService.resolve(document.getPath());
+        Path temp = null;
+        try {
+            long size = Files.size(source);
+            if (size < optimizationProperties.getMinSize().toBytes()) return;
+
+            temp = Files.createTempFile(source.toAbsolutePath().getParent(), ".optimize-", ".pdf");
+            long started = System.nanoTime();
+            PdfOptimizer.Result result = pdfOptimizer.optimize(source, temp);
+            if (result == null) {
+                log.info("최적화 대상이 아닌 문서 (암호화/기존 서명): documentId={}", documentId);
+                documentRepository.recordOptimization(hash, null, null, size, LocalDateTime.now());
+                return;
+            }
+
+            String optimizedPath = null;
+            String optimizedHash = null;
+            if (result.getOptimizedSize() <= size * (1 - optimizationProperties.getMinSavingsRatio())) {
+                optimizedPath = Paths.get(uploadProperties.getDir(), hash.substring(0, 2), hash + ".opt.pdf").toString();
+                Path target = storageService.resolve(optimizedPath);
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                optimizedHash = result.getContentHash();
+            }
+            int updated = documentRepository.recordOptimization(hash, optimizedPath, optimizedHash,
+                    result.getOptimizedSize(), LocalDateTime.now());
+            log.info("문서 최적화: documentId={}, {}B → {}B, 이미지 {}개 재인코딩, {}ms{} (문서 {}건 반영)",
+                    documentId, size, result.getOptimizedSize(), result.getImagesResampled(),
+                    (System.nanoTime() - started) / 1_000_000, optimizedPath == null ? ", 절감 적어 사본 미보관" : "", updated);
+        } catch (Exception e) {
+            log.warn("문서 최적화 실패: documentId={}", documentId, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.roa.forge.service;
+
+import com.roa.forge.dto.EffectiveField;
+import com.roa.forge.dto.FieldBox;
+import com.roa.forge.entity.Document;
+import com.roa.forge.entity.Field;
+import com.roa.forge.entity.FieldOverride;
+import com.roa.forge.repository.DocumentRepository;
+import com.roa.forge.repository.FieldOverrideRepository;
+import com.roa.forge.repository.FieldRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 템플릿 문서와 인스턴스.
+ * 인스턴스는 템플릿의 필드 레이아웃을 공유하고(필드 행 복사 없음), 달라진 부분만 FieldOverride 로 저장한다.
+ * 템플릿 레이아웃은 불변이라 메모리에 캐시해도 무효화가 필요 없다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentTemplateService {
+
+    /** 대량 생성 시 flush/clear 단위 - 영속성 컨텍스트가 커지지 않게 */
+    private static final int INSTANCE_CHUNK = 500;
+    private static final int MAX_CACHED_LAYOUTS = 256;
+
+    private final DocumentRepository documentRepository;
+    private final FieldRepository fieldRepository;
+    private final FieldOverrideRepository fieldOverrideRepository;
+    private final QuotaService quotaService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** templateId → (필드 id → 필드), accessOrder LRU, 접근은 this 로 동기화 */
+    private final LinkedHashMap<Long, Map<Long, EffectiveField>> layouts = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Map<Long, EffectiveField>> eldest) {
+            return size() > MAX_CACHED_LAYOUTS;
+        }
+    };
+
+    @Transactional
+    public void markAsTemplate(Long documentId) {
+        findDocument(documentId).markAsTemplate();
+    }
+
+    /** 문서 행만 배치 insert - 필드 행은 하나도 만들지 않는다 */
+    @Transactional
+    public List<Long> instantiate(Long templateId, List<String> names) {
+        Document template = findDocument(templateId);
+        if (!template.isTemplate()) {
+            throw new IllegalStateException("템플릿이 아닌 문서입니다. : " + templateId);
+        }
+        quotaService.reserve(QuotaResource.DOCUMENTS, names.size());
+
+        List<Long> ids = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            Document instance = Document.instanceOf(template, names.get(i));
+            entityManager.persist(instance);
+            ids.add(instance.getId());
+            if ((i + 1) % INSTANCE_CHUNK == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return ids;
+    }
+
+    /** 템플릿 필드(오버라이드 반영, 숨김 제외) + 인스턴스 자체 필드 */
+    @Transactional(readOnly = true)
+    public List<EffectiveField> effectiveFields(Long documentId) {
+        Document document = findDocument(documentId);
+        List<EffectiveField> own = fieldRepository.findAllByDocumentId(documentId).stream()
+                .map(f -> EffectiveField.of(f, false))
+                .toList();
+        if (document.getTemplateId() == null) return own;
+
+        Map<Long, FieldOverride> overrides = fieldOverrideRepository.findAllByDocumentId(documentId).stream()
+                .collect(Collectors.toMap(FieldOverride::getTemplateFieldId, Function.identity()));
+        List<EffectiveField> result = new ArrayList<>();
+        for (EffectiveField field : templateLayout(document.getTemplateId()).values()) {
+            FieldOverride override = overrides.get(field.getId());
+            if (override == null) result.add(field);
+            else if (!override.isHidden()) result.add(field.with(override));
+        }
+        result.addAll(own);
+        return result;
+    }
+
+    /** 공간 인덱스/겹침 검사용 한 페이지의 최종 필드 */
+    @Transactional(readOnly = true)
+    public List<FieldBox> effectiveBoxes(Long documentId, int page) {
+        Long templateId = documentRepository.findTemplateIdById(documentId).orElse(null);
+        if (templateId == null) return fieldRepository.findBoxesByDocumentIdAndPage(documentId, page);
+        return effectiveFields(documentId).stream()
+                .filter(f -> f.getPage() == page)
+                .map(EffectiveField::toBox)
+                .toList();
+    }
+
+    /**
+     * 인스턴스에서 템플릿 필드를 바꿀 때 쓸 오버라이드 (없으면 생성).
+     * 템플릿 필드가 아닌 id 는 결과에서 빠진다.
+     */
+    public Map<Long, FieldOverride> overridesFor(Document instance, Collection<Long> fieldIds) {
+        Map<Long, EffectiveField> layout = templateLayout(instance.getTemplateId());
+        Set<Long> templateFieldIds = fieldIds.stream().filter(layout::containsKey).collect(Collectors.toSet());
+        if (templateFieldIds.isEmpty()) return Map.of();
+
+        Map<Long, FieldOverride> overrides = fieldOverrideRepository
+                .findAllByDocumentIdAndTemplateFieldIdIn(instance.getId(), templateFieldIds).stream()
+                .collect(Collectors.toMap(FieldOverride::getTemplateFieldId, Function.identity()));
+        List<FieldOverride> created = templateFieldIds.stream()
+                .filter(id -> !overrides.containsKey(id))
+                .map(id -> new FieldOverride(instance.getId(), id))
+                .toList();
+        fieldOverrideRepository.saveAll(created).forEach(o -> overrides.put(o.getTemplateFieldId(), o));
+        return overrides;
+    }
+
+    /** 오버라이드를 반영한 템플릿 필드 */
+    public EffectiveField merge(Long templateId, FieldOverride override) {
+        return templateLayout(templateId).get(override.getTemplateFieldId()).with(override);
+    }
+
+    /** 입력값 저장 - 자체 필드는 Field.data, 템플릿 필드는 오버라이드에 */
+    @Transactional
+    public void fillValue(Long documentId, Long fieldId, String value) {
+        Document document = findDocument(documentId);
+        if (document.isTemplate()) {
+            throw new IllegalStateException("템플릿에는 값을 입력할 수 없습니다. : " + documentId);
+        }
+        List<Field> own = fieldRepository.findAllByDocumentIdAndIdIn(documentId, List.of(fieldId));
+        if (!own.isEmpty()) {
+            own.get(0).fill(value);
+            return;
+        }
+        FieldOverride override = document.getTemplateId() == null ? null
+                : overridesFor(document, List.of(fieldId)).get(fieldId);
+        if (override == null) {
+            throw new IllegalArgumentException("문서에 없는 필드입니다. : " + fieldId);
+        }
+        override.fill(value);
+    }
+
+    Map<Long, EffectiveField> templateLayout(Long templateId) {
+        synchronized (this) {
+            Map<Long, EffectiveField> layout = layouts.get(templateId);
+            if (layout != null) return layout;
+        }
+        Map<Long, EffectiveField> loaded = new LinkedHashMap<>();
+        for (Field field : fieldRepository.findAllByDocumentId(templateId)) {
+            loaded.put(field.getId(), EffectiveField.of(field, true));
+        }
+        Map<Long, EffectiveField> layout = Collections.unmodifiableMap(loaded);
+        synchronized (this) {
+            layouts.putIfAbsent(templateId, layout);
+        }
+        return layout;
+    }
+
+    private Document findDocument(Long documentId) {
+        return documentRepository.findById(documentId).orElseThrow(() ->
+                new IllegalArgumentException("문서를 찾을 수 없습니다. : " + documentId));
+    }
+}
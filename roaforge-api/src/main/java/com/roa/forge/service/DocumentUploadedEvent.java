@@ -0,0 +1,17 @@
+package com.roa.forge.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 문서 파일이 저장된 직후 발행 (페이지 미리 렌더링 등 후처리 트리거).
+ * duplicate 면 같은 내용의 파일이 이미 있어 그 파일을 재사용한 업로드라 내용 기반 후처리는 생략해도 된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DocumentUploadedEvent {
+
+    private final Long documentId;
+    private final String contentHash;
+    private final boolean duplicate;
+}
@@ -0,0 +1,16 @@
+package com.roa.forge.service;
+
+/** DB 에 남기는 오류 메시지 공통 처리 */
+final class ErrorMessages {
+
+    /** last_error / ltv_error 컬럼 길이 */
+    static final int MAX_LENGTH = 500;
+
+    private ErrorMessages() {
+    }
+
+    static String truncate(String message) {
+        if (message == null) return null;
+        return message.length() <= MAX_LENGTH ? message : message.substring(0, MAX_LENGTH);
+    }
+}
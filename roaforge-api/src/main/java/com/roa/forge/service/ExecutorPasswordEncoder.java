@@ -0,0 +1,66 @@
+package com.roa.forge.service;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 해시/검증을 전용 풀에서 실행하는 PasswordEncoder.
+ * 요청 스레드는 결과를 기다리기만 하므로 로그인이 몰려도 CPU 는 풀 크기만큼만 쓰인다.
+ * 큐가 차거나 timeout 안에 끝나지 않으면 TaskRejectedException, 기다리다 인터럽트되면
+ * 인터럽트 상태를 되살리고 PasswordHashingUnavailableException (둘 다 컨트롤러에서 503).
+ */
+public class ExecutorPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final AsyncTaskExecutor executor;
+    private final long timeoutNanos;
+
+    public ExecutorPasswordEncoder(PasswordEncoder delegate, AsyncTaskExecutor executor, Duration timeout) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /** 접두사/파라미터만 비교하므로 요청 스레드에서 바로 */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future = executor.submit(task);
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 큐에서 기다리던 작업이면 실행되지 않는다
+            future.cancel(true);
+            throw new TaskRejectedException("비밀번호 해시 대기 시간 초과");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("비밀번호 해시 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.roa.forge.service;
+
+import com.roa.forge.dto.FieldBox;
+import com.roa.forge.dto.FieldOverlap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 한 페이지의 필드를 균일 격자로 나눈 공간 인덱스.
+ * 필드는 걸치는 모든 칸에 등록하고, 질의는 질의 사각형이 걸치는 칸만 본다.
+ * 여러 칸에 걸친 필드는 (교차 영역의 좌상단 점이 속한 칸) 에서만 보고해 중복 제거용 Set 없이 한 번만 반환한다.
+ * 칸 수가 MAX_CELLS_PER_BOX 를 넘거나 칸 좌표가 int 범위를 벗어나는 필드는 칸에 등록하지 않고 overflow 목록에서 선형으로 본다.
+ */
+public final class FieldGrid {
+
+    /** 한 필드를 등록할 최대 칸 수 - 넘으면 overflow */
+    static final long MAX_CELLS_PER_BOX = 1024;
+
+    private final double cellSize;
+    private final Map<Long, FieldBox> boxes = new HashMap<>();
+    private final Map<Long, List<FieldBox>> cells = new HashMap<>();
+    private final List<FieldBox> overflow = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public FieldGrid(double cellSize) {
+        if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be positive");
+        this.cellSize = cellSize;
+    }
+
+    public static FieldGrid of(double cellSize, Collection<FieldBox> boxes) {
+        FieldGrid grid = new FieldGrid(cellSize);
+        boxes.forEach(grid::putUnlocked);
+        return grid;
+    }
+
+    /** 추가 또는 이동/크기 변경 (같은 id 는 교체) */
+    public void put(FieldBox box) {
+        lock.writeLock().lock();
+        try {
+            putUnlocked(box);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            return removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return boxes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 사각형과 겹치는 필드 */
+    public List<FieldBox> query(double x, double y, double w, double h, Predicate<FieldBox> filter) {
+        lock.readLock().lock();
+        try {
+            List<FieldBox> result = new ArrayList<>();
+            collect(x, y, w, h, filter, result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 점을 포함하는 필드 (클릭 좌표 → 필드) */
+    public List<FieldBox> at(double x, double y) {
+        lock.readLock().lock();
+        try {
+            List<FieldBox> result = new ArrayList<>(2);
+            long cx = cell(x), cy = cell(y);
+            if (inIntRange(cx) && inIntRange(cy)) {
+                for (FieldBox box : cells.getOrDefault(cellKey(cx, cy), List.of())) {
+                    if (box.contains(x, y)) result.add(box);
+                }
+            }
+            for (FieldBox box : overflow) {
+                if (box.contains(x, y)) result.add(box);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** filter 를 통과한 필드끼리의 겹침 쌍 */
+    public List<FieldOverlap> overlaps(Predicate<FieldBox> filter) {
+        lock.readLock().lock();
+        try {
+            List<FieldOverlap> result = new ArrayList<>();
+            List<FieldBox> hits = new ArrayList<>();
+            for (FieldBox box : boxes.values()) {
+                if (!filter.test(box)) continue;
+                hits.clear();
+                collect(box.getX(), box.getY(), box.getW(), box.getH(), filter, hits);
+                for (FieldBox other : hits) {
+                    if (other.getId() > box.getId()) result.add(new FieldOverlap(box.getId(), other.getId()));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(double x, double y, double w, double h, Predicate<FieldBox> filter, List<FieldBox> out) {
+        // 등록된 칸은 모두 int 범위라 그 밖은 볼 필요가 없다
+        long minCx = clampToInt(cell(x)), maxCx = clampToInt(cell(x + w));
+        long minCy = clampToInt(cell(y)), maxCy = clampToInt(cell(y + h));
+        double span = (double) (maxCx - minCx + 1) * (maxCy - minCy + 1);
+        if (span > cells.size()) {
+            // 질의 사각형이 차 있는 칸 수보다 넓으면 칸 좌표를 도는 대신 차 있는 칸만 훑는다
+            for (Map.Entry<Long, List<FieldBox>> e : cells.entrySet()) {
+                long cx = e.getKey() >> 32, cy = (int) (long) e.getKey();
+                if (cx < minCx || cx > maxCx || cy < minCy || cy > maxCy) continue;
+                collectCell(cx, cy, e.getValue(), x, y, w, h, filter, out);
+            }
+        } else {
+            for (long cx = minCx; cx <= maxCx; cx++) {
+                for (long cy = minCy; cy <= maxCy; cy++) {
+                    List<FieldBox> candidates = cells.get(cellKey(cx, cy));
+                    if (candidates != null) collectCell(cx, cy, candidates, x, y, w, h, filter, out);
+                }
+            }
+        }
+        for (FieldBox box : overflow) {
+            if (box.intersects(x, y, w, h) && filter.test(box)) out.add(box);
+        }
+    }
+
+    private void collectCell(long cx, long cy, List<FieldBox> candidates, double x, double y, double w, double h,
+                             Predicate<FieldBox> filter, List<FieldBox> out) {
+        for (FieldBox box : candidates) {
+            if (!box.intersects(x, y, w, h) || !filter.test(box)) continue;
+            // 교차 영역의 좌상단 점이 이 칸에 있을 때만 보고
+            if (cell(Math.max(box.getX(), x)) == cx && cell(Math.max(box.getY(), y)) == cy) {
+                out.add(box);
+            }
+        }
+    }
+
+    private void putUnlocked(FieldBox box) {
+        removeUnlocked(box.getId());
+        boxes.put(box.getId(), box);
+        if (!indexable(box)) {
+            overflow.add(box);
+            return;
+        }
+        long maxCx = cell(box.getX() + box.getW()), maxCy = cell(box.getY() + box.getH());
+        for (long cx = cell(box.getX()); cx <= maxCx; cx++) {
+            for (long cy = cell(box.getY()); cy <= maxCy; cy++) {
+                cells.computeIfAbsent(cellKey(cx, cy), k -> new ArrayList<>(4)).add(box);
+            }
+        }
+    }
+
+    private boolean removeUnlocked(Long id) {
+        FieldBox box = boxes.remove(id);
+        if (box == null) return false;
+        if (!indexable(box)) {
+            overflow.remove(box);
+            return true;
+        }
+        long maxCx = cell(box.getX() + box.getW()), maxCy = cell(box.getY() + box.getH());
+        for (long cx = cell(box.getX()); cx <= maxCx; cx++) {
+            for (long cy = cell(box.getY()); cy <= maxCy; cy++) {
+                long key = cellKey(cx, cy);
+                List<FieldBox> list = cells.get(key);
+                if (list == null) continue;
+                list.remove(box);
+                if (list.isEmpty()) cells.remove(key);
+            }
+        }
+        return true;
+    }
+
+    private long cell(double v) {
+        return (long) Math.floor(v / cellSize);
+    }
+
+    /** 칸 좌표가 int 범위 (cellKey 가 겹치지 않음) 이고 걸치는 칸 수가 상한 이내인지 */
+    private boolean indexable(FieldBox box) {
+        double x = box.getX(), y = box.getY(), w = box.getW(), h = box.getH();
+        if (!Double.isFinite(x) || !Double.isFinite(y) || !Double.isFinite(w) || !Double.isFinite(h)) return false;
+        long minCx = cell(x), maxCx = cell(x + w), minCy = cell(y), maxCy = cell(y + h);
+        if (!inIntRange(minCx) || !inIntRange(maxCx) || !inIntRange(minCy) || !inIntRange(maxCy)) return false;
+        long columns = maxCx - minCx + 1, rows = maxCy - minCy + 1;
+        return columns > 0 && rows > 0 && columns <= MAX_CELLS_PER_BOX / rows;
+    }
+
+    private static boolean inIntRange(long v) {
+        return v >= Integer.MIN_VALUE && v <= Integer.MAX_VALUE;
+    }
+
+    private static long clampToInt(long v) {
+        return Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, v));
+    }
+
+    /** cx, cy 는 int 범위여야 한다 */
+    private static long cellKey(long cx, long cy) {
+        return (cx << 32) | (cy & 0xffffffffL);
+    }
+}
@@ -0,0 +1,20 @@
+package com.roa.forge.service;
+
+import com.roa.forge.dto.FieldBox;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+
+/** 필드 레이아웃 변경 커밋 후 공간 인덱스를 증분 갱신하기 위해 발행 */
+@Getter
+@RequiredArgsConstructor
+public class FieldLayoutChangedEvent {
+
+    private final Long documentId;
+
+    /** 생성/이동/크기 변경된 필드의 최종 상태 */
+    private final Collection<FieldBox> upserted;
+
+    private final Collection<Long> deleted;
+}
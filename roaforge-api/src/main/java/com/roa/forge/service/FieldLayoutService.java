@@ -0,0 +1,168 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.FieldIndexProperties;
+import com.roa.forge.dto.FieldBox;
+import com.roa.forge.dto.FieldLayoutDiff;
+import com.roa.forge.dto.FieldLayoutResult;
+import com.roa.forge.entity.Document;
+import com.roa.forge.entity.Field;
+import com.roa.forge.entity.FieldOverride;
+import com.roa.forge.entity.FieldType;
+import com.roa.forge.repository.DocumentRepository;
+import com.roa.forge.repository.FieldRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 에디터 변경분(diff)만 한 트랜잭션으로 반영한다.
+ * 문서의 필드 컬렉션은 로드하지 않고, 변경 대상 필드만 id 로 읽어서 배치 insert/update 와 단일 delete 로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FieldLayoutService {
+
+    private final DocumentRepository documentRepository;
+    private final FieldRepository fieldRepository;
+    private final FieldIndexProperties fieldIndexProperties;
+    private final DocumentTemplateService documentTemplateService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public FieldLayoutResult applyDiff(Long documentId, FieldLayoutDiff diff) {
+        Document document = documentRepository.findForLayoutUpdateById(documentId).orElseThrow(() ->
+                new IllegalArgumentException("문서를 찾을 수 없습니다. : " + documentId));
+        if (!Objects.equals(document.getVersion(), diff.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Document.class, documentId);
+        }
+        return apply(document, diff, true);
+    }
+
+    /**
+     * 실시간 협업 세션이 모아 둔 변경분 반영 - 세션이 최신 상태의 기준이므로 버전을 비교하지 않는다.
+     * 그 사이 다른 경로로 삭제된 필드는 건너뛰고, 드래그 중간 상태일 수 있어 서명 겹침 검사도 하지 않는다.
+     * 버전은 똑같이 증가하므로 이전 버전을 가진 REST 저장은 409 가 된다.
+     */
+    @Transactional
+    public FieldLayoutResult applySnapshot(Long documentId, FieldLayoutDiff diff) {
+        Document document = documentRepository.findForLayoutUpdateById(documentId).orElseThrow(() ->
+                new IllegalArgumentException("문서를 찾을 수 없습니다. : " + documentId));
+        return apply(document, diff, false);
+    }
+
+    private FieldLayoutResult apply(Document document, FieldLayoutDiff diff, boolean strict) {
+        Long documentId = document.getId();
+        if (document.isTemplate()) {
+            throw new IllegalStateException("템플릿 레이아웃은 변경할 수 없습니다. : " + documentId);
+        }
+        boolean instance = document.getTemplateId() != null;
+
+        List<Field> touched = new ArrayList<>();
+        List<FieldBox> upserted = new ArrayList<>();
+        Set<Long> deleted = new HashSet<>(diff.getDeleted());
+        if (!deleted.isEmpty()) {
+            fieldRepository.deleteAllByDocumentIdAndIdIn(documentId, deleted);
+            // 인스턴스에서 지운 템플릿 필드는 숨김 오버라이드로
+            if (instance) documentTemplateService.overridesFor(document, deleted).values().forEach(FieldOverride::hide);
+        }
+
+        // 삭제된 필드에 대한 이동/크기 변경은 무시
+        Set<Long> touchedIds = Stream.concat(
+                        diff.getMoved().stream().map(FieldLayoutDiff.Moved::getId),
+                        diff.getResized().stream().map(FieldLayoutDiff.Resized::getId))
+                .filter(id -> !deleted.contains(id))
+                .collect(Collectors.toSet());
+        if (!touchedIds.isEmpty()) {
+            Map<Long, Field> byId = fieldRepository.findAllByDocumentIdAndIdIn(documentId, touchedIds).stream()
+                    .collect(Collectors.toMap(Field::getId, Function.identity()));
+            Set<Long> missing = new HashSet<>(touchedIds);
+            missing.removeAll(byId.keySet());
+
+            // 인스턴스 자체 필드가 아니면 템플릿 필드 - 행을 복사하지 않고 오버라이드에 기록
+            Map<Long, FieldOverride> overrides = instance && !missing.isEmpty()
+                    ? documentTemplateService.overridesFor(document, missing)
+                    : Map.of();
+            missing.removeAll(overrides.keySet());
+            if (strict && !missing.isEmpty()) {
+                throw new IllegalArgumentException("문서에 없는 필드입니다. : " + missing);
+            }
+
+            for (FieldLayoutDiff.Moved m : diff.getMoved()) {
+                Field f = byId.get(m.getId());
+                if (f != null) f.moveTo(m.getPage(), m.getX(), m.getY());
+                FieldOverride o = overrides.get(m.getId());
+                if (o != null) o.moveTo(m.getPage(), m.getX(), m.getY());
+            }
+            for (FieldLayoutDiff.Resized r : diff.getResized()) {
+                Field f = byId.get(r.getId());
+                if (f != null) f.resize(r.getW(), r.getH());
+                FieldOverride o = overrides.get(r.getId());
+                if (o != null) o.resize(r.getW(), r.getH());
+            }
+            touched.addAll(byId.values());
+            overrides.values().forEach(o ->
+                    upserted.add(documentTemplateService.merge(document.getTemplateId(), o).toBox()));
+        }
+
+        List<Field> created = new ArrayList<>(diff.getCreated().size());
+        for (FieldLayoutDiff.Created c : diff.getCreated()) {
+            Field field = Field.builder()
+                    .page(c.getPage())
+                    .x(c.getX())
+                    .y(c.getY())
+                    .w(c.getW())
+                    .h(c.getH())
+                    .type(c.getType())
+                    .data(c.getData())
+                    .build();
+            // 지연 컬렉션에 대한 add 는 초기화 없이 큐잉된다
+            document.addField(field);
+            created.add(field);
+        }
+        fieldRepository.saveAll(created);
+        touched.addAll(created);
+
+        touched.forEach(f -> upserted.add(FieldBox.of(f)));
+        if (strict) validateSignatureOverlaps(documentId, upserted);
+        eventPublisher.publishEvent(new FieldLayoutChangedEvent(documentId, upserted, deleted));
+
+        Map<String, Long> createdIds = new LinkedHashMap<>();
+        for (int i = 0; i < created.size(); i++) {
+            createdIds.put(diff.getCreated().get(i).getClientId(), created.get(i).getId());
+        }
+        // OPTIMISTIC_FORCE_INCREMENT 로 커밋 시 정확히 1 증가
+        return new FieldLayoutResult(document.getVersion() + 1, createdIds);
+    }
+
+    /**
+     * 바뀐 서명 필드가 같은 페이지의 다른 서명 필드와 겹치면 거부한다.
+     * 이 트랜잭션의 변경을 flush 한 뒤 해당 페이지만 다시 읽어 격자를 만든다 (커밋 전 상태라 공유 인덱스는 쓰지 않음).
+     */
+    private void validateSignatureOverlaps(Long documentId, List<FieldBox> upserted) {
+        Map<Integer, List<FieldBox>> signaturesByPage = upserted.stream()
+                .filter(box -> box.getType() == FieldType.SIGNATURE)
+                .collect(Collectors.groupingBy(FieldBox::getPage));
+        if (signaturesByPage.isEmpty()) return;
+
+        fieldRepository.flush();
+        for (Map.Entry<Integer, List<FieldBox>> e : signaturesByPage.entrySet()) {
+            FieldGrid grid = FieldGrid.of(fieldIndexProperties.getCellSize(),
+                    documentTemplateService.effectiveBoxes(documentId, e.getKey()));
+            for (FieldBox box : e.getValue()) {
+                boolean collides = grid.query(box.getX(), box.getY(), box.getW(), box.getH(),
+                                other -> other.getType() == FieldType.SIGNATURE && !other.getId().equals(box.getId()))
+                        .stream().findAny().isPresent();
+                if (collides) {
+                    throw new IllegalArgumentException("서명 영역이 다른 서명 필드와 겹칩니다. : " + box.getId());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.FieldIndexProperties;
+import com.roa.forge.dto.FieldBox;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (문서, 페이지) 별 필드 격자 인덱스를 메모리에 LRU 로 유지한다.
+ * 최초 조회 시 idx_field_document_page 로 해당 페이지만 읽어(템플릿 인스턴스는 템플릿 레이아웃과 합쳐) 만들고, 이후에는 레이아웃 변경 이벤트로 증분 갱신한다.
+ */
+@Component
+public class FieldSpatialIndex {
+
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    public static final class Key {
+        private final Long documentId;
+        private final int page;
+    }
+
+    private final DocumentTemplateService documentTemplateService;
+    private final double cellSize;
+    private final int maxPages;
+
+    /** accessOrder=true 로 LRU 순서 유지, 접근은 this 로 동기화 */
+    private final LinkedHashMap<Key, FieldGrid> grids;
+
+    /** 적재 도중 커밋된 변경을 놓치지 않도록, 변경이 있었으면 적재 결과를 캐시에 올리지 않는다 */
+    private final AtomicLong modifications = new AtomicLong();
+
+    public FieldSpatialIndex(DocumentTemplateService documentTemplateService, FieldIndexProperties properties) {
+        this.documentTemplateService = documentTemplateService;
+        this.cellSize = properties.getCellSize();
+        this.maxPages = properties.getMaxPages();
+        this.grids = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, FieldGrid> eldest) {
+                return size() > FieldSpatialIndex.this.maxPages;
+            }
+        };
+    }
+
+    public FieldGrid grid(Long documentId, int page) {
+        Key key = new Key(documentId, page);
+        synchronized (this) {
+            FieldGrid grid = grids.get(key);
+            if (grid != null) return grid;
+        }
+
+        long seen = modifications.get();
+        FieldGrid loaded = FieldGrid.of(cellSize, documentTemplateService.effectiveBoxes(documentId, page));
+        synchronized (this) {
+            FieldGrid existing = grids.get(key);
+            if (existing != null) return existing;
+            if (modifications.get() == seen) grids.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /** 커밋된 변경만 반영, 메모리에 없는 페이지는 다음 조회 때 DB 에서 새로 만든다 */
+    @TransactionalEventListener
+    public void onLayoutChanged(FieldLayoutChangedEvent event) {
+        List<FieldGrid> loaded = new ArrayList<>();
+        Map<Integer, FieldGrid> byPage = new HashMap<>();
+        synchronized (this) {
+            modifications.incrementAndGet();
+            for (Map.Entry<Key, FieldGrid> e : grids.entrySet()) {
+                if (!e.getKey().getDocumentId().equals(event.getDocumentId())) continue;
+                loaded.add(e.getValue());
+                byPage.put(e.getKey().getPage(), e.getValue());
+            }
+        }
+        if (loaded.isEmpty()) return;
+
+        // 페이지를 옮긴 필드도 있으므로 먼저 모든 페이지에서 지우고 새 페이지에 넣는다
+        for (FieldGrid grid : loaded) {
+            event.getDeleted().forEach(grid::remove);
+            event.getUpserted().forEach(box -> grid.remove(box.getId()));
+        }
+        for (FieldBox box : event.getUpserted()) {
+            FieldGrid grid = byPage.get(box.getPage());
+            if (grid != null) grid.put(box);
+        }
+    }
+
+    public synchronized int size() {
+        return grids.size();
+    }
+}
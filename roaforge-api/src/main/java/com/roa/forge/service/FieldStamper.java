@@ -0,0 +1,145 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.SigningProperties;
+import com.roa.forge.config.StampingProperties;
+import com.roa.forge.entity.FieldType;
+import lombok.RequiredArgsConstructor;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * TEXT/DATE/CHECKBOX 필드 값을 서명 전에 페이지 내용으로 새긴다.
+ * 필드를 페이지별로 묶어 페이지마다 내용 스트림 하나만 덧붙이고, 글꼴은 문서당 한 번만 넣는다.
+ * 페이지 트리도 한 번만 순회하므로 필드 수가 많아도 한 번에 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FieldStamper {
+
+    private final StampFontCache fontCache;
+    private final StampingProperties stampingProperties;
+    private final SigningProperties signingProperties;
+
+    public void stamp(Path source, Path target, List<StampItem> items) throws IOException {
+        boolean large = Files.size(source) >= signingProperties.getStreamingThreshold().toBytes();
+        try (PDDocument doc = large
+                ? Loader.loadPDF(source.toFile(), IOUtils.createTempFileOnlyStreamCache())
+                : Loader.loadPDF(source.toFile())) {
+
+            stamp(doc, items);
+
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), 64 * 1024)) {
+                doc.save(out);
+            }
+        }
+    }
+
+    /** 열린 문서에 새기기만 한다 (저장은 호출 측) */
+    void stamp(PDDocument doc, List<StampItem> items) throws IOException {
+        TreeMap<Integer, List<StampItem>> byPage = items.stream()
+                .sorted(Comparator.comparing(StampItem::getFieldId))
+                .collect(Collectors.groupingBy(StampItem::getPage, TreeMap::new, Collectors.toList()));
+        if (byPage.isEmpty()) return;
+
+        int lastPage = byPage.lastKey();
+        if (lastPage > doc.getNumberOfPages()) {
+            throw new IllegalArgumentException("필드 페이지가 문서 범위를 벗어났습니다. : " + byPage.get(lastPage).get(0).getFieldId());
+        }
+
+        StampFont stampFont = fontCache.get();
+        PDFont font = null;
+
+        Iterator<PDPage> pages = doc.getPages().iterator();
+        int pageNumber = 0;
+        for (Map.Entry<Integer, List<StampItem>> entry : byPage.entrySet()) {
+            PDPage page = null;
+            while (pageNumber < entry.getKey()) {
+                page = pages.next();
+                pageNumber++;
+            }
+            PDRectangle crop = page.getCropBox();
+
+            try (PDPageContentStream cs = new PDPageContentStream(doc, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
+                for (StampItem item : entry.getValue()) {
+                    if (item.getType() == FieldType.CHECKBOX) {
+                        drawCheck(cs, crop, item);
+                    } else {
+                        if (font == null) font = stampFont.load(doc);
+                        drawText(cs, crop, item, stampFont, font);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 필드 높이에 맞춘 크기로 한 줄 출력. 폭을 넘으면 최소 크기까지 줄이고, 그래도 넘치면 필드 경계에서 자른다.
+     * 에디터 좌표는 좌상단 원점(pt) 기준이라 PDF 좌하단 원점으로 변환한다.
+     */
+    private void drawText(PDPageContentStream cs, PDRectangle crop, StampItem item,
+                          StampFont stampFont, PDFont font) throws IOException {
+        String text = stampFont.printable(item.getValue().strip());
+        if (text.isBlank()) return;
+
+        float w = (float) item.getW();
+        float h = (float) item.getH();
+        float x = crop.getLowerLeftX() + (float) item.getX();
+        float y = crop.getUpperRightY() - (float) item.getY() - h;
+        float padding = stampingProperties.getPadding();
+
+        float size = Math.min(stampingProperties.getMaxFontSize(), h - 2 * padding);
+        size = Math.max(size, stampingProperties.getMinFontSize());
+        float width = stampFont.width(text, size);
+        float available = w - 2 * padding;
+        if (width > available && width > 0) {
+            size = Math.max(stampingProperties.getMinFontSize(), size * available / width);
+        }
+
+        cs.saveGraphicsState();
+        cs.addRect(x, y, w, h);
+        cs.clip();
+        cs.beginText();
+        cs.setFont(font, size);
+        // 대문자 높이를 글자 크기의 0.7 로 보고 세로 가운데 정렬
+        cs.newLineAtOffset(x + padding, y + (h - size * 0.7f) / 2);
+        cs.showText(text);
+        cs.endText();
+        cs.restoreGraphicsState();
+    }
+
+    private void drawCheck(PDPageContentStream cs, PDRectangle crop, StampItem item) throws IOException {
+        float w = (float) item.getW();
+        float h = (float) item.getH();
+        float x = crop.getLowerLeftX() + (float) item.getX();
+        float y = crop.getUpperRightY() - (float) item.getY() - h;
+        float side = Math.min(w, h) * 0.8f;
+        float left = x + (w - side) / 2;
+        float bottom = y + (h - side) / 2;
+
+        cs.saveGraphicsState();
+        cs.setLineWidth(Math.max(0.8f, side * 0.12f));
+        cs.moveTo(left, bottom + side * 0.5f);
+        cs.lineTo(left + side * 0.38f, bottom + side * 0.1f);
+        cs.lineTo(left + side, bottom + side * 0.9f);
+        cs.stroke();
+        cs.restoreGraphicsState();
+    }
+}
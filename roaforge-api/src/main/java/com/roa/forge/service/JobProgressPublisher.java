@@ -0,0 +1,102 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.JobProperties;
+import com.roa.forge.dto.JobProgress;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/** 작업 진행률 SSE 구독 관리 - 전송 실패한 구독자는 바로 정리한다 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobProgressPublisher {
+
+    private final JobProperties jobProperties;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * 구독을 먼저 등록한 뒤 현재 진행률을 읽는다.
+     * 그 사이 작업이 끝나 finished 가 먼저 지나갔더라도 읽은 상태가 종료이므로 바로 닫힌다.
+     */
+    public SseEmitter subscribe(Long jobId, Supplier<JobProgress> current) {
+        SseEmitter emitter = new SseEmitter(jobProperties.getSseTimeout().toMillis());
+        // 등록/정리를 키 단위로 원자적으로 해야 정리 중인 빈 목록에 붙는 일이 없다
+        emitters.compute(jobId, (id, list) -> {
+            List<SseEmitter> l = list == null ? new CopyOnWriteArrayList<>() : list;
+            l.add(emitter);
+            return l;
+        });
+        Runnable remove = () -> unregister(jobId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        JobProgress progress;
+        try {
+            progress = current.get();
+        } catch (RuntimeException e) {
+            remove.run();
+            throw e;
+        }
+        if (progress.getStatus() != null && isTerminal(progress)) {
+            remove.run();
+            if (send(emitter, "finished", progress)) emitter.complete();
+        } else {
+            send(emitter, "progress", progress);
+        }
+        return emitter;
+    }
+
+    public void progress(JobProgress progress) {
+        List<SseEmitter> list = emitters.get(progress.getJobId());
+        if (list == null) return;
+        for (SseEmitter emitter : list) {
+            if (!send(emitter, "progress", progress)) list.remove(emitter);
+        }
+    }
+
+    /** 마지막 이벤트 후 연결 종료 */
+    public void finished(JobProgress progress) {
+        List<SseEmitter> list = emitters.remove(progress.getJobId());
+        if (list == null) return;
+        for (SseEmitter emitter : list) {
+            if (send(emitter, "finished", progress)) emitter.complete();
+        }
+    }
+
+    /** 빈 목록은 맵에서 치운다 - finished 가 이미 지나간 작업에 남지 않게 */
+    private void unregister(Long jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private boolean send(SseEmitter emitter, String name, JobProgress progress) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(progress));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패: jobId={}", progress.getJobId(), e);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private static boolean isTerminal(JobProgress progress) {
+        return switch (progress.getStatus()) {
+            case COMPLETED, COMPLETED_WITH_ERRORS, CANCELLED -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,318 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.SigningProperties;
+import com.roa.forge.entity.SignatureLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature;
+import org.apache.pdfbox.pdmodel.interactive.digitalsignature.SignatureOptions;
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.cms.Attribute;
+import org.bouncycastle.asn1.cms.AttributeTable;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.tsp.TimeStampToken;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 서명된 PDF 에 LTV 검증 데이터를 증분 업데이트로 덧붙인다.
+ * 1) 문서의 모든 서명/타임스탬프 CMS 에서 인증서를 모아 체인별 OCSP(없으면 CRL)를 받아 /DSS 에 넣고 (B-LT),
+ * 2) 필요하면 그 위에 문서 타임스탬프(/DocTimeStamp)를 한 번 더 붙인다 (B-LTA).
+ * 이미 B-LTA 인 문서에 다시 돌리면 이전 문서 타임스탬프의 검증 데이터 + 새 문서 타임스탬프가 추가된다 (재타임스탬프).
+ * 베이스라인 프로필에서 선택 사항인 /VRI 는 만들지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LtvAugmenter {
+
+    private static final COSName DSS = COSName.getPDFName("DSS");
+    private static final COSName CERTS = COSName.getPDFName("Certs");
+    private static final COSName OCSPS = COSName.getPDFName("OCSPs");
+    private static final COSName CRLS = COSName.getPDFName("CRLs");
+
+    private final RevocationDataService revocationDataService;
+    private final TimestampClient timestampClient;
+    private final SigningProperties signingProperties;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final SignatureLevel level;
+        /** 새 문서 타임스탬프 TSA 인증서 만료 시각 (B-LT 면 null) */
+        private final Instant archiveExpiresAt;
+        private final int addedCerts;
+        private final int addedOcsps;
+        private final int addedCrls;
+    }
+
+    /** 키는 SHA-256 hex - 같은 CA 의 CRL/OCSP 가 여러 인증서에서 나와도 한 번만 넣는다 */
+    private static final class ValidationData {
+        final Map<String, byte[]> certs = new LinkedHashMap<>();
+        final Map<String, byte[]> ocsps = new LinkedHashMap<>();
+        final Map<String, byte[]> crls = new LinkedHashMap<>();
+    }
+
+    /** source 를 보강해 target 으로 원자적 이동 (source == target 이어도 된다) */
+    public Result augment(Path source, Path target, boolean documentTimestamp) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path withDss = Files.createTempFile(dir, ".ltv-", ".pdf");
+        Path stamped = null;
+        try {
+            int[] added;
+            try (PDDocument doc = load(source)) {
+                ValidationData data = collect(doc);
+                added = appendDss(doc, data);
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(withDss), 64 * 1024)) {
+                    doc.saveIncremental(out);
+                }
+            }
+
+            Instant archiveExpiresAt = null;
+            Path result = withDss;
+            if (documentTimestamp) {
+                stamped = Files.createTempFile(dir, ".lta-", ".pdf");
+                archiveExpiresAt = addDocumentTimestamp(withDss, stamped);
+                result = stamped;
+            }
+            Files.move(result, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new Result(documentTimestamp ? SignatureLevel.B_LTA : SignatureLevel.B_LT,
+                    archiveExpiresAt, added[0], added[1], added[2]);
+        } finally {
+            Files.deleteIfExists(withDss);
+            if (stamped != null) Files.deleteIfExists(stamped);
+        }
+    }
+
+    // ---- 검증 데이터 수집 ----
+
+    private ValidationData collect(PDDocument doc) throws IOException {
+        Map<String, X509CertificateHolder> pool = new LinkedHashMap<>();
+        for (PDSignature signature : doc.getSignatureDictionaries()) {
+            byte[] contents = signature.getContents();
+            if (contents == null || contents.length == 0) continue;
+            try {
+                CMSSignedData cms = new CMSSignedData(contents);
+                addCertificates(pool, cms);
+                // 서명 타임스탬프(B-T) 토큰 안의 TSA 체인
+                for (SignerInformation signer : cms.getSignerInfos().getSigners()) {
+                    AttributeTable unsigned = signer.getUnsignedAttributes();
+                    if (unsigned == null) continue;
+                    ASN1EncodableVector tokens = unsigned.getAll(PKCSObjectIdentifiers.id_aa_signatureTimeStampToken);
+                    for (int i = 0; i < tokens.size(); i++) {
+                        for (ASN1Encodable value : Attribute.getInstance(tokens.get(i)).getAttrValues()) {
+                            addCertificates(pool, new CMSSignedData(value.toASN1Primitive().getEncoded()));
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                throw new IOException("서명 CMS 를 읽을 수 없습니다: " + signature.getName(), e);
+            }
+        }
+
+        ValidationData data = new ValidationData();
+        JcaX509CertificateConverter converter = new JcaX509CertificateConverter();
+        try {
+            for (X509CertificateHolder holder : pool.values()) {
+                data.certs.put(sha256(holder.getEncoded()), holder.getEncoded());
+                if (isSelfSigned(holder)) continue;
+
+                X509CertificateHolder issuerHolder = findIssuer(pool.values(), holder);
+                if (issuerHolder == null) {
+                    log.debug("발급자 인증서가 서명에 없어 폐기 정보를 건너뜀: {}", holder.getSubject());
+                    continue;
+                }
+                addRevocation(data, converter.getCertificate(holder), converter.getCertificate(issuerHolder));
+            }
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("인증서 변환 실패", e);
+        }
+        return data;
+    }
+
+    /** OCSP 우선, 실패하거나 주소가 없으면 CRL */
+    private void addRevocation(ValidationData data, X509Certificate cert, X509Certificate issuer) {
+        List<String> crlUrls = revocationDataService.crlUrls(cert);
+        if (revocationDataService.ocspUrl(cert).isPresent()) {
+            try {
+                OcspResponseData ocsp = revocationDataService.ocsp(cert, issuer);
+                if (ocsp.getStatus() == OcspResponseData.Status.REVOKED) {
+                    log.warn("폐기된 인증서가 서명에 포함되어 있습니다: {} ({})", cert.getSubjectX500Principal(), ocsp.getRevocationTime());
+                }
+                data.ocsps.put(sha256(ocsp.getEncoded()), ocsp.getEncoded());
+                return;
+            } catch (IllegalStateException e) {
+                if (crlUrls.isEmpty()) throw e;
+                log.debug("OCSP 실패, CRL 로 대체: {}", cert.getSubjectX500Principal(), e);
+            }
+        }
+        if (!crlUrls.isEmpty()) {
+            CrlData crl = revocationDataService.crl(crlUrls.get(0), issuer);
+            data.crls.put(sha256(crl.getEncoded()), crl.getEncoded());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addCertificates(Map<String, X509CertificateHolder> pool, CMSSignedData cms) throws IOException {
+        for (X509CertificateHolder holder : (Collection<X509CertificateHolder>) cms.getCertificates().getMatches(null)) {
+            pool.putIfAbsent(sha256(holder.getEncoded()), holder);
+        }
+    }
+
+    private static boolean isSelfSigned(X509CertificateHolder cert) {
+        return cert.getSubject().equals(cert.getIssuer()) && signedBy(cert, cert);
+    }
+
+    private static X509CertificateHolder findIssuer(Collection<X509CertificateHolder> pool, X509CertificateHolder cert) {
+        for (X509CertificateHolder candidate : pool) {
+            if (candidate != cert && candidate.getSubject().equals(cert.getIssuer()) && signedBy(cert, candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static boolean signedBy(X509CertificateHolder cert, X509CertificateHolder issuer) {
+        try {
+            return cert.isSignatureValid(new JcaContentVerifierProviderBuilder().build(issuer));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // ---- /DSS ----
+
+    /** @return 새로 추가한 {인증서, OCSP, CRL} 수 */
+    private static int[] appendDss(PDDocument doc, ValidationData data) throws IOException {
+        COSDictionary catalog = doc.getDocumentCatalog().getCOSObject();
+        COSDictionary dss = catalog.getCOSDictionary(DSS);
+        if (dss == null) {
+            dss = new COSDictionary();
+            catalog.setItem(DSS, dss);
+        }
+        int[] added = {
+                appendStreams(doc, dss, CERTS, data.certs),
+                appendStreams(doc, dss, OCSPS, data.ocsps),
+                appendStreams(doc, dss, CRLS, data.crls)
+        };
+        dss.setNeedToBeUpdated(true);
+        catalog.setNeedToBeUpdated(true);
+        return added;
+    }
+
+    private static int appendStreams(PDDocument doc, COSDictionary dss, COSName key, Map<String, byte[]> items)
+            throws IOException {
+        if (items.isEmpty()) return 0;
+        COSArray array = dss.getCOSArray(key);
+        if (array == null) {
+            array = new COSArray();
+            dss.setItem(key, array);
+        }
+
+        // 재타임스탬프 때 같은 인증서/응답이 다시 들어가지 않도록 기존 항목과 비교
+        Set<String> existing = new HashSet<>();
+        for (int i = 0; i < array.size(); i++) {
+            COSBase item = array.getObject(i);
+            if (item instanceof COSStream stream) {
+                try (InputStream in = stream.createInputStream()) {
+                    existing.add(sha256(in.readAllBytes()));
+                }
+            }
+        }
+
+        int added = 0;
+        for (Map.Entry<String, byte[]> item : items.entrySet()) {
+            if (!existing.add(item.getKey())) continue;
+            COSStream stream = doc.getDocument().createCOSStream();
+            try (OutputStream out = stream.createOutputStream(COSName.FLATE_DECODE)) {
+                out.write(item.getValue());
+            }
+            array.add(stream);
+            added++;
+        }
+        array.setNeedToBeUpdated(true);
+        return added;
+    }
+
+    // ---- 문서 타임스탬프 ----
+
+    /** 빈 /Contents 로 먼저 저장하고 ByteRange 다이제스트에 대한 RFC 3161 토큰을 제자리에 기록 */
+    private Instant addDocumentTimestamp(Path source, Path target) throws IOException {
+        try (PDDocument doc = load(source);
+             SignatureOptions options = new SignatureOptions()) {
+            options.setPreferredSignatureSize(signingProperties.getSignatureSize());
+
+            PDSignature timestamp = new PDSignature();
+            timestamp.setType(COSName.DOC_TIME_STAMP);
+            timestamp.setFilter(PDSignature.FILTER_ADOBE_PPKLITE);
+            timestamp.setSubFilter(PDSignature.SUBFILTER_ETSI_RFC3161);
+            doc.addSignature(timestamp, options);
+
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), 64 * 1024)) {
+                doc.saveIncrementalForExternalSigning(out).setSignature(new byte[0]);
+            }
+        }
+
+        long incrementalStart = Files.size(source);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long[] byteRange = MappedByteRangeSupport.findByteRange(channel, incrementalStart);
+            byte[] digest = MappedByteRangeSupport.digest(channel, byteRange, CmsSignatureService.DIGEST_ALGORITHM);
+            TimeStampToken token = timestampClient.timestampDigest(digest);
+            MappedByteRangeSupport.writeContents(channel, byteRange, token.getEncoded());
+            return tsaNotAfter(token);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Instant tsaNotAfter(TimeStampToken token) {
+        Collection<X509CertificateHolder> matches = token.getCertificates().getMatches(token.getSID());
+        return matches.stream().findFirst().map(cert -> cert.getNotAfter().toInstant()).orElse(null);
+    }
+
+    private PDDocument load(Path path) throws IOException {
+        if (Files.size(path) >= signingProperties.getStreamingThreshold().toBytes()) {
+            return Loader.loadPDF(path.toFile(), IOUtils.createTempFileOnlyStreamCache());
+        }
+        return Loader.loadPDF(path.toFile());
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.LtvProperties;
+import com.roa.forge.dto.LtvStatusResponse;
+import com.roa.forge.entity.Document;
+import com.roa.forge.entity.LtvStatus;
+import com.roa.forge.entity.SignatureLevel;
+import com.roa.forge.repository.DocumentRepository;
+import com.roa.forge.repository.SignatureLogRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 서명 경로 밖에서 도는 LTV 보강 파이프라인.
+ * 서명은 B-B/B-T 를 적용하자마자 응답하고 문서를 PENDING 으로 남긴다. 여기서 주기적으로 대기 문서를 배치로 선점해
+ * 검증 데이터(+문서 타임스탬프)를 덧붙이고, 문서 타임스탬프 만료가 다가온 B-LTA 문서는 다시 대기열에 넣는다.
+ * 상태는 Document 컬럼에 있어 재기동해도 이어서 처리한다.
+ */
+@Slf4j
+@Service
+public class LtvService {
+
+    private final DocumentRepository documentRepository;
+    private final SignatureLogRepository signatureLogRepository;
+    private final LtvAugmenter ltvAugmenter;
+    private final DocumentFileLocks fileLocks;
+    private final StorageService storageService;
+    private final TimestampClient timestampClient;
+    private final LtvProperties ltvProperties;
+    private final TaskScheduler ltvScheduler;
+    private final Executor ltvWorkerExecutor;
+
+    private final List<ScheduledFuture<?>> tasks = new ArrayList<>();
+
+    public LtvService(DocumentRepository documentRepository,
+                      SignatureLogRepository signatureLogRepository,
+                      LtvAugmenter ltvAugmenter,
+                      DocumentFileLocks fileLocks,
+                      StorageService storageService,
+                      TimestampClient timestampClient,
+                      LtvProperties ltvProperties,
+                      @Qualifier("ltvScheduler") TaskScheduler ltvScheduler,
+                      @Qualifier("ltvWorkerExecutor") Executor ltvWorkerExecutor) {
+        this.documentRepository = documentRepository;
+        this.signatureLogRepository = signatureLogRepository;
+        this.ltvAugmenter = ltvAugmenter;
+        this.fileLocks = fileLocks;
+        this.storageService = storageService;
+        this.timestampClient = timestampClient;
+        this.ltvProperties = ltvProperties;
+        this.ltvScheduler = ltvScheduler;
+        this.ltvWorkerExecutor = ltvWorkerExecutor;
+    }
+
+    /** B-LT 는 서명 타임스탬프(B-T)를 전제로 하므로 TSA 가 없으면 보강하지 않는다 */
+    public boolean isActive() {
+        return ltvProperties.isEnabled() && timestampClient.isEnabled();
+    }
+
+    /** 방금 서명한 문서의 보강 시작 시각 (보강하지 않으면 null) */
+    public LocalDateTime scheduleAfterSigning() {
+        return isActive() ? LocalDateTime.now().plus(ltvProperties.getDelay()) : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!isActive()) {
+            if (ltvProperties.isEnabled()) log.warn("app.pki.tsa-url 이 없어 LTV 보강을 시작하지 않습니다.");
+            return;
+        }
+        int reset = documentRepository.resetInterruptedLtv(LocalDateTime.now());
+        if (reset > 0) log.info("중단된 LTV 보강 {}건을 대기열로 되돌림", reset);
+
+        tasks.add(ltvScheduler.scheduleWithFixedDelay(this::poll, ltvProperties.getPollInterval()));
+        if (ltvProperties.getTargetLevel() == SignatureLevel.B_LTA) {
+            tasks.add(ltvScheduler.scheduleWithFixedDelay(this::requeueRenewals, ltvProperties.getRenewalCheckInterval()));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        tasks.forEach(task -> task.cancel(false));
+    }
+
+    public LtvStatusResponse status(Long documentId) {
+        return LtvStatusResponse.of(find(documentId));
+    }
+
+    /** 실패했거나 끝난 문서를 다시 보강 (DONE 이면 재타임스탬프) */
+    public LtvStatusResponse retry(Long documentId) {
+        find(documentId);
+        if (!isActive()) {
+            throw new IllegalStateException("LTV 보강이 비활성화되어 있습니다.");
+        }
+        if (documentRepository.requeueLtv(documentId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("재시도할 수 없는 상태입니다. : " + documentId);
+        }
+        return status(documentId);
+    }
+
+    /** 대기 문서 한 배치를 워커에 나눠 처리하고 끝날 때까지 기다린다 (다음 폴링과 겹치지 않게) */
+    void poll() {
+        try {
+            List<Long> ids = documentRepository.findLtvDue(LocalDateTime.now(),
+                    PageRequest.of(0, Math.max(1, ltvProperties.getBatchSize())));
+            if (ids.isEmpty()) return;
+            List<CompletableFuture<Void>> futures = ids.stream()
+                    .map(id -> CompletableFuture.runAsync(() -> process(id), ltvWorkerExecutor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (Exception e) {
+            log.warn("LTV 보강 폴링 실패", e);
+        }
+    }
+
+    void requeueRenewals() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int queued = documentRepository.requeueArchiveRenewals(now, now.plus(ltvProperties.getRenewBefore()));
+            if (queued > 0) log.info("문서 타임스탬프 만료 임박 {}건 재타임스탬프 예약", queued);
+        } catch (Exception e) {
+            log.warn("재타임스탬프 대상 점검 실패", e);
+        }
+    }
+
+    void process(Long documentId) {
+        if (documentRepository.claimLtv(documentId) == 0) return;
+        if (!fileLocks.tryAcquire(documentId)) {
+            // 서명 중인 문서 - 시도 횟수를 쓰지 않고 다음 폴링으로
+            documentRepository.releaseLtv(documentId, LocalDateTime.now().plus(ltvProperties.getPollInterval()));
+            return;
+        }
+        Document document = null;
+        try {
+            document = find(documentId);
+            if (document.getSignedPath() == null) {
+                throw new IllegalStateException("서명본이 없는 문서입니다. : " + documentId);
+            }
+            Path signed = storageService.resolve(document.getSignedPath());
+            boolean archive = ltvProperties.getTargetLevel() == SignatureLevel.B_LTA;
+
+            long started = System.nanoTime();
+            LtvAugmenter.Result result = ltvAugmenter.augment(signed, signed, archive);
+            LocalDateTime archiveExpiresAt = result.getArchiveExpiresAt() == null ? null
+                    : LocalDateTime.ofInstant(result.getArchiveExpiresAt(), ZoneId.systemDefault());
+
+            if (documentRepository.completeLtv(documentId, document.getSignedAt(), result.getLevel(), archiveExpiresAt) == 1) {
+                // 이미 기록된 로그만 갱신된다 - 아직 큐에 있는 로그는 AuditLogWriter 가 insert 때 문서 수준을 반영
+                signatureLogRepository.updateSignatureLevel(documentId, document.getSignedAt(), result.getLevel());
+            }
+            log.debug("문서 {} LTV 보강 완료: {}, 인증서 {} / OCSP {} / CRL {}, {}ms", documentId, result.getLevel(),
+                    result.getAddedCerts(), result.getAddedOcsps(), result.getAddedCrls(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            int attempts = (document == null ? 0 : document.getLtvAttempts()) + 1;
+            boolean exhausted = attempts >= ltvProperties.getMaxAttempts();
+            Duration backoff = ltvProperties.getRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 10));
+            documentRepository.failLtv(documentId, exhausted ? LtvStatus.FAILED : LtvStatus.PENDING,
+                    LocalDateTime.now().plus(backoff), ErrorMessages.truncate(e.getMessage()));
+            log.warn("문서 {} LTV 보강 실패 ({}회째{})", documentId, attempts, exhausted ? ", 중단" : "", e);
+        } finally {
+            fileLocks.release(documentId);
+        }
+    }
+
+    private Document find(Long documentId) {
+        return documentRepository.findById(documentId)
+                .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다. : " + documentId));
+    }
+}
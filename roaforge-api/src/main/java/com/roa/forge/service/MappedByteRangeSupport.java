@@ -0,0 +1,100 @@
+package com.roa.forge.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 서명 자리(/Contents)가 비어 있는 PDF 파일 위에서 ByteRange 다이제스트 계산과 서명 기록을 직접 수행한다.
+ * 파일 내용은 memory-mapped 버퍼로만 읽어서 파일 크기와 무관하게 힙 사용량이 일정하다.
+ */
+final class MappedByteRangeSupport {
+
+    /** 한 번에 매핑할 최대 구간 (MappedByteBuffer 는 2GB 제한) */
+    private static final long MAP_CHUNK = 256L * 1024 * 1024;
+
+    private static final byte[] BYTE_RANGE = "/ByteRange".getBytes(StandardCharsets.US_ASCII);
+
+    private MappedByteRangeSupport() {
+    }
+
+    /**
+     * from 이후(= 이번 증분 업데이트 구간)에서 /ByteRange [a b c d] 를 찾는다.
+     */
+    static long[] findByteRange(FileChannel channel, long from) throws IOException {
+        long size = channel.size();
+        MappedByteBuffer tail = channel.map(FileChannel.MapMode.READ_ONLY, from, size - from);
+        int start = indexOf(tail, BYTE_RANGE);
+        if (start < 0) throw new IOException("증분 업데이트 구간에서 /ByteRange 를 찾을 수 없습니다.");
+
+        int pos = start + BYTE_RANGE.length;
+        while (pos < tail.limit() && tail.get(pos) != '[') pos++;
+        long[] range = new long[4];
+        int idx = 0;
+        long value = -1;
+        for (pos++; pos < tail.limit() && idx < 4; pos++) {
+            byte b = tail.get(pos);
+            if (b >= '0' && b <= '9') {
+                value = (value < 0 ? 0 : value * 10) + (b - '0');
+            } else if (value >= 0) {
+                range[idx++] = value;
+                value = -1;
+            }
+            if (b == ']') break;
+        }
+        if (idx != 4 || range[0] != 0 || range[2] + range[3] != size || range[1] >= range[2]) {
+            throw new IOException("ByteRange 형식이 올바르지 않습니다.");
+        }
+        return range;
+    }
+
+    /** ByteRange 두 구간을 매핑된 버퍼로 순회하며 다이제스트 */
+    static byte[] digest(FileChannel channel, long[] range, String algorithm) throws IOException {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(md, channel, range[0], range[1]);
+        update(md, channel, range[2], range[3]);
+        return md.digest();
+    }
+
+    /** /Contents 자리표시자(< 와 > 사이)에 CMS 를 hex 로 기록 */
+    static void writeContents(FileChannel channel, long[] range, byte[] cms) throws IOException {
+        byte[] hex = HexFormat.of().withUpperCase().formatHex(cms).getBytes(StandardCharsets.US_ASCII);
+        long capacity = range[2] - range[1] - 2;
+        if (hex.length > capacity) {
+            throw new IOException("서명 크기(" + cms.length + "B)가 예약 공간을 초과합니다. app.signing.signature-size 를 늘리세요.");
+        }
+        ByteBuffer buf = ByteBuffer.wrap(hex);
+        long pos = range[1] + 1;
+        while (buf.hasRemaining()) pos += channel.write(buf, pos);
+        channel.force(false);
+    }
+
+    private static void update(MessageDigest md, FileChannel channel, long offset, long length) throws IOException {
+        long end = offset + length;
+        for (long pos = offset; pos < end; pos += MAP_CHUNK) {
+            long len = Math.min(MAP_CHUNK, end - pos);
+            md.update(channel.map(FileChannel.MapMode.READ_ONLY, pos, len));
+        }
+    }
+
+    private static int indexOf(ByteBuffer buf, byte[] pattern) {
+        outer:
+        for (int i = 0, last = buf.limit() - pattern.length; i <= last; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (buf.get(i + j) != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
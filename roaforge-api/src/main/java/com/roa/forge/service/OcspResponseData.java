@@ -0,0 +1,27 @@
+package com.roa.forge.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/** 검증을 마친 OCSP 응답 하나 (인증서 1건 기준), encoded 는 LTV 임베딩용 원본 DER */
+@Getter
+@RequiredArgsConstructor
+public class OcspResponseData {
+
+    public enum Status { GOOD, REVOKED, UNKNOWN }
+
+    private final Status status;
+    /** REVOKED 일 때만 */
+    private final Instant revocationTime;
+    private final Instant thisUpdate;
+    /** 응답에 없으면 null */
+    private final Instant nextUpdate;
+    private final Instant producedAt;
+    private final byte[] encoded;
+
+    public boolean isRevokedAt(Instant time) {
+        return status == Status.REVOKED && !time.isBefore(revocationTime);
+    }
+}
@@ -0,0 +1,162 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.SigningProperties;
+import lombok.RequiredArgsConstructor;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotationWidget;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceDictionary;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAppearanceStream;
+import org.apache.pdfbox.pdmodel.interactive.digitalsignature.ExternalSigningSupport;
+import org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature;
+import org.apache.pdfbox.pdmodel.interactive.digitalsignature.SignatureOptions;
+import org.apache.pdfbox.pdmodel.interactive.form.PDAcroForm;
+import org.apache.pdfbox.pdmodel.interactive.form.PDSignatureField;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Calendar;
+
+/**
+ * SIGNATURE 필드 하나를 PAdES-B-B 증분 업데이트로 적용한다.
+ * 스레드 간 공유 상태가 없어서 서명 워커들이 동시에 호출해도 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PadesSigner {
+
+    private final CmsSignatureService cmsSignatureService;
+    private final SigningProperties signingProperties;
+
+    public void sign(Path source, Path target, SignatureSlot slot, String signerName, SignerCredential credential)
+            throws IOException {
+        if (Files.size(source) >= signingProperties.getStreamingThreshold().toBytes()) {
+            signStreaming(source, target, slot, signerName, credential);
+        } else {
+            signBuffered(source, target, slot, signerName, credential);
+        }
+    }
+
+    /** 일반 크기 문서: PDFBox 가 넘겨주는 ByteRange 스트림을 다이제스트 */
+    private void signBuffered(Path source, Path target, SignatureSlot slot, String signerName,
+                              SignerCredential credential) throws IOException {
+        try (PDDocument doc = Loader.loadPDF(source.toFile());
+             SignatureOptions options = new SignatureOptions();
+             OutputStream out = Files.newOutputStream(target)) {
+
+            prepare(doc, options, slot, signerName);
+
+            ExternalSigningSupport externalSigning = doc.saveIncrementalForExternalSigning(out);
+            byte[] digest = digest(externalSigning.getContent());
+            externalSigning.setSignature(cmsSignatureService.sign(digest, credential));
+        }
+    }
+
+    /**
+     * 대용량 문서: 문서는 디스크에 둔 채(임시파일 스트림 캐시) 빈 /Contents 로 먼저 저장하고,
+     * 결과 파일을 memory-mapped 로 읽어 다이제스트한 뒤 서명을 제자리에 기록한다.
+     */
+    private void signStreaming(Path source, Path target, SignatureSlot slot, String signerName,
+                               SignerCredential credential) throws IOException {
+        try (PDDocument doc = Loader.loadPDF(source.toFile(), IOUtils.createTempFileOnlyStreamCache());
+             SignatureOptions options = new SignatureOptions()) {
+
+            prepare(doc, options, slot, signerName);
+
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), 64 * 1024)) {
+                doc.saveIncrementalForExternalSigning(out).setSignature(new byte[0]);
+            }
+        }
+
+        long incrementalStart = Files.size(source);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long[] byteRange = MappedByteRangeSupport.findByteRange(channel, incrementalStart);
+            byte[] digest = MappedByteRangeSupport.digest(channel, byteRange, CmsSignatureService.DIGEST_ALGORITHM);
+            MappedByteRangeSupport.writeContents(channel, byteRange, cmsSignatureService.sign(digest, credential));
+        }
+    }
+
+    private void prepare(PDDocument doc, SignatureOptions options, SignatureSlot slot, String signerName)
+            throws IOException {
+        if (slot.getPage() > doc.getNumberOfPages()) {
+            throw new IllegalArgumentException("서명 필드 페이지가 문서 범위를 벗어났습니다. : " + slot.getFieldId());
+        }
+        options.setPreferredSignatureSize(signingProperties.getSignatureSize());
+        options.setPage(slot.getPage() - 1);
+
+        PDSignature signature = new PDSignature();
+        signature.setFilter(PDSignature.FILTER_ADOBE_PPKLITE);
+        signature.setSubFilter(PDSignature.SUBFILTER_ETSI_CADES_DETACHED);
+        signature.setName(signerName);
+        signature.setSignDate(Calendar.getInstance());
+
+        doc.addSignature(signature, options);
+        placeWidget(doc, signature, slot);
+    }
+
+    /**
+     * PDFBox 는 비가시 서명으로 위젯을 [0 0 0 0] 에 두므로, 저장 전에 필드 위치로 옮긴다.
+     * 에디터 좌표는 좌상단 원점(pt) 기준이라 PDF 좌하단 원점으로 변환한다.
+     */
+    private void placeWidget(PDDocument doc, PDSignature signature, SignatureSlot slot) throws IOException {
+        PDSignatureField sigField = doc.getSignatureFields().stream()
+                .filter(f -> f.getCOSObject().getDictionaryObject(COSName.V) == signature.getCOSObject())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("서명 필드 생성 실패"));
+
+        PDAcroForm acroForm = doc.getDocumentCatalog().getAcroForm();
+        String name = "sig_" + slot.getFieldId();
+        if (acroForm.getField(name) == null) sigField.setPartialName(name);
+
+        PDPage page = doc.getPage(slot.getPage() - 1);
+        PDRectangle crop = page.getCropBox();
+        float w = (float) slot.getW();
+        float h = (float) slot.getH();
+        PDRectangle rect = new PDRectangle(
+                crop.getLowerLeftX() + (float) slot.getX(),
+                crop.getUpperRightY() - (float) slot.getY() - h,
+                w, h);
+
+        PDAppearanceStream appearance = new PDAppearanceStream(doc);
+        appearance.setBBox(new PDRectangle(w, h));
+        appearance.setResources(new PDResources());
+        try (PDPageContentStream cs = new PDPageContentStream(doc, appearance)) {
+            cs.setLineWidth(0.5f);
+            cs.addRect(0, 0, w, h);
+            cs.stroke();
+        }
+        PDAppearanceDictionary appearanceDict = new PDAppearanceDictionary();
+        appearanceDict.setNormalAppearance(appearance);
+
+        PDAnnotationWidget widget = sigField.getWidgets().get(0);
+        widget.setRectangle(rect);
+        widget.setAppearance(appearanceDict);
+    }
+
+    private static byte[] digest(InputStream content) throws IOException {
+        try (InputStream in = content) {
+            MessageDigest md = MessageDigest.getInstance(CmsSignatureService.DIGEST_ALGORITHM);
+            byte[] buf = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buf)) != -1) md.update(buf, 0, n);
+            return md.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
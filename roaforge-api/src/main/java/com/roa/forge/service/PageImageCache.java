@@ -0,0 +1,213 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.PageImageProperties;
+import com.roa.forge.config.StorageProperties;
+import com.roa.forge.dto.PageImageStats;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 페이지 이미지 2단 캐시: 메모리 LRU(인코딩된 바이트 합계로 제한) → 디스크.
+ * 키에 콘텐츠 해시가 들어가므로 값은 불변이고, 별도 무효화 없이 파일이 바뀌면 키가 바뀐다.
+ * 디스크 계층은 쓴 바이트를 세다가 diskMaxSize 를 넘으면 디렉터리를 훑어 수정 시각(디스크 적중 시 갱신)이
+ * 오래된 파일부터 상한의 90% 까지 지운다. 합계는 훑을 때마다 실제 크기로 다시 맞춘다.
+ */
+@Slf4j
+@Component
+public class PageImageCache {
+
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    public static final class Key {
+        private final String contentHash;
+        private final int page;
+        private final int dpi;
+    }
+
+    private final long maxBytes;
+    private final Path diskDir;
+    private final long diskMaxBytes;
+
+    /** 디스크 계층 바이트 합계 (근사치) - 처음 쓸 때 한 번 훑어 실제 값으로 맞춘다 */
+    private final AtomicLong diskBytes = new AtomicLong();
+    private volatile boolean diskScanned;
+    private final AtomicBoolean diskSweeping = new AtomicBoolean();
+
+    /** accessOrder=true 로 LRU 순서 유지, 접근은 this 로 동기화 */
+    private final LinkedHashMap<Key, byte[]> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private long memoryBytes;
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder diskEvictions = new LongAdder();
+
+    public PageImageCache(PageImageProperties pageImageProperties, StorageProperties storageProperties) {
+        this.maxBytes = pageImageProperties.getMemoryMaxSize().toBytes();
+        String dir = pageImageProperties.getDiskDir();
+        this.diskDir = (dir == null || dir.isBlank())
+                ? Paths.get(storageProperties.getRoot(), "page-cache")
+                : Paths.get(dir);
+        this.diskMaxBytes = pageImageProperties.getDiskMaxSize().toBytes();
+    }
+
+    /** 메모리 → 디스크 순으로 조회, 디스크 적중 시 메모리로 올린다 */
+    public byte[] get(Key key) {
+        synchronized (this) {
+            byte[] bytes = memory.get(key);
+            if (bytes != null) {
+                memoryHits.increment();
+                return bytes;
+            }
+        }
+        try {
+            Path path = diskPath(key);
+            byte[] bytes = Files.readAllBytes(path);
+            diskHits.increment();
+            touch(path);
+            putMemory(key, bytes);
+            return bytes;
+        } catch (NoSuchFileException e) {
+            misses.increment();
+            return null;
+        } catch (IOException e) {
+            log.warn("페이지 이미지 디스크 캐시 읽기 실패: {}", key, e);
+            misses.increment();
+            return null;
+        }
+    }
+
+    public boolean contains(Key key) {
+        synchronized (this) {
+            if (memory.containsKey(key)) return true;
+        }
+        return Files.exists(diskPath(key));
+    }
+
+    /** 새로 렌더링한 이미지 저장 (디스크는 임시파일 후 원자적 이동) */
+    public void put(Key key, byte[] bytes) {
+        renders.increment();
+        putMemory(key, bytes);
+        Path target = diskPath(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), ".page-", ".tmp");
+            Files.write(tmp, bytes);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("페이지 이미지 디스크 캐시 쓰기 실패: {}", key, e);
+            return;
+        }
+        if (diskBytes.addAndGet(bytes.length) > diskMaxBytes || !diskScanned) sweepDisk();
+    }
+
+    public synchronized PageImageStats stats() {
+        return new PageImageStats(memoryHits.sum(), diskHits.sum(), misses.sum(), evictions.sum(),
+                renders.sum(), memory.size(), memoryBytes, maxBytes,
+                diskEvictions.sum(), diskBytes.get(), diskMaxBytes);
+    }
+
+    /** 디스크 계층을 훑어 합계를 다시 맞추고, 상한을 넘었으면 오래된 파일부터 지운다 (동시에 하나만) */
+    void sweepDisk() {
+        if (!diskSweeping.compareAndSet(false, true)) return;
+        try {
+            List<DiskEntry> entries = new ArrayList<>();
+            if (Files.isDirectory(diskDir)) {
+                Files.walkFileTree(diskDir, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (file.getFileName().toString().endsWith(".png")) {
+                            entries.add(new DiskEntry(file, attrs.size(), attrs.lastModifiedTime().toMillis()));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        // 훑는 사이 지워진 파일
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            }
+            long total = entries.stream().mapToLong(DiskEntry::size).sum();
+            if (total > diskMaxBytes) {
+                long target = diskMaxBytes / 10 * 9;
+                entries.sort(Comparator.comparingLong(DiskEntry::lastModified));
+                for (DiskEntry entry : entries) {
+                    if (total <= target) break;
+                    if (Files.deleteIfExists(entry.path())) {
+                        total -= entry.size();
+                        diskEvictions.increment();
+                    }
+                }
+            }
+            diskBytes.set(total);
+            diskScanned = true;
+        } catch (IOException e) {
+            log.warn("페이지 이미지 디스크 캐시 정리 실패: {}", diskDir, e);
+        } finally {
+            diskSweeping.set(false);
+        }
+    }
+
+    /** 디스크 적중 시 수정 시각을 갱신해 정리 순서를 LRU 에 가깝게 */
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // 그 사이 정리됐으면 다음 요청에서 다시 렌더링된다
+        }
+    }
+
+    private record DiskEntry(Path path, long size, long lastModified) {
+    }
+
+    private synchronized void putMemory(Key key, byte[] bytes) {
+        if (bytes.length > maxBytes) return;
+        byte[] prev = memory.put(key, bytes);
+        memoryBytes += bytes.length - (prev == null ? 0 : prev.length);
+
+        Iterator<Map.Entry<Key, byte[]>> it = memory.entrySet().iterator();
+        while (memoryBytes > maxBytes && it.hasNext()) {
+            Map.Entry<Key, byte[]> eldest = it.next();
+            memoryBytes -= eldest.getValue().length;
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private Path diskPath(Key key) {
+        String hash = key.getContentHash();
+        return diskDir.resolve(hash.substring(0, 2))
+                .resolve(hash)
+                .resolve("p" + key.getPage() + "-" + key.getDpi() + ".png");
+    }
+}
@@ -0,0 +1,165 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.PageImageProperties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 필드 에디터용 페이지 이미지 제공.
+ * 캐시 미스는 렌더링 풀에서 처리하고, 같은 페이지에 대한 동시 미스는 한 번만 렌더링한다.
+ */
+@Slf4j
+@Service
+public class PageImageService {
+
+    private final DocumentContentService documentContentService;
+    private final PageImageCache pageImageCache;
+    private final PageImageProperties pageImageProperties;
+    private final Executor pageRenderExecutor;
+
+    private final ConcurrentHashMap<PageImageCache.Key, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    public PageImageService(DocumentContentService documentContentService,
+                            PageImageCache pageImageCache,
+                            PageImageProperties pageImageProperties,
+                            @Qualifier("pageRenderExecutor") Executor pageRenderExecutor) {
+        this.documentContentService = documentContentService;
+        this.pageImageCache = pageImageCache;
+        this.pageImageProperties = pageImageProperties;
+        this.pageRenderExecutor = pageRenderExecutor;
+    }
+
+    public CompletableFuture<PageImage> getPageImage(Long documentId, int page, Integer dpi) {
+        if (page < 1) throw new IllegalArgumentException("페이지 번호는 1 이상이어야 합니다.");
+        DocumentContent content = documentContentService.describe(documentId, false);
+        // 페이지 수를 아는 문서는 렌더링 풀에 넘기기 전에 거른다 (모르면 렌더링 스레드에서 확인)
+        if (content.getPageCount() != null && page > content.getPageCount()) {
+            throw new IllegalArgumentException("페이지가 문서 범위를 벗어났습니다. : " + page);
+        }
+        PageImageCache.Key key = new PageImageCache.Key(content.getContentHash(), page, resolveDpi(dpi));
+
+        byte[] cached = pageImageCache.get(key);
+        if (cached != null) return CompletableFuture.completedFuture(new PageImage(key, cached));
+
+        return renderOnce(key, content.getFile()).thenApply(bytes -> new PageImage(key, bytes));
+    }
+
+    /** 업로드 직후 모든 페이지를 미리 렌더링 (문서는 한 번만 연다) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentUploaded(DocumentUploadedEvent event) {
+        // 캐시 키가 contentHash 라 같은 내용은 이미 렌더링됐거나 요청 시 한 번만 렌더링된다
+        if (event.isDuplicate()) return;
+        try {
+            pageRenderExecutor.execute(() -> prerender(event.getDocumentId()));
+        } catch (TaskRejectedException e) {
+            log.warn("렌더링 큐가 가득 차 미리 렌더링을 건너뜁니다. documentId={}", event.getDocumentId());
+        }
+    }
+
+    void prerender(Long documentId) {
+        try {
+            DocumentContent content = documentContentService.describe(documentId, false);
+            try (PDDocument doc = Loader.loadPDF(content.getFile().toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+                PDFRenderer renderer = new PDFRenderer(doc);
+                for (int page = 1; page <= doc.getNumberOfPages(); page++) {
+                    for (int dpi : pageImageProperties.getPrerenderDpis()) {
+                        PageImageCache.Key key = new PageImageCache.Key(content.getContentHash(), page, resolveDpi(dpi));
+                        if (pageImageCache.contains(key)) continue;
+                        pageImageCache.put(key, encode(renderPage(doc, renderer, page - 1, key.getDpi())));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("페이지 미리 렌더링 실패: documentId={}", documentId, e);
+        }
+    }
+
+    private CompletableFuture<byte[]> renderOnce(PageImageCache.Key key, Path file) {
+        CompletableFuture<byte[]> promise = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) return existing;
+
+        try {
+            pageRenderExecutor.execute(() -> {
+                try {
+                    byte[] bytes = render(file, key);
+                    pageImageCache.put(key, bytes);
+                    promise.complete(bytes);
+                } catch (Throwable t) {
+                    promise.completeExceptionally(t);
+                } finally {
+                    inFlight.remove(key, promise);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(key, promise);
+            throw e;
+        }
+        return promise;
+    }
+
+    private byte[] render(Path file, PageImageCache.Key key) {
+        try (PDDocument doc = Loader.loadPDF(file.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            if (key.getPage() > doc.getNumberOfPages()) {
+                throw new IllegalArgumentException("페이지가 문서 범위를 벗어났습니다. : " + key.getPage());
+            }
+            return encode(renderPage(doc, new PDFRenderer(doc), key.getPage() - 1, key.getDpi()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("페이지 렌더링 실패", e);
+        }
+    }
+
+    /** 요청 DPI 로 렌더링하되, 픽셀 수가 maxPixels 를 넘는 큰 페이지는 배율을 낮춘다 (키는 요청 DPI 그대로) */
+    private BufferedImage renderPage(PDDocument doc, PDFRenderer renderer, int pageIndex, int dpi) throws IOException {
+        PDRectangle box = doc.getPage(pageIndex).getCropBox();
+        float scale = dpi / 72f;
+        double pixels = (double) box.getWidth() * scale * box.getHeight() * scale;
+        long maxPixels = pageImageProperties.getMaxPixels();
+        if (pixels > maxPixels) scale *= (float) Math.sqrt(maxPixels / pixels);
+        return renderer.renderImage(pageIndex, scale, ImageType.RGB);
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private int resolveDpi(Integer dpi) {
+        if (dpi == null) return pageImageProperties.getDefaultDpi();
+        return Math.max(36, Math.min(dpi, pageImageProperties.getMaxDpi()));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class PageImage {
+        private final PageImageCache.Key key;
+        private final byte[] bytes;
+
+        /** 키가 콘텐츠 해시 기반이라 강한 ETag 로 쓸 수 있다 */
+        public String getEtag() {
+            return "\"" + key.getContentHash() + "-" + key.getPage() + "-" + key.getDpi() + "\"";
+        }
+    }
+}
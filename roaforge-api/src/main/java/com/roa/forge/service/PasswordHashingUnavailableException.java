@@ -0,0 +1,9 @@
+package com.roa.forge.service;
+
+/** 비밀번호 해시를 끝까지 기다리지 못함 (요청 스레드 인터럽트) - 충돌이 아니라 일시적 불가라 컨트롤러에서 503 으로 응답한다 */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
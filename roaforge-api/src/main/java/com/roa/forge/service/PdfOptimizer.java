@@ -0,0 +1,162 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.OptimizationProperties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdfwriter.compress.CompressParameters;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceGray;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceRGB;
+import org.apache.pdfbox.pdmodel.graphics.color.PDICCBased;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.apache.pdfbox.pdmodel.graphics.image.JPEGFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.stereotype.Component;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 열람용 PDF 사본 생성.
+ * 페이지 크기 대비 app.optimize.max-image-dpi 보다 촘촘한 8비트 RGB/Gray 이미지를 줄여 JPEG 로 다시 인코딩하고,
+ * 압축 객체 스트림(xref 스트림)으로 다시 저장한다.
+ * 마스크가 있는 이미지, 1비트 스캔(CCITT/JBIG2), CMYK/별색 이미지는 화질/색 보존을 위해 그대로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PdfOptimizer {
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Result {
+        private final long originalSize;
+        private final long optimizedSize;
+        private final String contentHash;
+        private final int imagesResampled;
+    }
+
+    private final OptimizationProperties optimizationProperties;
+
+    /**
+     * source 를 최적화해 target 에 쓴다.
+     * @return 최적화할 수 없는 문서(암호화, 기존 서명 포함)면 null
+     */
+    public Result optimize(Path source, Path target) throws IOException {
+        long originalSize = Files.size(source);
+        try (PDDocument doc = Loader.loadPDF(source.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            // 다시 저장하면 기존 서명이 깨지고, 암호화 문서는 권한을 바꿀 수 없다
+            if (doc.isEncrypted() || !doc.getSignatureDictionaries().isEmpty()) return null;
+
+            Map<COSBase, PDImageXObject> replaced = new IdentityHashMap<>();
+            Set<COSBase> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (PDPage page : doc.getPages()) {
+                PDResources resources = page.getResources();
+                if (resources != null) downsample(doc, resources, maxImagePixels(page), replaced, visited);
+            }
+            int resampled = (int) replaced.entrySet().stream()
+                    .filter(e -> e.getValue().getCOSObject() != e.getKey())
+                    .count();
+
+            MessageDigest md = sha256();
+            try (OutputStream out = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(target), 64 * 1024), md)) {
+                doc.save(out, CompressParameters.DEFAULT_COMPRESSION);
+            }
+            return new Result(originalSize, Files.size(target), HexFormat.of().formatHex(md.digest()), resampled);
+        }
+    }
+
+    /**
+     * 리소스의 이미지 XObject 를 줄인다. 하위 폼 XObject 도 따라가고, 여러 페이지가 공유하는 이미지는 한 번만 처리한다.
+     * 이미지가 놓인 실제 크기 대신 페이지 크기를 기준으로 하므로, 페이지보다 작게 놓인 이미지는 덜 줄어든다 (화질 쪽으로 안전).
+     */
+    private void downsample(PDDocument doc, PDResources resources, int maxPixels,
+                            Map<COSBase, PDImageXObject> replaced, Set<COSBase> visited) throws IOException {
+        for (COSName name : resources.getXObjectNames()) {
+            PDXObject xObject = resources.getXObject(name);
+            if (xObject instanceof PDFormXObject form) {
+                PDResources formResources = form.getResources();
+                if (formResources != null && visited.add(form.getCOSObject())) {
+                    downsample(doc, formResources, maxPixels, replaced, visited);
+                }
+            } else if (xObject instanceof PDImageXObject image) {
+                PDImageXObject result = replaced.get(image.getCOSObject());
+                if (result == null) {
+                    result = resample(doc, image, maxPixels);
+                    replaced.put(image.getCOSObject(), result);
+                }
+                if (result != image) resources.put(name, result);
+            }
+        }
+    }
+
+    /** 긴 변이 maxPixels 를 넘는 이미지만 줄인다. 다시 인코딩해도 작아지지 않으면 원래 이미지 */
+    private PDImageXObject resample(PDDocument doc, PDImageXObject image, int maxPixels) throws IOException {
+        int longSide = Math.max(image.getWidth(), image.getHeight());
+        if (longSide <= maxPixels || !resamplable(image)) return image;
+
+        double scale = (double) maxPixels / longSide;
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        boolean gray = image.getColorSpace().getNumberOfComponents() == 1;
+
+        BufferedImage scaled = new BufferedImage(width, height, gray ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image.getImage(), 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+
+        PDImageXObject jpeg = JPEGFactory.createFromImage(doc, scaled, optimizationProperties.getJpegQuality());
+        return jpeg.getCOSObject().getLength() < image.getCOSObject().getLength() ? jpeg : image;
+    }
+
+    private static boolean resamplable(PDImageXObject image) throws IOException {
+        if (image.isStencil() || image.getBitsPerComponent() != 8) return false;
+        if (image.getCOSObject().containsKey(COSName.SMASK) || image.getCOSObject().containsKey(COSName.MASK)) return false;
+        PDColorSpace colorSpace = image.getColorSpace();
+        return colorSpace instanceof PDDeviceRGB || colorSpace instanceof PDDeviceGray
+                || (colorSpace instanceof PDICCBased icc && (icc.getNumberOfComponents() == 1 || icc.getNumberOfComponents() == 3));
+    }
+
+    /** 페이지 긴 변(pt)을 max-image-dpi 로 환산한 픽셀 수 (가로/세로 방향과 무관) */
+    private int maxImagePixels(PDPage page) {
+        PDRectangle box = page.getMediaBox();
+        float longSide = Math.max(box.getWidth(), box.getHeight());
+        return Math.max(1, Math.round(longSide / 72f * optimizationProperties.getMaxImageDpi()));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
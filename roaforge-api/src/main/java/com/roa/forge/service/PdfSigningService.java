@@ -0,0 +1,241 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.SigningProperties;
+import com.roa.forge.dto.EffectiveField;
+import com.roa.forge.dto.SignResponse;
+import com.roa.forge.dto.SigningContext;
+import com.roa.forge.entity.Document;
+import com.roa.forge.entity.FieldType;
+import com.roa.forge.entity.SignatureLevel;
+import com.roa.forge.entity.SignatureLog;
+import com.roa.forge.repository.DocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 문서의 SIGNATURE 필드 전체를 PAdES-B-B(TSA 설정 시 B-T) 증분 업데이트로 서명한다.
+ * 한 문서 안의 서명은 증분 업데이트 특성상 순차로, 문서끼리는 signingExecutor 에서 병렬로 처리한다.
+ * B-LT/B-LTA 보강은 응답 이후 LtvService 가 따로 처리한다.
+ */
+@Slf4j
+@Service
+public class PdfSigningService {
+
+    public static final String BUSY_MESSAGE = "서명 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.";
+
+    private final DocumentRepository documentRepository;
+    private final DocumentTemplateService documentTemplateService;
+    private final AuditLogWriter auditLogWriter;
+    private final SignerCredentialProvider credentialProvider;
+    private final FieldStamper fieldStamper;
+    private final PadesSigner padesSigner;
+    private final CmsSignatureService cmsSignatureService;
+    private final LtvService ltvService;
+    private final DocumentFileLocks fileLocks;
+    private final StorageService storageService;
+    private final SigningProperties signingProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor signingExecutor;
+
+    public PdfSigningService(DocumentRepository documentRepository,
+                             DocumentTemplateService documentTemplateService,
+                             AuditLogWriter auditLogWriter,
+                             SignerCredentialProvider credentialProvider,
+                             FieldStamper fieldStamper,
+                             PadesSigner padesSigner,
+                             CmsSignatureService cmsSignatureService,
+                             LtvService ltvService,
+                             DocumentFileLocks fileLocks,
+                             StorageService storageService,
+                             SigningProperties signingProperties,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier("signingExecutor") Executor signingExecutor) {
+        this.documentRepository = documentRepository;
+        this.documentTemplateService = documentTemplateService;
+        this.auditLogWriter = auditLogWriter;
+        this.credentialProvider = credentialProvider;
+        this.fieldStamper = fieldStamper;
+        this.padesSigner = padesSigner;
+        this.cmsSignatureService = cmsSignatureService;
+        this.ltvService = ltvService;
+        this.fileLocks = fileLocks;
+        this.storageService = storageService;
+        this.signingProperties = signingProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.signingExecutor = signingExecutor;
+    }
+
+    /** 서명 워커 풀에서 비동기 실행 (풀/큐가 가득 차면 TaskRejectedException) */
+    public CompletableFuture<SignResponse> signAsync(Long documentId, SigningContext context) {
+        return CompletableFuture.supplyAsync(() -> sign(documentId, context), signingExecutor);
+    }
+
+    /**
+     * 여러 문서를 코어 수만큼 병렬로 서명.
+     * 일부가 실패하거나 풀/큐가 가득 차 거절돼도 배치 전체를 실패시키지 않고 문서별 결과(error)로 돌려준다 -
+     * 이미 제출된 문서는 어차피 끝까지 서명되므로, 어느 문서가 서명됐는지 응답에 남아야 한다.
+     */
+    public CompletableFuture<List<SignResponse>> signAllAsync(List<Long> documentIds, SigningContext context) {
+        List<CompletableFuture<SignResponse>> futures = documentIds.stream()
+                .distinct()
+                .map(id -> signOrReport(id, context))
+                .toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    private CompletableFuture<SignResponse> signOrReport(Long documentId, SigningContext context) {
+        try {
+            return signAsync(documentId, context)
+                    .exceptionally(e -> SignResponse.failed(documentId, failureMessage(e)));
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.completedFuture(SignResponse.failed(documentId, BUSY_MESSAGE));
+        }
+    }
+
+    /** 요청 오류(없는 문서, 서명 필드 없음, 서명 중)는 그대로, 그 외는 로그만 남기고 일반 메시지 */
+    private static String failureMessage(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof IllegalArgumentException || cause instanceof IllegalStateException) {
+            return cause.getMessage();
+        }
+        log.warn("일괄 서명 중 문서 서명 실패", cause);
+        return "서명에 실패했습니다.";
+    }
+
+    /** 호출 스레드에서 바로 서명 (워커 스레드 내부용) */
+    public SignResponse sign(Long documentId, SigningContext context) {
+        // 같은 문서를 동시에 쓰면 결과 파일이 꼬이므로 서명/LTV 보강 중인 문서는 거절
+        if (!fileLocks.tryAcquire(documentId)) {
+            throw new IllegalStateException("이미 서명 중인 문서입니다. : " + documentId);
+        }
+        try {
+            return doSign(documentId, context);
+        } finally {
+            fileLocks.release(documentId);
+        }
+    }
+
+    private SignResponse doSign(Long documentId, SigningContext context) {
+        Document snapshot = transactionTemplate.execute(status -> documentRepository.findById(documentId)
+                .orElseThrow(() -> new DocumentNotFoundException(documentId)));
+
+        // 템플릿 인스턴스면 템플릿 레이아웃 + 오버라이드가 합쳐진 필드
+        List<EffectiveField> fields = documentTemplateService.effectiveFields(documentId);
+        List<SignatureSlot> slots = fields.stream()
+                .filter(f -> f.getType() == FieldType.SIGNATURE)
+                .sorted(Comparator.comparing(EffectiveField::getPage).thenComparing(EffectiveField::getId))
+                .map(SignatureSlot::of)
+                .toList();
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("서명 필드가 없는 문서입니다. : " + documentId);
+        }
+        // 입력값은 서명 전에 페이지 내용으로 새겨야 서명 범위에 포함된다
+        List<StampItem> stamps = fields.stream()
+                .filter(StampItem::isStampable)
+                .map(StampItem::of)
+                .toList();
+
+        SignerCredential credential = credentialProvider.getCredential();
+        // 템플릿 인스턴스나 같은 내용의 업로드(중복 제거)는 원본 파일을 공유하므로 서명본 이름에 문서 id 를 넣는다
+        String suffix = "-" + documentId + signingProperties.getSignedSuffix();
+        String signedPath = storageService.sibling(Paths.get(snapshot.getPath()), suffix).toString();
+        Path source = storageService.resolve(snapshot.getPath());
+        Path target = storageService.resolve(signedPath);
+
+        long started = System.nanoTime();
+        applySignatures(source, target, stamps, slots, context.getSigner(), credential);
+        log.debug("문서 {} 서명 완료: 입력값 {}개, 서명 {}개 필드, {}ms",
+                documentId, stamps.size(), slots.size(), (System.nanoTime() - started) / 1_000_000);
+
+        SignatureLevel level = cmsSignatureService.level();
+        transactionTemplate.executeWithoutResult(status -> {
+            Document document = documentRepository.findById(documentId)
+                    .orElseThrow(() -> new DocumentNotFoundException(documentId));
+            document.markSigned(signedPath, level, ltvService.scheduleAfterSigning());
+        });
+
+        // 문서의 signedAt 이후에 만들어야 LTV 보강 결과가 이 로그들에 반영된다
+        List<SignatureLog> logs = slots.stream()
+                .map(slot -> SignatureLog.builder()
+                        .documentId(documentId)
+                        .fieldId(slot.getFieldId())
+                        .signer(context.getSigner())
+                        .certSubject(credential.getCertSubject())
+                        .certIssuer(credential.getCertIssuer())
+                        .certSerial(credential.getCertSerial())
+                        .signatureLevel(level)
+                        .ipAddress(context.getIpAddress())
+                        .userAgent(context.getUserAgent())
+                        .build())
+                .toList();
+        auditLogWriter.submitAll(logs);
+
+        return new SignResponse(documentId, signedPath, slots.size(), level);
+    }
+
+    /**
+     * 입력값을 먼저 한 번에 새긴 뒤, 서명 필드마다 임시 파일에 증분 저장을 이어 붙이고
+     * 마지막 결과만 target 으로 원자적 이동
+     */
+    private void applySignatures(Path source, Path target, List<StampItem> stamps, List<SignatureSlot> slots,
+                                 String signer, SignerCredential credential) {
+        Path current = source;
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            if (!stamps.isEmpty()) {
+                Path stamped = Files.createTempFile(target.toAbsolutePath().getParent(), ".stamp-", ".pdf");
+                try {
+                    fieldStamper.stamp(source, stamped, stamps);
+                } catch (IOException | RuntimeException e) {
+                    Files.deleteIfExists(stamped);
+                    throw e;
+                }
+                current = stamped;
+            }
+            for (SignatureSlot slot : slots) {
+                Path next = Files.createTempFile(target.toAbsolutePath().getParent(), ".sign-", ".pdf");
+                try {
+                    padesSigner.sign(current, next, slot, signer, credential);
+                } catch (IOException | RuntimeException e) {
+                    Files.deleteIfExists(next);
+                    throw e;
+                }
+                if (current != source) Files.deleteIfExists(current);
+                current = next;
+            }
+            Files.move(current, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(current, source);
+            throw new UncheckedIOException("PDF 서명 실패: " + source, e);
+        } catch (RuntimeException e) {
+            deleteQuietly(current, source);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path temp, Path source) {
+        if (temp == source) return;
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.roa.forge.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 파일 끝의 startxref → 상호 참조 테이블 → 트레일러 /Root → 카탈로그 /Pages → /Count 만 따라가 페이지 수를 읽는다.
+ * 객체 두 개와 테이블 몇 구간만 읽으므로 파일 크기와 무관하게 빠르다.
+ * 상호 참조 스트림(PDF 1.5+), 객체 스트림 안의 객체, 암호화 문서, 간접 참조 /Count 처럼
+ * 이 경로로 확실히 읽을 수 없으면 empty 를 돌려주고 호출 측이 PDFBox 로 대신 연다.
+ */
+final class PdfTrailerInspector {
+
+    private static final int TAIL = 2048;
+    private static final int CHUNK = 4096;
+    /** 증분 업데이트 /Prev 체인 상한 (순환 참조 방지) */
+    private static final int MAX_TABLES = 64;
+    /** 고전 xref 항목은 "oooooooooo ggggg n\r\n" 고정 20바이트 */
+    private static final int ENTRY = 20;
+
+    private static final Pattern OBJ_HEADER = Pattern.compile("^\\s*(\\d+)\\s+(\\d+)\\s+obj\\b");
+    private static final Pattern XREF = Pattern.compile("^\\s*xref[ \\t]*(\\r\\n|\\r|\\n)");
+    private static final Pattern SECTION = Pattern.compile("\\s*(\\d+)\\s+(\\d+)[ \\t]*(\\r\\n|\\r|\\n)");
+    private static final Pattern XREF_ENTRY = Pattern.compile("(\\d{10}) (\\d{5}) ([nf])[ \\r\\n]{2}");
+
+    private record Section(long start, long count, long entriesOffset) {
+    }
+
+    private record XrefTable(List<Section> sections, String trailer) {
+    }
+
+    private PdfTrailerInspector() {
+    }
+
+    static OptionalInt pageCount(FileChannel channel) throws IOException {
+        long size = channel.size();
+        String tail = read(channel, Math.max(0, size - TAIL), (int) Math.min(size, TAIL));
+        int at = tail.lastIndexOf("startxref");
+        if (at < 0) return OptionalInt.empty();
+        List<String> startxref = tokensAfter(tail, at + "startxref".length());
+        if (startxref.isEmpty() || !isNumber(startxref.get(0))) return OptionalInt.empty();
+
+        List<XrefTable> tables = new ArrayList<>();
+        long offset = Long.parseLong(startxref.get(0));
+        while (offset >= 0 && tables.size() < MAX_TABLES) {
+            if (offset >= size) return OptionalInt.empty();
+            XrefTable table = readTable(channel, offset);
+            if (table == null) return OptionalInt.empty();
+            tables.add(table);
+            // 하이브리드 파일은 일부 객체가 xref 스트림에만 있다
+            if (value(table.trailer(), "/XRefStm") != null) return OptionalInt.empty();
+            List<String> prev = value(table.trailer(), "/Prev");
+            if (prev == null) {
+                offset = -1;
+            } else if (prev.size() == 1 && isNumber(prev.get(0))) {
+                offset = Long.parseLong(prev.get(0));
+            } else {
+                return OptionalInt.empty();
+            }
+        }
+        if (offset >= 0) return OptionalInt.empty();
+
+        String trailer = tables.get(0).trailer();
+        if (value(trailer, "/Encrypt") != null) return OptionalInt.empty();
+        long root = reference(value(trailer, "/Root"));
+        if (root < 0) return OptionalInt.empty();
+
+        String catalog = objectDictionary(channel, tables, root);
+        if (catalog == null) return OptionalInt.empty();
+        long pages = reference(value(catalog, "/Pages"));
+        if (pages < 0) return OptionalInt.empty();
+
+        String pageTree = objectDictionary(channel, tables, pages);
+        if (pageTree == null) return OptionalInt.empty();
+        List<String> count = value(pageTree, "/Count");
+        if (count == null || count.size() != 1 || !isNumber(count.get(0))) return OptionalInt.empty();
+        long pageCount = Long.parseLong(count.get(0));
+        return pageCount > 0 && pageCount <= Integer.MAX_VALUE ? OptionalInt.of((int) pageCount) : OptionalInt.empty();
+    }
+
+    /** offset 의 고전 xref 테이블 구간 목록과 트레일러 사전. 다른 형식이면 null */
+    private static XrefTable readTable(FileChannel channel, long offset) throws IOException {
+        String chunk = read(channel, offset, CHUNK);
+        Matcher keyword = XREF.matcher(chunk);
+        if (!keyword.find()) return null;
+
+        List<Section> sections = new ArrayList<>();
+        long base = offset;
+        int pos = keyword.end();
+        while (true) {
+            String rest = chunk.substring(pos);
+            if (rest.stripLeading().startsWith("trailer")) {
+                long trailerAt = base + pos + rest.indexOf("trailer") + "trailer".length();
+                String dict = dictionary(read(channel, trailerAt, CHUNK));
+                return dict == null ? null : new XrefTable(sections, dict);
+            }
+            Matcher header = SECTION.matcher(chunk).region(pos, chunk.length());
+            if (!header.lookingAt()) return null;
+            long start = Long.parseLong(header.group(1));
+            long count = Long.parseLong(header.group(2));
+            long entries = base + header.end();
+            if (count > 0 && !XREF_ENTRY.matcher(read(channel, entries, ENTRY)).matches()) return null;
+            sections.add(new Section(start, count, entries));
+
+            // 항목은 건너뛰고 다음 구간 머리부터 다시 읽는다
+            base = entries + count * ENTRY;
+            chunk = read(channel, base, CHUNK);
+            pos = 0;
+        }
+    }
+
+    /** 최신 테이블부터 객체 번호를 찾아 사전을 읽는다. 삭제/미등록이면 null */
+    private static String objectDictionary(FileChannel channel, List<XrefTable> tables, long number) throws IOException {
+        for (XrefTable table : tables) {
+            for (Section section : table.sections()) {
+                if (number < section.start() || number >= section.start() + section.count()) continue;
+                Matcher entry = XREF_ENTRY.matcher(read(channel, section.entriesOffset() + (number - section.start()) * ENTRY, ENTRY));
+                if (!entry.matches() || entry.group(3).equals("f")) return null;
+
+                String chunk = read(channel, Long.parseLong(entry.group(1)), CHUNK);
+                Matcher header = OBJ_HEADER.matcher(chunk);
+                if (!header.find() || Long.parseLong(header.group(1)) != number) return null;
+                return dictionary(chunk.substring(header.end()));
+            }
+        }
+        return null;
+    }
+
+    /** 문자열 앞부분의 << ... >> 사전 (청크 안에서 닫히지 않으면 null) */
+    private static String dictionary(String s) {
+        int start = s.indexOf("<<");
+        if (start < 0 || !s.substring(0, start).isBlank()) return null;
+        int depth = 0;
+        for (int i = start; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '(') {
+                i = skipString(s, i);
+                if (i < 0) return null;
+            } else if (c == '<' && i + 1 < s.length() && s.charAt(i + 1) == '<') {
+                depth++;
+                i++;
+            } else if (c == '>' && i + 1 < s.length() && s.charAt(i + 1) == '>') {
+                depth--;
+                i++;
+                if (depth == 0) return s.substring(start, i + 1);
+            } else if (c == '<') {
+                i = s.indexOf('>', i);
+                if (i < 0) return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 사전 최상위에서 key 바로 뒤의 숫자/R 토큰들 ("/Pages 3 0 R" → [3, 0, R]). key 가 없으면 null.
+     * 하위 사전/배열/문자열 안의 같은 이름은 무시한다.
+     */
+    private static List<String> value(String dict, String key) {
+        int depth = 0;
+        int arrays = 0;
+        for (int i = 0; i < dict.length(); i++) {
+            char c = dict.charAt(i);
+            if (c == '(') {
+                i = skipString(dict, i);
+                if (i < 0) return List.of();
+            } else if (c == '<' && i + 1 < dict.length() && dict.charAt(i + 1) == '<') {
+                depth++;
+                i++;
+            } else if (c == '>' && i + 1 < dict.length() && dict.charAt(i + 1) == '>') {
+                depth--;
+                i++;
+            } else if (c == '<') {
+                i = dict.indexOf('>', i);
+                if (i < 0) return List.of();
+            } else if (c == '[') {
+                arrays++;
+            } else if (c == ']') {
+                arrays--;
+            } else if (c == '/') {
+                int end = i + 1;
+                while (end < dict.length() && isRegular(dict.charAt(end))) end++;
+                if (depth == 1 && arrays == 0 && dict.substring(i, end).equals(key)) {
+                    return tokensAfter(dict, end);
+                }
+                i = end - 1;
+            }
+        }
+        return null;
+    }
+
+    /** pos 이후 공백으로 구분된 숫자/R 토큰 (최대 3개) */
+    private static List<String> tokensAfter(String s, int pos) {
+        List<String> tokens = new ArrayList<>(3);
+        int i = pos;
+        while (tokens.size() < 3) {
+            while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+            int end = i;
+            while (end < s.length() && isRegular(s.charAt(end))) end++;
+            String token = s.substring(i, end);
+            if (token.isEmpty() || !(isNumber(token) || token.equals("R"))) break;
+            tokens.add(token);
+            i = end;
+        }
+        return tokens;
+    }
+
+    /** "N G R" 이면 N, 아니면 -1 */
+    private static long reference(List<String> tokens) {
+        if (tokens == null || tokens.size() != 3 || !tokens.get(2).equals("R") || !isNumber(tokens.get(0))) return -1;
+        return Long.parseLong(tokens.get(0));
+    }
+
+    /** 괄호 문자열의 닫는 위치 (중첩 괄호와 역슬래시 이스케이프 처리) */
+    private static int skipString(String s, int open) {
+        int nesting = 0;
+        for (int i = open; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '(') {
+                nesting++;
+            } else if (c == ')' && --nesting == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isRegular(char c) {
+        return !Character.isWhitespace(c) && "()<>[]{}/%".indexOf(c) < 0;
+    }
+
+    private static boolean isNumber(String token) {
+        if (token.isEmpty() || token.length() > 18) return false;
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) < '0' || token.charAt(i) > '9') return false;
+        }
+        return true;
+    }
+
+    private static String read(FileChannel channel, long position, int length) throws IOException {
+        int n = (int) Math.max(0, Math.min(length, channel.size() - position));
+        ByteBuffer buf = ByteBuffer.allocate(n);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, position + buf.position()) < 0) break;
+        }
+        return new String(buf.array(), 0, buf.position(), StandardCharsets.ISO_8859_1);
+    }
+}
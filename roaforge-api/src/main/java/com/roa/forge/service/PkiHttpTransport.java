@@ -0,0 +1,66 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.PkiProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Semaphore;
+
+/**
+ * TSA/OCSP/CRL 서버 호출 공용 (블로킹).
+ * 동시 호출 수를 app.pki.max-concurrent-requests 로 제한해 가상 스레드 모드에서도 상대 서버를 보호한다.
+ */
+@Component
+public class PkiHttpTransport {
+
+    private final HttpClient httpClient;
+    private final PkiProperties pkiProperties;
+    private final Semaphore permits;
+
+    public PkiHttpTransport(@Qualifier("pkiHttpClient") HttpClient httpClient, PkiProperties pkiProperties) {
+        this.httpClient = httpClient;
+        this.pkiProperties = pkiProperties;
+        this.permits = new Semaphore(Math.max(1, pkiProperties.getMaxConcurrentRequests()));
+    }
+
+    public byte[] post(String url, String contentType, byte[] body) {
+        return send(HttpRequest.newBuilder(URI.create(url))
+                .timeout(pkiProperties.getRequestTimeout())
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build());
+    }
+
+    public byte[] get(String url) {
+        return send(HttpRequest.newBuilder(URI.create(url))
+                .timeout(pkiProperties.getRequestTimeout())
+                .GET()
+                .build());
+    }
+
+    private byte[] send(HttpRequest request) {
+        try {
+            HttpResponse<byte[]> response;
+            permits.acquire();
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            } finally {
+                permits.release();
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("PKI 서버 응답 오류: HTTP " + response.statusCode() + " " + request.uri());
+            }
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PKI 서버 호출 중단: " + request.uri(), e);
+        } catch (IOException e) {
+            throw new IllegalStateException("PKI 서버 호출 실패: " + request.uri(), e);
+        }
+    }
+}
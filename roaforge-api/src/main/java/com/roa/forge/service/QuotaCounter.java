@@ -0,0 +1,84 @@
+package com.roa.forge.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자원 하나의 사용량 카운터.
+ * taken(확정 + 예약)을 CAS 로만 올리므로 한도 검사는 O(1) 이고 락을 잡지 않는다.
+ * 확정분은 DB 건수로 주기적으로 맞추고(reconcile), 진행 중인 예약은 그대로 더해 둔다.
+ */
+final class QuotaCounter {
+
+    static final long UNLIMITED = -1;
+
+    /** 한도 (UNLIMITED 면 검사하지 않음) */
+    private volatile long limit = UNLIMITED;
+    /** 확정 사용량 + 진행 중 예약 */
+    private final AtomicLong taken = new AtomicLong();
+    /** 진행 중 예약 */
+    private final AtomicLong reserved = new AtomicLong();
+    /** 확정 횟수 - 재조정 중 확정이 끼어들었는지 판별용 */
+    private final AtomicLong commits = new AtomicLong();
+
+    /**
+     * 한도 안이면 n 만큼 예약하고 true.
+     * reserved 를 먼저 올려 두므로 재조정과 겹쳐도 사용량은 많게(보수적으로) 잡힐 뿐 적게 잡히지 않는다.
+     */
+    boolean tryReserve(long n) {
+        long max = limit;
+        reserved.addAndGet(n);
+        while (true) {
+            long current = taken.get();
+            if (max != UNLIMITED && current + n > max) {
+                reserved.addAndGet(-n);
+                return false;
+            }
+            if (taken.compareAndSet(current, current + n)) return true;
+        }
+    }
+
+    /**
+     * 예약분을 확정 사용량으로 (taken 은 그대로).
+     * commits 를 먼저 올려야 줄어든 reserved 를 본 재조정이 반드시 확정을 알아채고 건너뛴다.
+     */
+    void commit(long n) {
+        commits.incrementAndGet();
+        reserved.addAndGet(-n);
+    }
+
+    void release(long n) {
+        taken.addAndGet(-n);
+        reserved.addAndGet(-n);
+    }
+
+    long commitCount() {
+        return commits.get();
+    }
+
+    /**
+     * DB 건수로 확정 사용량을 맞춘다.
+     * 건수를 세는 동안 확정이 있었으면 그 행이 건수에 들어갔는지 알 수 없으므로 이번 주기는 건너뛴다.
+     * taken → reserved → commits 순으로 읽는다: 그 사이 예약/반환은 taken CAS 실패로, 확정은 commits 검사로 걸러진다.
+     */
+    boolean reconcile(long limit, long committed, long commitsBefore) {
+        this.limit = limit;
+        while (true) {
+            long current = taken.get();
+            long inFlight = reserved.get();
+            if (commits.get() != commitsBefore) return false;
+            if (taken.compareAndSet(current, committed + inFlight)) return true;
+        }
+    }
+
+    long limit() {
+        return limit;
+    }
+
+    long used() {
+        return taken.get() - reserved.get();
+    }
+
+    long reserved() {
+        return reserved.get();
+    }
+}
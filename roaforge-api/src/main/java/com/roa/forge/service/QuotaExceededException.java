@@ -0,0 +1,20 @@
+package com.roa.forge.service;
+
+import lombok.Getter;
+
+/** 라이선스 한도 초과 - IllegalStateException 이라 기존 컨트롤러 핸들러에서 409 로 응답된다 */
+@Getter
+public class QuotaExceededException extends IllegalStateException {
+
+    private final QuotaResource resource;
+    private final long limit;
+
+    public QuotaExceededException(QuotaResource resource, long limit) {
+        super(switch (resource) {
+            case USERS -> "라이선스 사용자 수 한도(" + limit + ")를 초과합니다.";
+            case DOCUMENTS -> "라이선스 문서 수 한도(" + limit + ")를 초과합니다.";
+        });
+        this.resource = resource;
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,9 @@
+package com.roa.forge.service;
+
+/** 라이선스로 한도를 거는 자원 */
+public enum QuotaResource {
+    /** 활성 사용자 계정 수 (License.maxUsers) */
+    USERS,
+    /** 문서 수 - 템플릿/인스턴스 포함 (License.maxDocuments) */
+    DOCUMENTS
+}
@@ -0,0 +1,163 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.QuotaProperties;
+import com.roa.forge.dto.QuotaUsage;
+import com.roa.forge.entity.License;
+import com.roa.forge.repository.DocumentRepository;
+import com.roa.forge.repository.LicenseRepository;
+import com.roa.forge.repository.UserAccountRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 라이선스 한도(maxUsers/maxDocuments) 적용.
+ * 생성 경로는 메모리 카운터에 예약만 하고(O(1), 락 없음) 트랜잭션이 커밋되면 확정, 롤백되면 반환한다.
+ * 한도와 확정 사용량은 주기적으로 라이선스/DB 건수에서 다시 읽는다 - 삭제/비활성화도 이때 반영된다.
+ * 라이선스가 하나도 없으면 제한 없음, 있는데 오늘 유효한 것이 없으면 생성을 막는다.
+ */
+@Slf4j
+@Service
+public class QuotaService {
+
+    /** 예약 1건. commit/release 는 한 번만 적용된다 */
+    public final class Reservation {
+        private final QuotaCounter counter;
+        private final long amount;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Reservation(QuotaCounter counter, long amount) {
+            this.counter = counter;
+            this.amount = amount;
+        }
+
+        public void commit() {
+            if (done.compareAndSet(false, true)) counter.commit(amount);
+        }
+
+        public void release() {
+            if (done.compareAndSet(false, true)) counter.release(amount);
+        }
+    }
+
+    private final QuotaProperties quotaProperties;
+    private final LicenseRepository licenseRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final DocumentRepository documentRepository;
+    private final ThreadPoolTaskScheduler quotaScheduler;
+
+    private final Map<QuotaResource, QuotaCounter> counters = new EnumMap<>(QuotaResource.class);
+    /** 라이선스 행은 있는데 오늘 유효한 것이 없으면 false */
+    private volatile boolean licensed = true;
+    private ScheduledFuture<?> reconcileTask;
+
+    public QuotaService(QuotaProperties quotaProperties,
+                        LicenseRepository licenseRepository,
+                        UserAccountRepository userAccountRepository,
+                        DocumentRepository documentRepository,
+                        @Qualifier("quotaScheduler") ThreadPoolTaskScheduler quotaScheduler) {
+        this.quotaProperties = quotaProperties;
+        this.licenseRepository = licenseRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.documentRepository = documentRepository;
+        this.quotaScheduler = quotaScheduler;
+        for (QuotaResource resource : QuotaResource.values()) counters.put(resource, new QuotaCounter());
+    }
+
+    @PostConstruct
+    void start() {
+        if (!quotaProperties.isEnabled()) return;
+        reconcile();
+        Duration interval = quotaProperties.getReconcileInterval();
+        if (interval != null && !interval.isZero() && !interval.isNegative()) {
+            this.reconcileTask = quotaScheduler.scheduleWithFixedDelay(this::reconcileQuietly, interval);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (reconcileTask != null) reconcileTask.cancel(false);
+    }
+
+    /**
+     * amount 만큼 예약한다. 한도를 넘으면 QuotaExceededException.
+     * 트랜잭션 안에서 부르면 커밋 시 확정, 롤백 시 반환이 자동으로 걸린다. 밖이면 호출 측이 commit/release 한다.
+     */
+    public Reservation reserve(QuotaResource resource, long amount) {
+        QuotaCounter counter = counters.get(resource);
+        if (!quotaProperties.isEnabled()) return new Reservation(counter, 0);
+        if (!licensed) throw new IllegalStateException("유효한 라이선스가 없습니다.");
+        if (!counter.tryReserve(amount)) throw new QuotaExceededException(resource, counter.limit());
+
+        Reservation reservation = new Reservation(counter, amount);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) reservation.commit();
+                    else reservation.release();
+                }
+            });
+        }
+        return reservation;
+    }
+
+    public List<QuotaUsage> usage() {
+        List<QuotaUsage> result = new ArrayList<>();
+        counters.forEach((resource, c) ->
+                result.add(new QuotaUsage(resource.name(), c.limit(), c.used(), c.reserved(), licensed)));
+        return result;
+    }
+
+    /** 한도와 확정 사용량을 라이선스/DB 에서 다시 읽는다 */
+    public synchronized void reconcile() {
+        List<License> active = licenseRepository.findActiveOn(LocalDate.now());
+        boolean anyLicense = !active.isEmpty() || licenseRepository.count() > 0;
+        License license = active.isEmpty() ? null : active.get(0);
+
+        for (QuotaResource resource : QuotaResource.values()) {
+            QuotaCounter counter = counters.get(resource);
+            long commitsBefore = counter.commitCount();
+            long committed = switch (resource) {
+                case USERS -> userAccountRepository.countByActiveTrue();
+                case DOCUMENTS -> documentRepository.count();
+            };
+            if (!counter.reconcile(limitOf(license, resource), committed, commitsBefore)) {
+                log.debug("{} 사용량 재조정 중 커밋이 있어 다음 주기로 미룹니다.", resource);
+            }
+        }
+
+        boolean wasLicensed = this.licensed;
+        this.licensed = !anyLicense || license != null;
+        if (wasLicensed && !licensed) log.warn("유효한 라이선스가 없어 사용자/문서 생성이 차단됩니다.");
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("라이선스 사용량 재조정 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 라이선스가 없거나 한도가 0 이면 제한 없음 */
+    private static long limitOf(License license, QuotaResource resource) {
+        if (license == null) return QuotaCounter.UNLIMITED;
+        Integer max = switch (resource) {
+            case USERS -> license.getMaxUsers();
+            case DOCUMENTS -> license.getMaxDocuments();
+        };
+        return max == null || max <= 0 ? QuotaCounter.UNLIMITED : max;
+    }
+}
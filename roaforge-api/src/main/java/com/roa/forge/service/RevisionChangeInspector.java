@@ -0,0 +1,189 @@
+package com.roa.forge.service;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSDocument;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.bouncycastle.cert.X509CRLHolder;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.cert.CertificateFactory;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 마지막 서명 이후의 증분 업데이트가 /DSS 검증 데이터 추가뿐인지 확인한다.
+ * 서명된 리비전(파일 앞 signedLength 바이트) 뒤에 쓰인 객체는 다음만 허용한다.
+ * - 카탈로그: /DSS 외 항목이 서명된 리비전과 같아야 한다 (유일하게 다시 쓸 수 있는 기존 객체)
+ * - /DSS /Certs·/OCSPs·/CRLs (/VRI 의 /Cert·/OCSP·/CRL) 에 든 스트림과 그 배열/사전:
+ *   서명된 리비전에 없던(또는 free 였던) 객체 번호여야 하고, 스트림은 실제 인증서/OCSP 응답/CRL 이어야 한다
+ * - 상호 참조/객체 스트림
+ */
+final class RevisionChangeInspector {
+
+    private static final COSName DSS = COSName.getPDFName("DSS");
+    private static final COSName VRI = COSName.getPDFName("VRI");
+    private static final COSName OBJ_STM = COSName.getPDFName("ObjStm");
+
+    private enum Kind { CERT, OCSP, CRL }
+
+    private static final Map<COSName, Kind> DSS_ENTRIES = Map.of(
+            COSName.getPDFName("Certs"), Kind.CERT,
+            COSName.getPDFName("OCSPs"), Kind.OCSP,
+            COSName.getPDFName("CRLs"), Kind.CRL);
+    private static final Map<COSName, Kind> VRI_ENTRIES = Map.of(
+            COSName.getPDFName("Cert"), Kind.CERT,
+            COSName.getPDFName("OCSP"), Kind.OCSP,
+            COSName.getPDFName("CRL"), Kind.CRL);
+
+    /** /DSS 안에서 허용할 구조가 아니면 던진다 */
+    private static final class NotValidationData extends Exception {
+    }
+
+    private RevisionChangeInspector() {
+    }
+
+    static boolean onlyDssAdded(Path file, long signedLength, PDDocument full) throws IOException {
+        COSDocument cos = full.getDocument();
+        Map<COSObjectKey, Long> xref = cos.getXrefTable();
+        if (!(cos.getTrailer().getItem(COSName.ROOT) instanceof COSObject root)) return false;
+        COSObjectKey rootKey = key(root);
+
+        Set<COSObjectKey> changed = new HashSet<>();
+        for (Map.Entry<COSObjectKey, Long> e : xref.entrySet()) {
+            if (writtenAfter(e.getValue(), xref, signedLength)) changed.add(e.getKey());
+        }
+        if (changed.isEmpty()) return true;
+
+        Set<COSObjectKey> allowed = new HashSet<>();
+        try {
+            collectDss(full.getDocumentCatalog().getCOSObject().getItem(DSS), allowed);
+        } catch (NotValidationData e) {
+            return false;
+        }
+
+        try (RandomAccessRead source = new RandomAccessReadBufferedFile(file.toFile());
+             PDDocument signed = Loader.loadPDF(source.createView(0, signedLength))) {
+            Set<Long> signedNumbers = new HashSet<>();
+            for (COSObjectKey k : signed.getDocument().getXrefTable().keySet()) signedNumbers.add(k.getNumber());
+
+            for (COSObjectKey k : changed) {
+                if (k.equals(rootKey)) continue;
+                if (signedNumbers.contains(k.getNumber())) return false;
+                if (allowed.contains(k)) continue;
+                if (cos.getObjectFromPool(k).getObject() instanceof COSStream stream) {
+                    COSName type = stream.getCOSName(COSName.TYPE);
+                    if (COSName.XREF.equals(type) || OBJ_STM.equals(type)) continue;
+                }
+                return false;
+            }
+            if (!changed.contains(rootKey)) return true;
+
+            // 다시 쓰인 카탈로그는 /DSS 외 항목이 서명된 리비전과 같아야 한다
+            COSDictionary before = signed.getDocumentCatalog().getCOSObject();
+            COSDictionary after = full.getDocumentCatalog().getCOSObject();
+            Set<COSName> names = new HashSet<>(before.keySet());
+            names.addAll(after.keySet());
+            names.remove(DSS);
+            for (COSName name : names) {
+                if (!same(before.getItem(name), after.getItem(name))) return false;
+            }
+        }
+        return true;
+    }
+
+    /** 객체 스트림 안의 객체는 xref 값이 -(스트림 번호) 라 스트림 위치로 판단 */
+    private static boolean writtenAfter(Long offset, Map<COSObjectKey, Long> xref, long signedLength) {
+        if (offset == null) return false;
+        if (offset < 0) {
+            Long stream = xref.get(new COSObjectKey(-offset, 0));
+            return stream == null || stream >= signedLength;
+        }
+        return offset >= signedLength;
+    }
+
+    private static void collectDss(COSBase base, Set<COSObjectKey> keys) throws IOException, NotValidationData {
+        if (base == null) return;
+        COSDictionary dss = dictionary(base, keys);
+        for (Map.Entry<COSName, Kind> entry : DSS_ENTRIES.entrySet()) {
+            collectStreams(dss.getItem(entry.getKey()), entry.getValue(), keys);
+        }
+        COSBase vri = dss.getItem(VRI);
+        if (vri == null) return;
+        for (COSBase item : dictionary(vri, keys).getValues()) {
+            COSDictionary perSignature = dictionary(item, keys);
+            for (Map.Entry<COSName, Kind> entry : VRI_ENTRIES.entrySet()) {
+                collectStreams(perSignature.getItem(entry.getKey()), entry.getValue(), keys);
+            }
+        }
+    }
+
+    private static void collectStreams(COSBase base, Kind kind, Set<COSObjectKey> keys)
+            throws IOException, NotValidationData {
+        if (base == null) return;
+        COSBase resolved = resolve(base, keys);
+        if (!(resolved instanceof COSArray array)) throw new NotValidationData();
+        for (int i = 0; i < array.size(); i++) {
+            if (!(array.get(i) instanceof COSObject ref) || !(ref.getObject() instanceof COSStream stream)) {
+                throw new NotValidationData();
+            }
+            if (!keys.contains(key(ref))) {
+                checkContent(stream, kind);
+                keys.add(key(ref));
+            }
+        }
+    }
+
+    /** 스트림 내용이 선언한 종류로 파싱되는지 */
+    private static void checkContent(COSStream stream, Kind kind) throws NotValidationData {
+        try (InputStream in = stream.createInputStream()) {
+            byte[] der = in.readAllBytes();
+            switch (kind) {
+                case CERT -> CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(der));
+                case OCSP -> new OCSPResp(der);
+                case CRL -> new X509CRLHolder(der);
+            }
+        } catch (Exception e) {
+            throw new NotValidationData();
+        }
+    }
+
+    private static COSDictionary dictionary(COSBase base, Set<COSObjectKey> keys) throws NotValidationData {
+        COSBase resolved = resolve(base, keys);
+        if (!(resolved instanceof COSDictionary dict) || resolved instanceof COSStream) throw new NotValidationData();
+        return dict;
+    }
+
+    /** 간접 참조면 허용 목록에 넣고 실제 객체를 돌려준다 */
+    private static COSBase resolve(COSBase base, Set<COSObjectKey> keys) {
+        if (base instanceof COSObject ref) {
+            keys.add(key(ref));
+            return ref.getObject();
+        }
+        return base;
+    }
+
+    private static boolean same(COSBase a, COSBase b) {
+        if (a instanceof COSObject ra && b instanceof COSObject rb) return key(ra).equals(key(rb));
+        if (a instanceof COSObject || b instanceof COSObject) return false;
+        return Objects.equals(String.valueOf(a), String.valueOf(b));
+    }
+
+    private static COSObjectKey key(COSObject ref) {
+        return new COSObjectKey(ref.getObjectNumber(), ref.getGenerationNumber());
+    }
+}
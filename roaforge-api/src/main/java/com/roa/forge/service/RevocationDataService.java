@@ -0,0 +1,405 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.PkiProperties;
+import com.roa.forge.dto.RevocationCacheStats;
+import org.bouncycastle.asn1.ASN1IA5String;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.ExtendedKeyUsage;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyPurposeId;
+import org.bouncycastle.cert.X509CRLEntryHolder;
+import org.bouncycastle.cert.X509CRLHolder;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReqBuilder;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.cert.ocsp.SingleResp;
+import org.bouncycastle.cert.ocsp.jcajce.JcaCertificateID;
+import org.bouncycastle.operator.ContentVerifierProvider;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * OCSP 응답/CRL 캐시.
+ * OCSP 는 (발급자 이름 해시, 발급자 키 해시, 일련번호), CRL 은 배포 지점 URL 로 캐시하고 응답의 nextUpdate 까지 보관한다(min/max TTL 로 보정).
+ * thisUpdate 가 미래이거나 nextUpdate 가 지난 응답은 거부하고, 캐시 만료도 nextUpdate 를 넘기지 않는다.
+ * CRL 은 DSS 에 원본을 넣어야 해서 DER 을 함께 보관하되, 그 총량은 revocationCrlCacheBytes 로 제한한다.
+ * 같은 키의 동시 미스는 먼저 온 요청 하나만 서버를 호출하고 나머지는 그 결과를 기다린다.
+ */
+@Service
+public class RevocationDataService {
+
+    private static final String OCSP_PREFIX = "ocsp:";
+    private static final String CRL_PREFIX = "crl:";
+
+    private final PkiHttpTransport transport;
+    private final Clock clock;
+    private final Duration defaultTtl;
+    private final Duration minTtl;
+    private final Duration maxTtl;
+    private final int maxEntries;
+    private final long maxCrlBytes;
+    private final Duration clockSkew;
+
+    /** accessOrder=true 로 LRU 순서 유지, 접근은 this 로 동기화 */
+    private final LinkedHashMap<String, Entry> entries;
+
+    /** 캐시에 있는 CRL DER 총 바이트, this 로 동기화 */
+    private long crlBytes;
+
+    /** 키별 진행 중인 조회 (single-flight) */
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong fetches = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    private record Entry(Object value, Instant expiresAt) {
+    }
+
+    @Autowired
+    public RevocationDataService(PkiHttpTransport transport, PkiProperties pkiProperties) {
+        this(transport, pkiProperties, Clock.systemUTC());
+    }
+
+    RevocationDataService(PkiHttpTransport transport, PkiProperties pkiProperties, Clock clock) {
+        this.transport = transport;
+        this.clock = clock;
+        this.defaultTtl = pkiProperties.getRevocationDefaultTtl();
+        this.minTtl = pkiProperties.getRevocationMinTtl();
+        this.maxTtl = pkiProperties.getRevocationMaxTtl();
+        this.maxEntries = pkiProperties.getRevocationCacheSize();
+        this.maxCrlBytes = pkiProperties.getRevocationCrlCacheBytes().toBytes();
+        this.clockSkew = pkiProperties.getRevocationClockSkew();
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= RevocationDataService.this.maxEntries) return false;
+                released(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /** cert 의 AIA OCSP 주소로 상태 조회 */
+    public OcspResponseData ocsp(X509Certificate cert, X509Certificate issuer) {
+        String url = ocspUrl(cert).orElseThrow(() ->
+                new IllegalStateException("OCSP 주소(AIA)가 없는 인증서입니다: " + cert.getSubjectX500Principal()));
+        return ocsp(url, cert, issuer);
+    }
+
+    public OcspResponseData ocsp(String url, X509Certificate cert, X509Certificate issuer) {
+        CertificateID id = certificateId(cert, issuer);
+        String key = OCSP_PREFIX + HexFormat.of().formatHex(id.getIssuerNameHash())
+                + ":" + HexFormat.of().formatHex(id.getIssuerKeyHash())
+                + ":" + id.getSerialNumber().toString(16);
+        return load(key, () -> fetchOcsp(url, id, issuer), OcspResponseData::getNextUpdate);
+    }
+
+    /** cert 의 첫 CRL 배포 지점에서 CRL 조회 */
+    public CrlData crl(X509Certificate cert, X509Certificate issuer) {
+        String url = crlUrls(cert).stream().findFirst().orElseThrow(() ->
+                new IllegalStateException("CRL 배포 지점이 없는 인증서입니다: " + cert.getSubjectX500Principal()));
+        return crl(url, issuer);
+    }
+
+    public CrlData crl(String url, X509Certificate issuer) {
+        return load(CRL_PREFIX + url, () -> fetchCrl(url, issuer), CrlData::getNextUpdate);
+    }
+
+    public Optional<String> ocspUrl(X509Certificate cert) {
+        Extensions extensions = extensions(cert);
+        AuthorityInformationAccess aia = extensions == null ? null : AuthorityInformationAccess.fromExtensions(extensions);
+        if (aia == null) return Optional.empty();
+        for (AccessDescription ad : aia.getAccessDescriptions()) {
+            if (AccessDescription.id_ad_ocsp.equals(ad.getAccessMethod())) {
+                Optional<String> uri = uri(ad.getAccessLocation());
+                if (uri.isPresent()) return uri;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<String> crlUrls(X509Certificate cert) {
+        Extensions extensions = extensions(cert);
+        CRLDistPoint cdp = extensions == null ? null : CRLDistPoint.fromExtensions(extensions);
+        if (cdp == null) return List.of();
+        List<String> urls = new ArrayList<>();
+        for (DistributionPoint dp : cdp.getDistributionPoints()) {
+            DistributionPointName name = dp.getDistributionPoint();
+            if (name == null || name.getType() != DistributionPointName.FULL_NAME) continue;
+            for (GeneralName gn : GeneralNames.getInstance(name.getName()).getNames()) {
+                uri(gn).ifPresent(urls::add);
+            }
+        }
+        return urls;
+    }
+
+    public RevocationCacheStats stats() {
+        int ocspEntries = 0;
+        int crlEntries = 0;
+        long serials = 0;
+        long bytes = 0;
+        synchronized (this) {
+            for (Entry e : entries.values()) {
+                if (e.value() instanceof CrlData crl) {
+                    crlEntries++;
+                    serials += crl.getRevoked().size();
+                    bytes += crl.getRevoked().approximateBytes() + crl.getEncoded().length;
+                } else {
+                    ocspEntries++;
+                }
+            }
+        }
+        long h = hits.get();
+        long m = misses.get();
+        double ratio = h + m == 0 ? 0.0 : (double) h / (h + m);
+        return new RevocationCacheStats(ocspEntries, crlEntries, serials, bytes,
+                h, m, fetches.get(), collapsed.get(), inFlight.size(), ratio);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        crlBytes = 0;
+    }
+
+    // ---- 캐시 / single-flight ----
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(String key, Supplier<T> fetcher, Function<T, Instant> nextUpdate) {
+        T cached = (T) lookup(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            collapsed.incrementAndGet();
+            return (T) await(running);
+        }
+
+        try {
+            // 앞선 조회가 캐시에 올리고 inFlight 에서 빠지는 사이에 들어온 경우
+            T value = (T) lookup(key);
+            if (value == null) {
+                fetches.incrementAndGet();
+                value = fetcher.get();
+                store(key, value, nextUpdate.apply(value));
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private synchronized Object lookup(String key) {
+        Entry e = entries.get(key);
+        if (e == null) return null;
+        if (!clock.instant().isBefore(e.expiresAt())) {
+            released(entries.remove(key));
+            return null;
+        }
+        return e.value();
+    }
+
+    private synchronized void store(String key, Object value, Instant nextUpdate) {
+        Instant now = clock.instant();
+        Duration ttl = nextUpdate == null ? defaultTtl : Duration.between(now, nextUpdate);
+        if (ttl.compareTo(minTtl) < 0) ttl = minTtl;
+        if (ttl.compareTo(maxTtl) > 0) ttl = maxTtl;
+        // 하한 보정으로 nextUpdate 이후까지 오래된 응답을 내주지 않게
+        if (nextUpdate != null && now.plus(ttl).isAfter(nextUpdate)) ttl = Duration.between(now, nextUpdate);
+        if (ttl.isNegative() || ttl.isZero()) return;
+
+        released(entries.put(key, new Entry(value, now.plus(ttl))));
+        if (value instanceof CrlData crl) {
+            crlBytes += crl.getEncoded().length;
+            trimCrls();
+        }
+    }
+
+    /** CRL DER 총량이 한도를 넘으면 오래 안 쓴 CRL 부터 뺀다 (한도보다 큰 CRL 하나는 캐시하지 않는다) */
+    private void trimCrls() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (crlBytes > maxCrlBytes && it.hasNext()) {
+            Entry e = it.next();
+            if (e.value() instanceof CrlData) {
+                it.remove();
+                released(e);
+            }
+        }
+    }
+
+    private void released(Entry e) {
+        if (e != null && e.value() instanceof CrlData crl) crlBytes -= crl.getEncoded().length;
+    }
+
+    /** 응답 서버 시각 기준 thisUpdate ~ nextUpdate 밖이면 거부 (시계 차이 허용) */
+    private void checkFreshness(Instant thisUpdate, Instant nextUpdate, String kind, String url) {
+        Instant now = clock.instant();
+        if (thisUpdate.isAfter(now.plus(clockSkew))) {
+            throw new IllegalStateException(kind + " 응답이 아직 유효하지 않습니다(thisUpdate=" + thisUpdate + "): " + url);
+        }
+        if (nextUpdate != null && nextUpdate.isBefore(now.minus(clockSkew))) {
+            throw new IllegalStateException(kind + " 응답이 만료되었습니다(nextUpdate=" + nextUpdate + "): " + url);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    // ---- OCSP ----
+
+    private OcspResponseData fetchOcsp(String url, CertificateID id, X509Certificate issuer) {
+        try {
+            // nonce 를 넣지 않는다 - 응답을 캐시/공유하고 미리 생성된 응답을 주는 응답기와도 호환되도록
+            byte[] request = new OCSPReqBuilder().addRequest(id).build().getEncoded();
+            byte[] body = transport.post(url, "application/ocsp-request", request);
+
+            OCSPResp resp = new OCSPResp(body);
+            if (resp.getStatus() != OCSPResp.SUCCESSFUL) {
+                throw new IllegalStateException("OCSP 응답 오류: status=" + resp.getStatus() + " " + url);
+            }
+            BasicOCSPResp basic = (BasicOCSPResp) resp.getResponseObject();
+            if (!basic.isSignatureValid(responderVerifier(basic, issuer))) {
+                throw new IllegalStateException("OCSP 응답 서명이 유효하지 않습니다: " + url);
+            }
+
+            for (SingleResp single : basic.getResponses()) {
+                if (!single.getCertID().equals(id)) continue;
+                CertificateStatus status = single.getCertStatus();
+                OcspResponseData.Status s;
+                Instant revokedAt = null;
+                if (status == CertificateStatus.GOOD) {
+                    s = OcspResponseData.Status.GOOD;
+                } else if (status instanceof RevokedStatus revoked) {
+                    s = OcspResponseData.Status.REVOKED;
+                    revokedAt = revoked.getRevocationTime().toInstant();
+                } else {
+                    s = OcspResponseData.Status.UNKNOWN;
+                }
+                Instant thisUpdate = single.getThisUpdate().toInstant();
+                Instant nextUpdate = single.getNextUpdate() == null ? null : single.getNextUpdate().toInstant();
+                checkFreshness(thisUpdate, nextUpdate, "OCSP", url);
+                return new OcspResponseData(s, revokedAt, thisUpdate, nextUpdate,
+                        basic.getProducedAt().toInstant(),
+                        body);
+            }
+            throw new IllegalStateException("OCSP 응답에 요청한 인증서가 없습니다: " + url);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("OCSP 응답 처리 실패: " + url, e);
+        }
+    }
+
+    /** 발급자가 직접 서명했거나, 발급자가 OCSPSigning 용도로 위임한 응답기 인증서로 서명한 경우만 허용 */
+    private static ContentVerifierProvider responderVerifier(BasicOCSPResp basic, X509Certificate issuer) throws Exception {
+        JcaContentVerifierProviderBuilder builder = new JcaContentVerifierProviderBuilder();
+        X509CertificateHolder issuerHolder = new JcaX509CertificateHolder(issuer);
+        for (X509CertificateHolder responder : basic.getCerts()) {
+            if (responder.equals(issuerHolder)) break;
+            if (!responder.getIssuer().equals(issuerHolder.getSubject())) continue;
+            if (!responder.isSignatureValid(builder.build(issuer))) continue;
+            ExtendedKeyUsage eku = responder.getExtensions() == null ? null
+                    : ExtendedKeyUsage.fromExtensions(responder.getExtensions());
+            if (eku == null || !eku.hasKeyPurposeId(KeyPurposeId.id_kp_OCSPSigning)) continue;
+            return builder.build(responder);
+        }
+        return builder.build(issuer);
+    }
+
+    private static CertificateID certificateId(X509Certificate cert, X509Certificate issuer) {
+        try {
+            return new JcaCertificateID(new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1),
+                    issuer, cert.getSerialNumber());
+        } catch (Exception e) {
+            throw new IllegalStateException("OCSP CertID 생성 실패", e);
+        }
+    }
+
+    // ---- CRL ----
+
+    private CrlData fetchCrl(String url, X509Certificate issuer) {
+        try {
+            byte[] body = transport.get(url);
+            X509CRLHolder crl = new X509CRLHolder(body);
+            X509CertificateHolder issuerHolder = new JcaX509CertificateHolder(issuer);
+            if (!crl.getIssuer().equals(issuerHolder.getSubject())
+                    || !crl.isSignatureValid(new JcaContentVerifierProviderBuilder().build(issuer))) {
+                throw new IllegalStateException("CRL 서명이 유효하지 않습니다: " + url);
+            }
+            Instant thisUpdate = crl.getThisUpdate().toInstant();
+            Instant nextUpdate = crl.getNextUpdate() == null ? null : crl.getNextUpdate().toInstant();
+            checkFreshness(thisUpdate, nextUpdate, "CRL", url);
+
+            Map<BigInteger, Instant> revoked = new HashMap<>();
+            for (Object o : crl.getRevokedCertificates()) {
+                X509CRLEntryHolder entry = (X509CRLEntryHolder) o;
+                revoked.put(entry.getSerialNumber(),
+                        entry.getRevocationDate() == null ? null : entry.getRevocationDate().toInstant());
+            }
+            return new CrlData(url, crl.getIssuer().toString(), thisUpdate, nextUpdate,
+                    RevokedSerials.of(revoked),
+                    body);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("CRL 처리 실패: " + url, e);
+        }
+    }
+
+    // ---- 확장 필드 ----
+
+    private static Extensions extensions(X509Certificate cert) {
+        try {
+            return new JcaX509CertificateHolder(cert).getExtensions();
+        } catch (Exception e) {
+            throw new IllegalStateException("인증서 확장 필드를 읽을 수 없습니다", e);
+        }
+    }
+
+    private static Optional<String> uri(GeneralName name) {
+        if (name.getTagNo() != GeneralName.uniformResourceIdentifier) return Optional.empty();
+        return Optional.of(ASN1IA5String.getInstance(name.getName()).getString());
+    }
+}
@@ -0,0 +1,122 @@
+package com.roa.forge.service;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * CRL 폐기 목록의 일련번호 집합 (불변).
+ * 항목마다 BigInteger/X509CRLEntry 객체를 두지 않고, 고정 폭으로 채운 일련번호를 정렬해 byte[] 하나에 담아 이진 탐색한다.
+ * 수십만 건짜리 CRL 도 (일련번호 폭 + 8) 바이트/건 정도만 차지한다.
+ */
+public final class RevokedSerials {
+
+    private static final RevokedSerials EMPTY = new RevokedSerials(0, new byte[0], new long[0], Map.of());
+
+    /** 일련번호 최대 바이트 수 (부호 비트 제외) */
+    private final int width;
+    /** width 바이트씩 빅엔디언, 왼쪽 0 채움, 부호 없는 오름차순 */
+    private final byte[] packed;
+    /** packed 와 같은 순서의 폐기 시각 (epoch millis) */
+    private final long[] revokedAt;
+    /** RFC 5280 위반인 음수 일련번호는 따로 보관 (드물다) */
+    private final Map<BigInteger, Long> negatives;
+
+    private RevokedSerials(int width, byte[] packed, long[] revokedAt, Map<BigInteger, Long> negatives) {
+        this.width = width;
+        this.packed = packed;
+        this.revokedAt = revokedAt;
+        this.negatives = negatives;
+    }
+
+    public static RevokedSerials of(Map<BigInteger, Instant> entries) {
+        if (entries.isEmpty()) return EMPTY;
+
+        Map<BigInteger, Long> negatives = new HashMap<>();
+        List<byte[]> serials = new ArrayList<>(entries.size());
+        List<Long> times = new ArrayList<>(entries.size());
+        int width = 1;
+        for (Map.Entry<BigInteger, Instant> e : entries.entrySet()) {
+            long at = e.getValue() == null ? Long.MIN_VALUE : e.getValue().toEpochMilli();
+            if (e.getKey().signum() < 0) {
+                negatives.put(e.getKey(), at);
+                continue;
+            }
+            byte[] magnitude = magnitude(e.getKey());
+            width = Math.max(width, magnitude.length);
+            serials.add(magnitude);
+            times.add(at);
+        }
+
+        Integer[] order = new Integer[serials.size()];
+        byte[][] padded = new byte[serials.size()][];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            padded[i] = pad(serials.get(i), width);
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(padded[a], padded[b]));
+
+        byte[] packed = new byte[order.length * width];
+        long[] revokedAt = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            System.arraycopy(padded[order[i]], 0, packed, i * width, width);
+            revokedAt[i] = times.get(order[i]);
+        }
+        return new RevokedSerials(width, packed, revokedAt, negatives.isEmpty() ? Map.of() : Map.copyOf(negatives));
+    }
+
+    public int size() {
+        return revokedAt.length + negatives.size();
+    }
+
+    public boolean contains(BigInteger serial) {
+        return revocationTime(serial).isPresent();
+    }
+
+    /** 폐기된 일련번호면 폐기 시각 (CRL 에 시각이 없으면 Instant.MIN) */
+    public Optional<Instant> revocationTime(BigInteger serial) {
+        if (serial.signum() < 0) {
+            return Optional.ofNullable(negatives.get(serial)).map(RevokedSerials::toInstant);
+        }
+        byte[] magnitude = magnitude(serial);
+        if (magnitude.length > width || revokedAt.length == 0) return Optional.empty();
+        byte[] key = pad(magnitude, width);
+
+        int low = 0;
+        int high = revokedAt.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int from = mid * width;
+            int cmp = Arrays.compareUnsigned(packed, from, from + width, key, 0, width);
+            if (cmp < 0) low = mid + 1;
+            else if (cmp > 0) high = mid - 1;
+            else return Optional.of(toInstant(revokedAt[mid]));
+        }
+        return Optional.empty();
+    }
+
+    /** 대략적인 힙 사용량 (통계용) */
+    public long approximateBytes() {
+        return packed.length + revokedAt.length * 8L + negatives.size() * 64L;
+    }
+
+    private static Instant toInstant(long millis) {
+        return millis == Long.MIN_VALUE ? Instant.MIN : Instant.ofEpochMilli(millis);
+    }
+
+    /** 부호 바이트를 뗀 빅엔디언 크기 */
+    private static byte[] magnitude(BigInteger serial) {
+        byte[] bytes = serial.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            return Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return bytes;
+    }
+
+    private static byte[] pad(byte[] magnitude, int width) {
+        if (magnitude.length == width) return magnitude;
+        byte[] out = new byte[width];
+        System.arraycopy(magnitude, 0, out, width - magnitude.length, magnitude.length);
+        return out;
+    }
+}
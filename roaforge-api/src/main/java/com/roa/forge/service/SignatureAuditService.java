@@ -0,0 +1,48 @@
+package com.roa.forge.service;
+
+import com.roa.forge.dto.CursorPage;
+import com.roa.forge.dto.SignatureLogSearch;
+import com.roa.forge.dto.SignatureLogView;
+import com.roa.forge.repository.SignatureLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SignatureAuditService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final SignatureLogRepository signatureLogRepository;
+
+    /** 최신순 키셋 페이지 - 한 건 더 읽어서 다음 페이지 유무를 판단 */
+    public CursorPage<SignatureLogView> search(SignatureLogSearch search, String cursor, Integer size) {
+        int limit = (size == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        LocalDateTime afterSignedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = KeysetCursor.decode(cursor, 2);
+            try {
+                afterSignedAt = LocalDateTime.parse(keys[0]);
+                afterId = Long.valueOf(keys[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+
+        List<SignatureLogView> rows = signatureLogRepository.searchPage(search, afterSignedAt, afterId, limit + 1);
+        if (rows.size() <= limit) return new CursorPage<>(rows, null);
+
+        List<SignatureLogView> page = rows.subList(0, limit);
+        SignatureLogView last = page.get(limit - 1);
+        return new CursorPage<>(List.copyOf(page), KeysetCursor.encode(last.getSignedAt(), last.getId()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.roa.forge.service;
+
+import com.roa.forge.dto.EffectiveField;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 서명 대상 SIGNATURE 필드의 위치 스냅샷 (트랜잭션 밖 워커 스레드에서 사용) */
+@Getter
+@RequiredArgsConstructor
+public class SignatureSlot {
+
+    private final Long fieldId;
+    private final int page;
+    private final double x;
+    private final double y;
+    private final double w;
+    private final double h;
+
+    public static SignatureSlot of(EffectiveField field) {
+        return new SignatureSlot(field.getId(), field.getPage(),
+                field.getX(), field.getY(), field.getW(), field.getH());
+    }
+}
@@ -0,0 +1,109 @@
+package com.roa.forge.service;
+
+import lombok.Getter;
+import org.bouncycastle.asn1.DERSet;
+import org.bouncycastle.asn1.cms.Attribute;
+import org.bouncycastle.asn1.ess.ESSCertIDv2;
+import org.bouncycastle.asn1.ess.SigningCertificateV2;
+import org.bouncycastle.asn1.nist.NISTObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.IssuerSerial;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaCertStore;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.DigestCalculatorProvider;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.bouncycastle.util.Store;
+
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+
+/**
+ * 서명용 개인키 + 인증서 체인 (체인[0] 이 서명자 인증서).
+ * 서명마다 반복되던 인증서 변환, 체인 저장소, signingCertificateV2 속성, 감사 로그용 메타데이터를 생성 시 한 번만 만든다.
+ * 모든 필드가 불변이라 여러 서명 워커가 잠금 없이 공유한다.
+ */
+@Getter
+public class SignerCredential {
+
+    private static final DigestCalculatorProvider DIGEST_CALCULATORS;
+
+    static {
+        try {
+            DIGEST_CALCULATORS = new JcaDigestCalculatorProviderBuilder().build();
+        } catch (OperatorCreationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String alias;
+    private final PrivateKey privateKey;
+    private final X509Certificate[] chain;
+
+    private final String signatureAlgorithm;
+    private final X509CertificateHolder certificateHolder;
+    private final Store<X509CertificateHolder> certStore;
+    private final Attribute signingCertificateV2;
+
+    /** SignatureLog 에 그대로 쓰는 인증서 메타데이터 */
+    private final String certSubject;
+    private final String certIssuer;
+    private final String certSerial;
+
+    /** build() 는 호출마다 새 Signature 를 만들므로 빌더는 공유해도 된다 */
+    private final JcaContentSignerBuilder contentSignerBuilder;
+
+    public SignerCredential(String alias, PrivateKey privateKey, X509Certificate[] chain) {
+        this.alias = alias;
+        this.privateKey = privateKey;
+        this.chain = chain;
+        X509Certificate cert = chain[0];
+        this.signatureAlgorithm = "EC".equals(privateKey.getAlgorithm()) ? "SHA256withECDSA" : "SHA256withRSA";
+        this.certSubject = cert.getSubjectX500Principal().getName();
+        this.certIssuer = cert.getIssuerX500Principal().getName();
+        this.certSerial = cert.getSerialNumber().toString(16);
+        this.contentSignerBuilder = new JcaContentSignerBuilder(signatureAlgorithm);
+        try {
+            this.certificateHolder = new JcaX509CertificateHolder(cert);
+            this.certStore = new JcaCertStore(Arrays.asList(chain));
+            this.signingCertificateV2 = signingCertificateV2(cert);
+        } catch (Exception e) {
+            throw new IllegalStateException("서명 인증서 준비 실패: " + alias, e);
+        }
+    }
+
+    public X509Certificate getCertificate() {
+        return chain[0];
+    }
+
+    /** 서명 한 건용 ContentSigner (스트림 상태가 있어 호출마다 새로 만든다) */
+    public ContentSigner newContentSigner() {
+        try {
+            return contentSignerBuilder.build(privateKey);
+        } catch (OperatorCreationException e) {
+            throw new IllegalStateException("ContentSigner 생성 실패: " + alias, e);
+        }
+    }
+
+    public DigestCalculatorProvider getDigestCalculatorProvider() {
+        return DIGEST_CALCULATORS;
+    }
+
+    private static Attribute signingCertificateV2(X509Certificate cert) throws Exception {
+        byte[] certHash = MessageDigest.getInstance(CmsSignatureService.DIGEST_ALGORITHM).digest(cert.getEncoded());
+        IssuerSerial issuerSerial = new IssuerSerial(
+                new GeneralNames(new GeneralName(X500Name.getInstance(cert.getIssuerX500Principal().getEncoded()))),
+                cert.getSerialNumber());
+        ESSCertIDv2 certId = new ESSCertIDv2(new AlgorithmIdentifier(NISTObjectIdentifiers.id_sha256), certHash, issuerSerial);
+        return new Attribute(PKCSObjectIdentifiers.id_aa_signingCertificateV2, new DERSet(new SigningCertificateV2(certId)));
+    }
+}
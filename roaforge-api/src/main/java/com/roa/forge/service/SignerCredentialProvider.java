@@ -0,0 +1,212 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.SigningProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.operator.ContentSigner;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 서명 자격 증명 레지스트리.
+ * 시작 시 키스토어의 모든 개인키 엔트리를 SignerCredential 로 만들어 두고, 조회는 불변 스냅샷을 volatile 로 읽기만 한다.
+ * 키스토어 파일이 바뀌면 다시 읽어 시험 서명까지 통과한 경우에만 스냅샷을 교체한다. 실패하면 이전 스냅샷을 계속 쓴다.
+ */
+@Slf4j
+@Service
+public class SignerCredentialProvider {
+
+    private static final byte[] PROBE = "roaforge-credential-probe".getBytes(StandardCharsets.US_ASCII);
+
+    @RequiredArgsConstructor
+    private static final class Registry {
+        private final Map<String, SignerCredential> credentials;
+        private final SignerCredential defaultCredential;
+        private final FileTime modified;
+        private final long size;
+    }
+
+    private final SigningProperties signingProperties;
+    private final ThreadPoolTaskScheduler reloadScheduler;
+
+    private volatile Registry registry;
+    /** 읽기에 실패한 파일 버전 - 다시 바뀌기 전까지는 재시도하지 않는다 */
+    private volatile FileTime failedModified;
+    private ScheduledFuture<?> watch;
+
+    public SignerCredentialProvider(SigningProperties signingProperties,
+                                    @Qualifier("credentialReloadScheduler") ThreadPoolTaskScheduler reloadScheduler) {
+        this.signingProperties = signingProperties;
+        this.reloadScheduler = reloadScheduler;
+    }
+
+    @PostConstruct
+    void load() {
+        String path = signingProperties.getKeystorePath();
+        if (path == null || path.isBlank()) {
+            log.warn("app.signing.keystore-path 가 설정되지 않아 서명 기능이 비활성화됩니다.");
+            return;
+        }
+        this.registry = read(Path.of(path));
+        log.info("서명 인증서 로드: {} (별칭 {}개)", registry.defaultCredential.getCertSubject(), registry.credentials.size());
+
+        Duration interval = signingProperties.getKeystoreReloadInterval();
+        if (interval != null && !interval.isZero() && !interval.isNegative()) {
+            this.watch = reloadScheduler.scheduleWithFixedDelay(this::checkForChanges, interval);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (watch != null) watch.cancel(false);
+    }
+
+    /** 기본 별칭(app.signing.key-alias, 비어 있으면 첫 번째 키 엔트리)의 자격 증명 */
+    public SignerCredential getCredential() {
+        Registry r = this.registry;
+        if (r == null) throw new IllegalStateException("서명 키스토어가 설정되지 않았습니다.");
+        return r.defaultCredential;
+    }
+
+    public SignerCredential getCredential(String alias) {
+        Registry r = this.registry;
+        if (r == null) throw new IllegalStateException("서명 키스토어가 설정되지 않았습니다.");
+        SignerCredential c = r.credentials.get(alias);
+        if (c == null) throw new IllegalArgumentException("키 별칭을 찾을 수 없습니다: " + alias);
+        return c;
+    }
+
+    public Set<String> aliases() {
+        Registry r = this.registry;
+        return r == null ? Set.of() : r.credentials.keySet();
+    }
+
+    /** 파일의 수정 시각/크기가 바뀌었으면 다시 읽는다 */
+    void checkForChanges() {
+        Registry current = this.registry;
+        Path file = Path.of(signingProperties.getKeystorePath());
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (Exception e) {
+            log.warn("서명 키스토어 상태 확인 실패: {} - 기존 인증서를 계속 사용합니다.", e.getMessage());
+            return;
+        }
+        if (current != null && attrs.lastModifiedTime().equals(current.modified) && attrs.size() == current.size) return;
+        if (attrs.lastModifiedTime().equals(failedModified)) return;
+        reload();
+    }
+
+    /** 키스토어를 다시 읽어 교체. 실패하면 기존 스냅샷 유지 */
+    public synchronized boolean reload() {
+        Path file = Path.of(signingProperties.getKeystorePath());
+        try {
+            Registry next = read(file);
+            Registry previous = this.registry;
+            this.registry = next;
+            this.failedModified = null;
+            log.info("서명 키스토어 재로드: {} → {} (별칭 {}개)",
+                    previous == null ? "-" : previous.defaultCredential.getCertSerial(),
+                    next.defaultCredential.getCertSerial(), next.credentials.size());
+            return true;
+        } catch (Exception e) {
+            try {
+                this.failedModified = Files.getLastModifiedTime(file);
+            } catch (Exception ignored) {
+                this.failedModified = null;
+            }
+            log.error("서명 키스토어 재로드 실패 - 기존 인증서를 계속 사용합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private Registry read(Path file) {
+        try {
+            // 읽는 도중 파일이 바뀌면 다음 주기에 다시 읽도록 읽기 전 속성을 기록한다
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            Map<String, SignerCredential> credentials = loadPkcs12(file, signingProperties.getKeystorePassword());
+            if (credentials.isEmpty()) throw new IllegalStateException("키스토어에 개인키가 없습니다: " + file);
+
+            String alias = signingProperties.getKeyAlias();
+            SignerCredential defaultCredential = alias == null || alias.isBlank()
+                    ? credentials.values().iterator().next()
+                    : credentials.get(alias);
+            if (defaultCredential == null) throw new IllegalStateException("키 별칭을 찾을 수 없습니다: " + alias);
+
+            credentials.values().forEach(SignerCredentialProvider::probe);
+            return new Registry(Collections.unmodifiableMap(credentials), defaultCredential,
+                    attrs.lastModifiedTime(), attrs.size());
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("키스토어 로드 실패: " + file, e);
+        }
+    }
+
+    /** 개인키와 인증서 공개키가 짝이 맞는지 시험 서명으로 확인 */
+    private static void probe(SignerCredential credential) {
+        try {
+            ContentSigner signer = credential.newContentSigner();
+            try (OutputStream out = signer.getOutputStream()) {
+                out.write(PROBE);
+            }
+            Signature verifier = Signature.getInstance(credential.getSignatureAlgorithm());
+            verifier.initVerify(credential.getCertificate().getPublicKey());
+            verifier.update(PROBE);
+            if (!verifier.verify(signer.getSignature())) {
+                throw new IllegalStateException("개인키와 인증서가 일치하지 않습니다: " + credential.getAlias());
+            }
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("시험 서명 실패: " + credential.getAlias(), e);
+        }
+    }
+
+    /** 키스토어의 모든 개인키 엔트리 (키스토어 순서 유지) */
+    static Map<String, SignerCredential> loadPkcs12(Path file, String password) {
+        char[] pw = password == null ? new char[0] : password.toCharArray();
+        try (InputStream in = Files.newInputStream(file)) {
+            KeyStore ks = KeyStore.getInstance("PKCS12");
+            ks.load(in, pw);
+
+            Map<String, SignerCredential> credentials = new LinkedHashMap<>();
+            for (String keyAlias : Collections.list(ks.aliases())) {
+                if (!ks.isKeyEntry(keyAlias)) continue;
+                PrivateKey key = (PrivateKey) ks.getKey(keyAlias, pw);
+                Certificate[] chain = ks.getCertificateChain(keyAlias);
+                if (key == null || chain == null || chain.length == 0) continue;
+                X509Certificate[] x509Chain = Arrays.stream(chain)
+                        .map(X509Certificate.class::cast)
+                        .toArray(X509Certificate[]::new);
+                credentials.put(keyAlias, new SignerCredential(keyAlias, key, x509Chain));
+            }
+            return credentials;
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("키스토어 로드 실패: " + file, e);
+        } finally {
+            Arrays.fill(pw, '\0');
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.JobProperties;
+import com.roa.forge.dto.JobProgress;
+import com.roa.forge.dto.SigningContext;
+import com.roa.forge.entity.JobItemStatus;
+import com.roa.forge.entity.JobStatus;
+import com.roa.forge.entity.SigningJob;
+import com.roa.forge.entity.SigningJobItem;
+import com.roa.forge.repository.SigningJobItemRepository;
+import com.roa.forge.repository.SigningJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 서명 작업 실행기.
+ * 작업마다 디스패치 스레드 하나가 대기 항목을 id 순으로 페이지 단위로 읽고, 작업별 세마포어(concurrency)를 얻은 만큼만
+ * 워커 풀에 넘긴다. 워커는 항목 상태를 단건 update 로 기록하므로 중단되어도 PENDING/FAILED 항목부터 이어서 재개할 수 있다.
+ */
+@Slf4j
+@Component
+public class SigningJobRunner {
+
+    private final SigningJobRepository jobRepository;
+    private final SigningJobItemRepository itemRepository;
+    private final PdfSigningService pdfSigningService;
+    private final JobProgressPublisher progressPublisher;
+    private final JobProperties jobProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor workerExecutor;
+    private final Executor dispatchExecutor;
+
+    private final Map<Long, JobRun> runs = new ConcurrentHashMap<>();
+
+    public SigningJobRunner(SigningJobRepository jobRepository,
+                            SigningJobItemRepository itemRepository,
+                            PdfSigningService pdfSigningService,
+                            JobProgressPublisher progressPublisher,
+                            JobProperties jobProperties,
+                            PlatformTransactionManager transactionManager,
+                            @Qualifier("jobWorkerExecutor") Executor workerExecutor,
+                            @Qualifier("jobDispatchExecutor") Executor dispatchExecutor) {
+        this.jobRepository = jobRepository;
+        this.itemRepository = itemRepository;
+        this.pdfSigningService = pdfSigningService;
+        this.progressPublisher = progressPublisher;
+        this.jobProperties = jobProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workerExecutor = workerExecutor;
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    /** 실행 대기열에 넣는다 (이미 실행/대기 중이면 무시) */
+    public void enqueue(Long jobId) {
+        JobRun run = new JobRun(jobId);
+        if (runs.putIfAbsent(jobId, run) != null) return;
+        dispatchExecutor.execute(() -> {
+            try {
+                dispatch(run);
+            } catch (Exception e) {
+                log.error("서명 작업 실행 실패: jobId={}", jobId, e);
+            } finally {
+                runs.remove(jobId, run);
+            }
+        });
+    }
+
+    /** 실행 중인 항목은 끝까지 처리하고, 남은 항목은 PENDING 으로 둔다 */
+    public boolean cancel(Long jobId) {
+        JobRun run = runs.get(jobId);
+        if (run == null) return false;
+        run.cancelled = true;
+        return true;
+    }
+
+    public boolean isActive(Long jobId) {
+        return runs.containsKey(jobId);
+    }
+
+    /** 실행 중이면 메모리 카운터 기준 진행률 */
+    public Optional<JobProgress> liveProgress(Long jobId) {
+        return Optional.ofNullable(runs.get(jobId)).filter(run -> run.total > 0).map(JobRun::snapshot);
+    }
+
+    /** 항목 상태별 집계 (DB) */
+    public Map<JobItemStatus, Integer> countItems(Long jobId) {
+        Map<JobItemStatus, Integer> counts = new EnumMap<>(JobItemStatus.class);
+        for (Object[] row : itemRepository.countByStatus(jobId)) {
+            counts.put((JobItemStatus) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    private void dispatch(JobRun run) throws InterruptedException {
+        Long jobId = run.jobId;
+        SigningJob job = transactionTemplate.execute(status -> {
+            SigningJob j = jobRepository.findById(jobId).orElse(null);
+            if (j == null || j.isFinished()) return null;
+            if (!run.cancelled) j.start();
+            return j;
+        });
+        if (job == null) return;
+
+        Map<JobItemStatus, Integer> counts = countItems(jobId);
+        run.total = job.getTotal();
+        run.succeeded.set(counts.getOrDefault(JobItemStatus.SUCCEEDED, 0));
+        run.failed.set(counts.getOrDefault(JobItemStatus.FAILED, 0));
+
+        SigningContext context = new SigningContext(job.getSigner(), job.getIpAddress(), job.getUserAgent());
+        int concurrency = Math.max(1, job.getConcurrency());
+        Semaphore permits = new Semaphore(concurrency);
+        long afterId = 0;
+
+        dispatching:
+        while (!run.cancelled) {
+            List<SigningJobItem> page = itemRepository.findPending(jobId, afterId, PageRequest.of(0, jobProperties.getPageSize()));
+            if (page.isEmpty()) break;
+            for (SigningJobItem item : page) {
+                // 작업별 동시 처리 수만큼만 워커에 넘긴다 - 나머지는 DB 에 PENDING 으로 남아 메모리를 쓰지 않음
+                permits.acquire();
+                if (run.cancelled) {
+                    permits.release();
+                    break dispatching;
+                }
+                afterId = item.getId();
+                workerExecutor.execute(() -> {
+                    try {
+                        process(run, item, context);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        permits.acquire(concurrency);
+
+        Map<JobItemStatus, Integer> finalCounts = countItems(jobId);
+        int succeeded = finalCounts.getOrDefault(JobItemStatus.SUCCEEDED, 0);
+        int failed = finalCounts.getOrDefault(JobItemStatus.FAILED, 0);
+        SigningJob finished = transactionTemplate.execute(status -> {
+            SigningJob j = jobRepository.findById(jobId).orElseThrow();
+            if (run.cancelled) j.cancel(succeeded, failed);
+            else j.finish(succeeded, failed);
+            return j;
+        });
+        log.info("서명 작업 종료: jobId={}, status={}, succeeded={}, failed={}",
+                jobId, finished.getStatus(), succeeded, failed);
+        progressPublisher.finished(new JobProgress(jobId, finished.getStatus(), finished.getTotal(), succeeded, failed));
+    }
+
+    private void process(JobRun run, SigningJobItem item, SigningContext context) {
+        if (itemRepository.markRunning(item.getId()) == 0) return;
+
+        int attempts = 0;
+        String error;
+        while (true) {
+            attempts++;
+            try {
+                pdfSigningService.sign(item.getDocumentId(), context);
+                itemRepository.markSucceeded(item.getId(), attempts, LocalDateTime.now());
+                run.succeeded.incrementAndGet();
+                error = null;
+                break;
+            } catch (IllegalArgumentException e) {
+                // 문서 없음/서명 필드 없음 - 재시도해도 같다
+                error = e.getMessage();
+                break;
+            } catch (Exception e) {
+                error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                if (attempts >= jobProperties.getMaxAttempts() || run.cancelled) break;
+                log.debug("서명 항목 재시도: jobId={}, itemId={}, attempt={}", run.jobId, item.getId(), attempts, e);
+                if (!backoff(attempts)) break;
+            }
+        }
+        if (error != null) {
+            itemRepository.markFailed(item.getId(), attempts, ErrorMessages.truncate(error), LocalDateTime.now());
+            run.failed.incrementAndGet();
+        }
+        publishThrottled(run);
+    }
+
+    private boolean backoff(int attempts) {
+        try {
+            Thread.sleep(jobProperties.getRetryBackoff().toMillis() * attempts);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** progressInterval 당 한 번만 전송 (경쟁 시 CAS 에 이긴 스레드만) */
+    private void publishThrottled(JobRun run) {
+        long now = System.nanoTime();
+        long next = run.nextProgressAt.get();
+        if (now - next < 0 || !run.nextProgressAt.compareAndSet(next, now + jobProperties.getProgressInterval().toNanos())) {
+            return;
+        }
+        progressPublisher.progress(run.snapshot());
+    }
+
+    private static final class JobRun {
+        private final Long jobId;
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicLong nextProgressAt = new AtomicLong(System.nanoTime());
+        private volatile int total;
+        private volatile boolean cancelled;
+
+        JobRun(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        JobProgress snapshot() {
+            return new JobProgress(jobId, cancelled ? JobStatus.CANCELLED : JobStatus.RUNNING,
+                    total, succeeded.get(), failed.get());
+        }
+    }
+}
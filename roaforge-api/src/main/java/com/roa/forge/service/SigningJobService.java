@@ -0,0 +1,138 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.JobProperties;
+import com.roa.forge.dto.JobProgress;
+import com.roa.forge.dto.SigningContext;
+import com.roa.forge.dto.SigningJobRequest;
+import com.roa.forge.entity.JobItemStatus;
+import com.roa.forge.entity.JobStatus;
+import com.roa.forge.entity.SigningJob;
+import com.roa.forge.entity.SigningJobItem;
+import com.roa.forge.repository.SigningJobItemRepository;
+import com.roa.forge.repository.SigningJobRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+
+/** 대량 서명 작업 생성/조회/재시도/취소, 기동 시 미완료 작업 재개 */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SigningJobService {
+
+    /** 항목 insert 시 flush/clear 단위 */
+    private static final int INSERT_CHUNK = 500;
+
+    private final SigningJobRepository jobRepository;
+    private final SigningJobItemRepository itemRepository;
+    private final SigningJobRunner runner;
+    private final JobProgressPublisher progressPublisher;
+    private final JobProperties jobProperties;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** 작업과 항목을 저장하고 커밋 후 실행 대기열에 넣는다 */
+    @Transactional
+    public JobProgress create(SigningJobRequest request, SigningContext context) {
+        List<Long> documentIds = request.getDocumentIds().stream().distinct().toList();
+        if (documentIds.size() > jobProperties.getMaxItems()) {
+            throw new IllegalArgumentException("한 작업의 최대 문서 수를 초과했습니다. : " + jobProperties.getMaxItems());
+        }
+        int concurrency = request.getConcurrency() == null
+                ? jobProperties.getDefaultConcurrency()
+                : Math.min(request.getConcurrency(), jobProperties.getMaxConcurrency());
+
+        SigningJob job = jobRepository.save(SigningJob.builder()
+                .signer(context.getSigner())
+                .ipAddress(context.getIpAddress())
+                .userAgent(context.getUserAgent())
+                .concurrency(concurrency)
+                .total(documentIds.size())
+                .build());
+        Long jobId = job.getId();
+        for (int i = 0; i < documentIds.size(); i++) {
+            entityManager.persist(new SigningJobItem(jobId, documentIds.get(i)));
+            if ((i + 1) % INSERT_CHUNK == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        enqueueAfterCommit(jobId);
+        return new JobProgress(jobId, JobStatus.QUEUED, documentIds.size(), 0, 0);
+    }
+
+    @Transactional(readOnly = true)
+    public JobProgress getProgress(Long jobId) {
+        SigningJob job = findJob(jobId);
+        if (job.isFinished()) {
+            return new JobProgress(jobId, job.getStatus(), job.getTotal(), job.getSucceeded(), job.getFailed());
+        }
+        return runner.liveProgress(jobId).orElseGet(() -> {
+            Map<JobItemStatus, Integer> counts = runner.countItems(jobId);
+            return new JobProgress(jobId, job.getStatus(), job.getTotal(),
+                    counts.getOrDefault(JobItemStatus.SUCCEEDED, 0), counts.getOrDefault(JobItemStatus.FAILED, 0));
+        });
+    }
+
+    public SseEmitter subscribe(Long jobId) {
+        return progressPublisher.subscribe(jobId, () -> getProgress(jobId));
+    }
+
+    /** 실패 항목만 다시 PENDING 으로 돌려 이어서 실행 (취소된 작업은 남은 항목부터 재개) */
+    @Transactional
+    public JobProgress retry(Long jobId) {
+        SigningJob job = findJob(jobId);
+        if (!job.isFinished() || runner.isActive(jobId)) {
+            throw new IllegalStateException("실행 중인 작업입니다. : " + jobId);
+        }
+        int requeued = itemRepository.requeueFailed(jobId);
+        job.requeue();
+        log.info("서명 작업 재시도: jobId={}, requeued={}", jobId, requeued);
+        enqueueAfterCommit(jobId);
+        return new JobProgress(jobId, JobStatus.QUEUED, job.getTotal(), job.getSucceeded(), job.getFailed() - requeued);
+    }
+
+    public void cancel(Long jobId) {
+        if (!runner.cancel(jobId)) {
+            throw new IllegalStateException("실행 중인 작업이 아닙니다. : " + jobId);
+        }
+    }
+
+    /** 비정상 종료로 중단된 작업 재개 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        int reset = itemRepository.resetInterrupted();
+        List<SigningJob> jobs = jobRepository.findAllByStatusInOrderByIdAsc(List.of(JobStatus.QUEUED, JobStatus.RUNNING));
+        if (!jobs.isEmpty()) {
+            log.info("미완료 서명 작업 재개: {}건 (중단된 항목 {}건)", jobs.size(), reset);
+        }
+        jobs.forEach(job -> runner.enqueue(job.getId()));
+    }
+
+    private void enqueueAfterCommit(Long jobId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runner.enqueue(jobId);
+            }
+        });
+    }
+
+    private SigningJob findJob(Long jobId) {
+        return jobRepository.findById(jobId).orElseThrow(() ->
+                new IllegalArgumentException("작업을 찾을 수 없습니다. : " + jobId));
+    }
+}
@@ -0,0 +1,111 @@
+package com.roa.forge.service;
+
+import org.apache.fontbox.ttf.CmapLookup;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.font.encoding.GlyphList;
+import org.apache.pdfbox.pdmodel.font.encoding.WinAnsiEncoding;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * 스탬프용 글꼴. 파싱한 글꼴 프로그램과 BMP 글리프 폭표는 한 번 만들어 모든 문서가 공유하고,
+ * 문서에 넣을 PDFont 만 문서마다 만든다 (TrueType 은 공유 바이트 위의 파서 뷰라 복사가 없다).
+ * 폭표로 글자 크기 맞춤과 지원하지 않는 문자 치환을 문서 글꼴 없이 계산한다.
+ */
+final class StampFont {
+
+    private static final int BMP = 0x10000;
+
+    private final String name;
+    /** null 이면 Helvetica */
+    private final byte[] program;
+    /** 코드 포인트별 전진 폭 (1/1000 em), NaN 이면 글리프 없음 */
+    private final float[] advances;
+
+    private StampFont(String name, byte[] program, float[] advances) {
+        this.name = name;
+        this.program = program;
+        this.advances = advances;
+    }
+
+    static StampFont trueType(Path file) throws IOException {
+        byte[] program = Files.readAllBytes(file);
+        try (TrueTypeFont ttf = new TTFParser().parse(new RandomAccessReadBuffer(program))) {
+            CmapLookup cmap = ttf.getUnicodeCmapLookup();
+            float scale = 1000f / ttf.getUnitsPerEm();
+            float[] advances = emptyAdvances();
+            for (int cp = 0; cp < BMP; cp++) {
+                int gid = cmap.getGlyphId(cp);
+                if (gid > 0) advances[cp] = ttf.getAdvanceWidth(gid) * scale;
+            }
+            return new StampFont(file.getFileName().toString(), program, advances);
+        }
+    }
+
+    static StampFont helvetica() throws IOException {
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        GlyphList glyphs = GlyphList.getAdobeGlyphList();
+        float[] advances = emptyAdvances();
+        for (int cp = 0; cp < BMP; cp++) {
+            if (Character.isSurrogate((char) cp)) continue;
+            String glyph = glyphs.codePointToName(cp);
+            if (!".notdef".equals(glyph) && WinAnsiEncoding.INSTANCE.contains(glyph)) {
+                advances[cp] = font.getStringWidth(String.valueOf((char) cp));
+            }
+        }
+        return new StampFont("Helvetica", null, advances);
+    }
+
+    private static float[] emptyAdvances() {
+        float[] advances = new float[BMP];
+        Arrays.fill(advances, Float.NaN);
+        return advances;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /** 문서 하나에 쓸 PDFont. TrueType 은 사용한 글리프만 부분 임베드되고, 문서를 닫을 때 함께 닫힌다 */
+    PDFont load(PDDocument doc) throws IOException {
+        if (program == null) return new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        TrueTypeFont ttf = new TTFParser().parse(new RandomAccessReadBuffer(program));
+        doc.registerTrueTypeFontForClosing(ttf);
+        return PDType0Font.load(doc, ttf, true);
+    }
+
+    /** 제어 문자는 공백, 글리프가 없는 문자는 '?' (그것도 없으면 제외) 로 바꾼 출력용 문자열 */
+    String printable(String text) {
+        boolean hasQuestionMark = !Float.isNaN(advances['?']);
+        StringBuilder sb = new StringBuilder(text.length());
+        text.codePoints().forEach(cp -> {
+            if (Character.isISOControl(cp)) {
+                if (!Float.isNaN(advances[' '])) sb.append(' ');
+            } else if (cp < BMP && !Float.isNaN(advances[cp])) {
+                sb.append((char) cp);
+            } else if (hasQuestionMark) {
+                sb.append('?');
+            }
+        });
+        return sb.toString();
+    }
+
+    /** printable() 결과의 폭(pt) */
+    float width(String printable, float fontSize) {
+        float total = 0;
+        for (int i = 0; i < printable.length(); i++) {
+            total += advances[printable.charAt(i)];
+        }
+        return total * fontSize / 1000f;
+    }
+}
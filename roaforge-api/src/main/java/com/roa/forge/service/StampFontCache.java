@@ -0,0 +1,41 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.StampingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/** 설정된 스탬프 글꼴을 처음 쓸 때 한 번 파싱해 두고 모든 문서/워커가 공유한다 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StampFontCache {
+
+    private final StampingProperties stampingProperties;
+
+    private volatile StampFont font;
+
+    StampFont get() {
+        StampFont f = this.font;
+        if (f != null) return f;
+        synchronized (this) {
+            if (this.font == null) this.font = load();
+            return this.font;
+        }
+    }
+
+    private StampFont load() {
+        String path = stampingProperties.getFontPath();
+        try {
+            StampFont loaded = path == null || path.isBlank()
+                    ? StampFont.helvetica()
+                    : StampFont.trueType(Path.of(path));
+            log.info("스탬프 글꼴 로드: {}", loaded.getName());
+            return loaded;
+        } catch (Exception e) {
+            throw new IllegalStateException("스탬프 글꼴 로드 실패: " + path, e);
+        }
+    }
+}
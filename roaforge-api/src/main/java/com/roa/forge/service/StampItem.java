@@ -0,0 +1,42 @@
+package com.roa.forge.service;
+
+import com.roa.forge.dto.EffectiveField;
+import com.roa.forge.entity.FieldType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** PDF 에 새길 TEXT/DATE/CHECKBOX 필드 값 스냅샷 (트랜잭션 밖 워커 스레드에서 사용) */
+@Getter
+@RequiredArgsConstructor
+public class StampItem {
+
+    private final Long fieldId;
+    private final int page;
+    private final double x;
+    private final double y;
+    private final double w;
+    private final double h;
+    private final FieldType type;
+    private final String value;
+
+    public static StampItem of(EffectiveField field) {
+        return new StampItem(field.getId(), field.getPage(),
+                field.getX(), field.getY(), field.getW(), field.getH(), field.getType(), field.getData());
+    }
+
+    /** 새길 내용이 있는 필드만 (체크 해제된 CHECKBOX, 빈 값은 제외) */
+    public static boolean isStampable(EffectiveField field) {
+        if (field.getType() == FieldType.SIGNATURE || field.getData() == null || field.getData().isBlank()) {
+            return false;
+        }
+        return field.getType() != FieldType.CHECKBOX || isChecked(field.getData());
+    }
+
+    public static boolean isChecked(String value) {
+        if (value == null) return false;
+        return switch (value.trim().toLowerCase()) {
+            case "true", "on", "yes", "y", "1", "checked", "v" -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.StorageProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@Service
+@RequiredArgsConstructor
+public class StorageService {
+
+    private final StorageProperties storageProperties;
+
+    /** Document.path 를 실제 파일 경로로 변환 (상대경로는 저장소 루트 기준) */
+    public Path resolve(String path) {
+        if (path == null || path.isBlank()) throw new IllegalArgumentException("문서 경로가 비어 있습니다.");
+        Path p = Paths.get(path);
+        return p.isAbsolute() ? p : Paths.get(storageProperties.getRoot()).resolve(p).normalize();
+    }
+
+    /** contract.pdf → contract{suffix}.pdf */
+    public Path sibling(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String sibling = (dot > 0)
+                ? name.substring(0, dot) + suffix + name.substring(dot)
+                : name + suffix;
+        return file.resolveSibling(sibling);
+    }
+
+    /** 파일 SHA-256 (hex) - 고정 버퍼로 스트리밍 */
+    public String sha256Hex(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] buf = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buf)) != -1) md.update(buf, 0, n);
+            return HexFormat.of().formatHex(md.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 해시 계산 실패: " + file, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
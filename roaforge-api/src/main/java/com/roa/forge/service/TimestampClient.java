@@ -0,0 +1,67 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.PkiProperties;
+import org.bouncycastle.tsp.TSPAlgorithms;
+import org.bouncycastle.tsp.TimeStampRequest;
+import org.bouncycastle.tsp.TimeStampRequestGenerator;
+import org.bouncycastle.tsp.TimeStampResponse;
+import org.bouncycastle.tsp.TimeStampToken;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * RFC 3161 타임스탬프 클라이언트 (블로킹).
+ * 호출 스레드가 응답까지 대기하므로 가상 스레드 모드에서 가장 이득이 큰 경로다.
+ */
+@Component
+public class TimestampClient {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final PkiHttpTransport transport;
+    private final PkiProperties pkiProperties;
+
+    public TimestampClient(PkiHttpTransport transport, PkiProperties pkiProperties) {
+        this.transport = transport;
+        this.pkiProperties = pkiProperties;
+    }
+
+    public boolean isEnabled() {
+        return pkiProperties.getTsaUrl() != null && !pkiProperties.getTsaUrl().isBlank();
+    }
+
+    /** data 의 SHA-256 에 대한 타임스탬프 토큰 (CMS 에서는 서명값을 넘긴다) */
+    public TimeStampToken timestamp(byte[] data) {
+        try {
+            return timestampDigest(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 이미 계산한 SHA-256 다이제스트에 대한 타임스탬프 토큰 (문서 타임스탬프는 ByteRange 다이제스트를 넘긴다) */
+    public TimeStampToken timestampDigest(byte[] digest) {
+        try {
+            TimeStampRequestGenerator generator = new TimeStampRequestGenerator();
+            generator.setCertReq(true);
+            TimeStampRequest request = generator.generate(TSPAlgorithms.SHA256, digest, new BigInteger(64, RANDOM));
+
+            byte[] body = transport.post(pkiProperties.getTsaUrl(), "application/timestamp-query", request.getEncoded());
+            TimeStampResponse tsr = new TimeStampResponse(body);
+            tsr.validate(request);
+            TimeStampToken token = tsr.getTimeStampToken();
+            if (token == null) {
+                throw new IllegalStateException("TSA 가 타임스탬프를 발급하지 않았습니다: " + tsr.getStatusString());
+            }
+            return token;
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("TSA 호출 실패", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.VerificationProperties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.cert.Certificate;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.*;
+
+/**
+ * 서명 검증용 신뢰 앵커.
+ * 키스토어 파일의 수정 시각이나 서명 체인 루트가 바뀌면 다시 읽고, 앵커 집합의 지문(version)이 달라진다.
+ * 검증 보고서 캐시는 이 version 을 키에 포함하므로 앵커가 바뀌면 이전 보고서는 쓰이지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrustAnchorStore {
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Snapshot {
+        private final Set<TrustAnchor> anchors;
+        private final List<X509Certificate> certificates;
+        /** 앵커 인증서 SHA-256 지문들을 정렬해 다시 해시한 값 (앞 16자리) */
+        private final String version;
+    }
+
+    private final VerificationProperties verificationProperties;
+    private final SignerCredentialProvider credentialProvider;
+
+    private volatile Snapshot snapshot;
+    private volatile FileTime loadedModified;
+    private volatile X509Certificate loadedSigningRoot;
+
+    public Snapshot current() {
+        Snapshot s = this.snapshot;
+        if (s == null || !Objects.equals(trustStoreModified(), loadedModified) || signingRoot() != loadedSigningRoot) {
+            return reload();
+        }
+        return s;
+    }
+
+    public synchronized Snapshot reload() {
+        FileTime modified = trustStoreModified();
+        X509Certificate signingRoot = signingRoot();
+
+        Map<String, X509Certificate> certs = new TreeMap<>();
+        String path = verificationProperties.getTrustStorePath();
+        if (path != null && !path.isBlank()) {
+            for (X509Certificate cert : loadTrustStore(Path.of(path))) {
+                certs.put(fingerprint(cert), cert);
+            }
+        }
+        if (signingRoot != null) certs.put(fingerprint(signingRoot), signingRoot);
+
+        Set<TrustAnchor> anchors = new HashSet<>();
+        certs.values().forEach(cert -> anchors.add(new TrustAnchor(cert, null)));
+        String version = fingerprint(String.join(",", certs.keySet()).getBytes(StandardCharsets.US_ASCII)).substring(0, 16);
+
+        Snapshot previous = this.snapshot;
+        this.snapshot = new Snapshot(Set.copyOf(anchors), List.copyOf(certs.values()), version);
+        this.loadedModified = modified;
+        this.loadedSigningRoot = signingRoot;
+        if (previous == null || !previous.getVersion().equals(version)) {
+            log.info("신뢰 앵커 {}개 로드 (version={})", certs.size(), version);
+        }
+        return this.snapshot;
+    }
+
+    private FileTime trustStoreModified() {
+        String path = verificationProperties.getTrustStorePath();
+        if (path == null || path.isBlank()) return null;
+        try {
+            return Files.getLastModifiedTime(Path.of(path));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** 서명 키스토어 체인의 마지막 인증서 (자체 서명일 때만) */
+    private X509Certificate signingRoot() {
+        if (!verificationProperties.isTrustSigningRoot()) return null;
+        try {
+            X509Certificate[] chain = credentialProvider.getCredential().getChain();
+            X509Certificate last = chain[chain.length - 1];
+            return last.getSubjectX500Principal().equals(last.getIssuerX500Principal()) ? last : null;
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private List<X509Certificate> loadTrustStore(Path file) {
+        String password = verificationProperties.getTrustStorePassword();
+        char[] pw = password == null ? new char[0] : password.toCharArray();
+        try (InputStream in = Files.newInputStream(file)) {
+            KeyStore ks = KeyStore.getInstance(verificationProperties.getTrustStoreType());
+            ks.load(in, pw);
+            List<X509Certificate> certs = new ArrayList<>();
+            for (String alias : Collections.list(ks.aliases())) {
+                Certificate cert = ks.getCertificate(alias);
+                if (cert instanceof X509Certificate x509) certs.add(x509);
+            }
+            return certs;
+        } catch (Exception e) {
+            throw new IllegalStateException("신뢰 앵커 키스토어 로드 실패: " + file, e);
+        } finally {
+            Arrays.fill(pw, '\0');
+        }
+    }
+
+    private static String fingerprint(X509Certificate cert) {
+        try {
+            return fingerprint(cert.getEncoded());
+        } catch (Exception e) {
+            throw new IllegalStateException("인증서 인코딩 실패", e);
+        }
+    }
+
+    private static String fingerprint(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.roa.forge.service;
 
+import com.roa.forge.dto.CursorPage;
+import com.roa.forge.dto.UserSearch;
+import com.roa.forge.dto.UserSummary;
+import com.roa.forge.entity.Role;
 import com.roa.forge.entity.UserAccount;
+import com.roa.forge.repository.RoleRepository;
 import com.roa.forge.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -8,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -15,10 +21,35 @@ import java.util.List;
 public class UserAccountService {
 
     private final UserAccountRepository userAccountRepository;
+    private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final QuotaService quotaService;
 
-    public List<UserAccount> getAllUsers() {
-        return userAccountRepository.findAll();
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /** id 키셋 페이지 + 페이지 단위 역할 일괄 조회 (사용자 수와 무관하게 쿼리 2회) */
+    public CursorPage<UserSummary> searchUsers(UserSearch search, String cursor, Integer size) {
+        int limit = (size == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.valueOf(KeysetCursor.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+
+        List<UserSummary> rows = userAccountRepository.searchPage(search, afterId, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<UserSummary> page = hasNext ? List.copyOf(rows.subList(0, limit)) : rows;
+
+        Map<Long, List<String>> roles = userAccountRepository.findRoleNamesByUserIds(
+                page.stream().map(UserSummary::getId).toList());
+        page.forEach(u -> u.setRoles(roles.getOrDefault(u.getId(), List.of())));
+
+        String nextCursor = hasNext ? KeysetCursor.encode(page.get(limit - 1).getId()) : null;
+        return new CursorPage<>(page, nextCursor);
     }
 
     public UserAccount getUser(Long id) {
@@ -28,6 +59,7 @@ public class UserAccountService {
 
     @Transactional
     public UserAccount createUser(UserAccount user) {
+        if (Boolean.TRUE.equals(user.getActive())) quotaService.reserve(QuotaResource.USERS, 1);
         String encodedPw = passwordEncoder.encode(user.getPassword());
         user = UserAccount.builder()
                 .username(user.getUsername())
@@ -54,6 +86,42 @@ public class UserAccountService {
         return userAccountRepository.save(existing);
     }
 
+    /**
+     * 아래 변경들은 관리 상태 엔티티의 dirty checking 으로 반영되므로,
+     * READ_WRITE 2차 캐시(userAccount / userAccount.roles)도 커밋 시점에 함께 갱신된다.
+     */
+    @Transactional
+    public void deactivateUser(Long id) {
+        getUser(id).deactivate();
+    }
+
+    @Transactional
+    public void activateUser(Long id) {
+        UserAccount user = getUser(id);
+        if (!Boolean.TRUE.equals(user.getActive())) quotaService.reserve(QuotaResource.USERS, 1);
+        user.activate();
+    }
+
+    @Transactional
+    public void changePassword(Long id, String rawPassword) {
+        getUser(id).changePassword(passwordEncoder.encode(rawPassword));
+    }
+
+    @Transactional
+    public void assignRole(Long id, String roleName) {
+        getUser(id).addRole(findRole(roleName));
+    }
+
+    @Transactional
+    public void revokeRole(Long id, String roleName) {
+        getUser(id).removeRole(findRole(roleName));
+    }
+
+    private Role findRole(String roleName) {
+        return roleRepository.findByName(roleName).orElseThrow(() ->
+                new IllegalArgumentException("역할을 찾을 수 없습니다. : " + roleName));
+    }
+
     @Transactional
     public void deleteUser(Long id) {
         userAccountRepository.deleteById(id);
@@ -0,0 +1,523 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.SigningProperties;
+import com.roa.forge.config.VerificationProperties;
+import com.roa.forge.dto.SignatureVerification;
+import com.roa.forge.dto.VerificationCacheStats;
+import com.roa.forge.dto.VerificationReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.digitalsignature.PDSignature;
+import org.apache.pdfbox.pdmodel.interactive.form.PDSignatureField;
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.cms.Attribute;
+import org.bouncycastle.asn1.cms.AttributeTable;
+import org.bouncycastle.asn1.cms.CMSAttributes;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoVerifierBuilder;
+import org.bouncycastle.tsp.TimeStampToken;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.*;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PDF 서명 검증 (자체 발급/외부 업로드 공통).
+ * 서명마다 ByteRange 무결성, CMS 서명, 서명/문서 타임스탬프, 신뢰 앵커까지의 체인을 verifyExecutor 에서 병렬로 확인한다.
+ * 같은 파일은 반복 검증되는 경우가 많아 보고서를 (콘텐츠 SHA-256, 신뢰 앵커 version) 키로 LRU 캐시한다.
+ * 폐기 여부는 보지 않는다 - 시간에 따라 바뀌는 결과라 콘텐츠 해시로 캐시할 수 없다.
+ * 같은 이유로 현재 시각 기준으로 체인을 확인한 서명이 있는 보고서도 캐시하지 않는다.
+ */
+@Slf4j
+@Service
+public class VerificationService {
+
+    private static final COSName DSS = COSName.getPDFName("DSS");
+    private static final COSName CERTS = COSName.getPDFName("Certs");
+
+    private final DocumentContentService documentContentService;
+    private final TrustAnchorStore trustAnchorStore;
+    private final VerificationProperties verificationProperties;
+    private final SigningProperties signingProperties;
+    private final Executor verifyExecutor;
+
+    /** accessOrder=true 로 LRU 순서 유지, 접근은 this 로 동기화 */
+    private final LinkedHashMap<String, VerificationReport> reports;
+    private String reportsVersion;
+
+    /** 같은 파일을 동시에 검증하면 한 번만 수행 */
+    private final ConcurrentHashMap<String, CompletableFuture<VerificationReport>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+
+    /** PDF 에서 뽑아낸 서명 하나 (문서를 닫은 뒤 워커에서 사용) */
+    @RequiredArgsConstructor
+    private static final class SignatureInput {
+        private final String fieldName;
+        private final String subFilter;
+        private final String name;
+        private final Instant claimedTime;
+        private final int[] byteRange;
+        private final byte[] contents;
+    }
+
+    public VerificationService(DocumentContentService documentContentService,
+                               TrustAnchorStore trustAnchorStore,
+                               VerificationProperties verificationProperties,
+                               SigningProperties signingProperties,
+                               @Qualifier("verifyExecutor") Executor verifyExecutor) {
+        this.documentContentService = documentContentService;
+        this.trustAnchorStore = trustAnchorStore;
+        this.verificationProperties = verificationProperties;
+        this.signingProperties = signingProperties;
+        this.verifyExecutor = verifyExecutor;
+        this.reports = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerificationReport> eldest) {
+                return size() > VerificationService.this.verificationProperties.getCacheSize();
+            }
+        };
+    }
+
+    /** 저장된 문서(또는 서명본) 검증 - 해시는 DocumentContentService 가 한 번만 계산해 둔 값을 쓴다 */
+    public VerificationReport verifyDocument(Long documentId, boolean signed) {
+        DocumentContent content = documentContentService.describe(documentId, signed);
+        return verify(content.getFile(), content.getContentHash());
+    }
+
+    /** 업로드된 PDF 검증 - 임시 파일로 받으면서 SHA-256 을 같이 계산 */
+    public VerificationReport verifyUpload(InputStream body) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("verify-", ".pdf");
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            long limit = verificationProperties.getMaxUploadSize().toBytes();
+            long total = 0;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buf = new byte[64 * 1024];
+                int n;
+                while ((n = body.read(buf)) != -1) {
+                    total += n;
+                    if (total > limit) {
+                        throw new IllegalArgumentException("검증할 파일이 너무 큽니다. (최대 " + verificationProperties.getMaxUploadSize() + ")");
+                    }
+                    md.update(buf, 0, n);
+                    out.write(buf, 0, n);
+                }
+            }
+            if (total == 0) throw new IllegalArgumentException("빈 파일입니다.");
+            return verify(temp, HexFormat.of().formatHex(md.digest()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일 저장 실패", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    public VerificationCacheStats stats() {
+        int entries;
+        synchronized (this) {
+            entries = reports.size();
+        }
+        long h = hits.get();
+        long m = misses.get();
+        double ratio = h + m == 0 ? 0.0 : (double) h / (h + m);
+        return new VerificationCacheStats(entries, h, m, collapsed.get(), ratio, trustAnchorStore.current().getVersion());
+    }
+
+    // ---- 캐시 ----
+
+    VerificationReport verify(Path file, String sha256) {
+        TrustAnchorStore.Snapshot anchors = trustAnchorStore.current();
+        String key = sha256 + ":" + anchors.getVersion();
+
+        VerificationReport cached = lookup(key, anchors.getVersion());
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<VerificationReport> mine = new CompletableFuture<>();
+        CompletableFuture<VerificationReport> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            collapsed.incrementAndGet();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) throw re;
+                throw e;
+            }
+        }
+        try {
+            VerificationReport report = lookup(key, anchors.getVersion());
+            if (report == null) {
+                report = doVerify(file, sha256, anchors);
+                if (!report.isTimeDependent()) store(key, anchors.getVersion(), report);
+            }
+            mine.complete(report);
+            return report;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 앵커 version 이 바뀌었으면 이전 보고서는 더 이상 맞지 않으므로 통째로 비운다 */
+    private synchronized VerificationReport lookup(String key, String version) {
+        if (!version.equals(reportsVersion)) {
+            reports.clear();
+            reportsVersion = version;
+            return null;
+        }
+        return reports.get(key);
+    }
+
+    private synchronized void store(String key, String version, VerificationReport report) {
+        if (version.equals(reportsVersion)) reports.put(key, report);
+    }
+
+    // ---- 검증 ----
+
+    private VerificationReport doVerify(Path file, String sha256, TrustAnchorStore.Snapshot anchors) {
+        long started = System.nanoTime();
+        List<SignatureInput> inputs = new ArrayList<>();
+        List<X509Certificate> dssCerts = new ArrayList<>();
+        boolean dssPresent;
+        boolean modified;
+        long size;
+        try {
+            size = Files.size(file);
+            try (PDDocument doc = load(file, size)) {
+                for (PDSignatureField field : doc.getSignatureFields()) {
+                    PDSignature sig = field.getSignature();
+                    if (sig == null) continue;
+                    inputs.add(new SignatureInput(field.getFullyQualifiedName(), sig.getSubFilter(), sig.getName(),
+                            sig.getSignDate() == null ? null : sig.getSignDate().toInstant(),
+                            sig.getByteRange(), sig.getContents()));
+                }
+                dssPresent = collectDssCertificates(doc, dssCerts);
+                modified = modifiedAfterLastSignature(file, size, inputs, doc);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("PDF 를 읽을 수 없습니다: " + e.getMessage());
+        }
+
+        List<CompletableFuture<SignatureVerification>> futures = inputs.stream()
+                .map(input -> CompletableFuture.supplyAsync(() -> verifyOne(file, size, input, dssCerts, anchors), verifyExecutor))
+                .toList();
+        List<SignatureVerification> results = futures.stream().map(CompletableFuture::join).toList();
+
+        boolean valid = !results.isEmpty() && !modified && results.stream().allMatch(SignatureVerification::isValid);
+        // 체인까지 확인했는데 기준 시각이 없던 서명 = 현재 시각 기준 결과
+        boolean timeDependent = results.stream().anyMatch(r -> r.getSignerSubject() != null && r.getValidationTime() == null);
+        log.debug("서명 검증 {}: {}개, valid={}, {}ms", sha256, results.size(), valid, (System.nanoTime() - started) / 1_000_000);
+        return new VerificationReport(sha256, size, results.size(), valid, modified, timeDependent, dssPresent,
+                anchors.getVersion(), Instant.now(), results);
+    }
+
+    /**
+     * 가장 뒤까지 덮는 서명(문서 타임스탬프 포함) 이후의 증분 업데이트가 DSS/VRI 추가뿐인지.
+     * B-LT 보강처럼 서명 뒤에 검증 데이터만 붙인 문서는 유효, 그 밖의 변경(페이지/주석/양식 등)은 변경된 문서로 본다.
+     */
+    private static boolean modifiedAfterLastSignature(Path file, long size, List<SignatureInput> inputs, PDDocument doc) {
+        long signedLength = inputs.stream()
+                .filter(input -> input.byteRange != null && input.byteRange.length == 4)
+                .mapToLong(input -> (long) input.byteRange[2] + input.byteRange[3])
+                .max().orElse(size);
+        if (signedLength >= size) return false;
+        try {
+            return !RevisionChangeInspector.onlyDssAdded(file, signedLength, doc);
+        } catch (IOException | RuntimeException e) {
+            log.debug("서명 이후 변경 분석 실패 - 변경된 문서로 본다", e);
+            return true;
+        }
+    }
+
+    private SignatureVerification verifyOne(Path file, long size, SignatureInput input,
+                                            List<X509Certificate> dssCerts, TrustAnchorStore.Snapshot anchors) {
+        SignatureVerification v = new SignatureVerification();
+        v.setFieldName(input.fieldName);
+        v.setSubFilter(input.subFilter);
+        v.setSignerName(input.name);
+        v.setClaimedSigningTime(input.claimedTime);
+        boolean documentTimestamp = PDSignature.SUBFILTER_ETSI_RFC3161.getName().equals(input.subFilter);
+        v.setKind(documentTimestamp ? SignatureVerification.Kind.DOCUMENT_TIMESTAMP : SignatureVerification.Kind.SIGNATURE);
+
+        if (input.contents == null || input.contents.length == 0) {
+            v.getErrors().add("/Contents 가 비어 있습니다.");
+            return v;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] range = checkByteRange(channel, size, input.byteRange, v);
+            if (range == null) return v;
+            v.setCoversWholeDocument(range[2] + range[3] == size);
+
+            List<X509Certificate> pool = new ArrayList<>(dssCerts);
+            X509Certificate signer;
+            Instant validationTime;
+            if (documentTimestamp) {
+                TimeStampToken token = new TimeStampToken(new CMSSignedData(input.contents));
+                byte[] digest = MappedByteRangeSupport.digest(channel, range,
+                        token.getTimeStampInfo().getMessageImprintAlgOID().getId());
+                v.setDigestValid(MessageDigest.isEqual(digest, token.getTimeStampInfo().getMessageImprintDigest()));
+                if (!v.isDigestValid()) v.getErrors().add("문서 타임스탬프 이후 문서가 변경되었습니다 (다이제스트 불일치).");
+                signer = verifyToken(token, pool, anchors, v);
+                v.setSignatureValid(v.getTimestampValid() != null && v.getTimestampValid());
+                validationTime = v.isSignatureValid() ? v.getTimestamp() : null;
+            } else {
+                signer = verifyCms(channel, range, input.contents, pool, anchors, v);
+                // /M 은 서명자가 적은 값이라 기준 시각으로 쓰지 않는다
+                validationTime = Boolean.TRUE.equals(v.getTimestampValid()) ? v.getTimestamp() : null;
+            }
+
+            // 신뢰할 타임스탬프가 없으면 현재 시각으로 확인 - validationTime 을 비워 두어 보고서가 캐시되지 않게 한다
+            v.setValidationTime(validationTime);
+            if (signer != null) {
+                v.setSignerSubject(signer.getSubjectX500Principal().getName());
+                v.setSignerIssuer(signer.getIssuerX500Principal().getName());
+                v.setSignerSerial(signer.getSerialNumber().toString(16));
+                validateChain(signer, pool, anchors, validationTime == null ? Instant.now() : validationTime, v);
+            }
+        } catch (Exception e) {
+            v.getErrors().add("검증 실패: " + e.getMessage());
+        }
+
+        v.setValid(v.isByteRangeValid() && v.isDigestValid() && v.isSignatureValid() && v.isChainValid()
+                && !Boolean.FALSE.equals(v.getTimestampValid()));
+        return v;
+    }
+
+    /** ByteRange 가 [0, /Contents 앞] + [/Contents 뒤, 끝] 형태이고 그 사이가 정확히 <hex> 인지 */
+    private static long[] checkByteRange(FileChannel channel, long size, int[] byteRange, SignatureVerification v)
+            throws IOException {
+        if (byteRange == null || byteRange.length != 4) {
+            v.getErrors().add("ByteRange 가 없거나 형식이 올바르지 않습니다.");
+            return null;
+        }
+        long[] r = {byteRange[0], byteRange[1], byteRange[2], byteRange[3]};
+        if (r[0] != 0 || r[1] <= 0 || r[2] <= r[1] + 1 || r[3] < 0 || r[2] + r[3] > size) {
+            v.getErrors().add("ByteRange 가 파일 범위와 맞지 않습니다: " + Arrays.toString(r));
+            return null;
+        }
+        ByteBuffer open = ByteBuffer.allocate(1);
+        ByteBuffer close = ByteBuffer.allocate(1);
+        channel.read(open, r[1]);
+        channel.read(close, r[2] - 1);
+        if (open.get(0) != '<' || close.get(0) != '>') {
+            v.getErrors().add("ByteRange 사이가 /Contents 값이 아닙니다.");
+            return null;
+        }
+        v.setByteRangeValid(true);
+        return r;
+    }
+
+    /** @return 서명자 인증서 (찾지 못하면 null) */
+    private X509Certificate verifyCms(FileChannel channel, long[] range, byte[] contents, List<X509Certificate> pool,
+                                      TrustAnchorStore.Snapshot anchors, SignatureVerification v) throws Exception {
+        CMSSignedData parsed = new CMSSignedData(contents);
+        SignerInformation first = parsed.getSignerInfos().getSigners().iterator().next();
+        ASN1ObjectIdentifier digestOid = first.getDigestAlgorithmID().getAlgorithm();
+        byte[] digest = MappedByteRangeSupport.digest(channel, range, digestOid.getId());
+
+        // 미리 계산한 다이제스트를 주면 detached 내용 없이 signer.verify 가 messageDigest 까지 확인한다
+        CMSSignedData signed = new CMSSignedData(Map.of(digestOid, digest), contents);
+        SignerInformation signer = signed.getSignerInfos().getSigners().iterator().next();
+        addCertificates(signed, pool);
+
+        AttributeTable signedAttrs = signer.getSignedAttributes();
+        Attribute messageDigest = signedAttrs == null ? null : signedAttrs.get(CMSAttributes.messageDigest);
+        if (messageDigest == null) {
+            v.getErrors().add("messageDigest 서명 속성이 없습니다.");
+        } else {
+            byte[] expected = ASN1OctetString.getInstance(messageDigest.getAttrValues().getObjectAt(0)).getOctets();
+            v.setDigestValid(MessageDigest.isEqual(expected, digest));
+            if (!v.isDigestValid()) v.getErrors().add("서명 이후 문서가 변경되었습니다 (다이제스트 불일치).");
+        }
+
+        X509CertificateHolder holder = firstMatch(signed, signer);
+        if (holder == null) {
+            v.getErrors().add("서명자 인증서가 CMS 에 없습니다.");
+            return null;
+        }
+        try {
+            v.setSignatureValid(signer.verify(new JcaSimpleSignerInfoVerifierBuilder().build(holder)));
+        } catch (Exception e) {
+            v.getErrors().add("CMS 서명 검증 실패: " + e.getMessage());
+        }
+
+        // 서명 타임스탬프 (B-T): 서명값에 대한 messageImprint + 토큰 서명
+        AttributeTable unsigned = signer.getUnsignedAttributes();
+        if (unsigned != null) {
+            ASN1EncodableVector tokens = unsigned.getAll(PKCSObjectIdentifiers.id_aa_signatureTimeStampToken);
+            if (tokens.size() > 0) {
+                ASN1Encodable value = Attribute.getInstance(tokens.get(0)).getAttrValues().getObjectAt(0);
+                TimeStampToken token = new TimeStampToken(new CMSSignedData(value.toASN1Primitive().getEncoded()));
+                byte[] imprint = MessageDigest.getInstance(token.getTimeStampInfo().getMessageImprintAlgOID().getId())
+                        .digest(signer.getSignature());
+                verifyToken(token, pool, anchors, v);
+                if (!MessageDigest.isEqual(imprint, token.getTimeStampInfo().getMessageImprintDigest())) {
+                    v.setTimestampValid(false);
+                    v.getErrors().add("서명 타임스탬프가 이 서명값에 대한 것이 아닙니다.");
+                }
+            }
+        }
+        return new JcaX509CertificateConverter().getCertificate(holder);
+    }
+
+    /**
+     * 타임스탬프 토큰 서명 확인 후 timestamp/timestampValid 기록, @return TSA 인증서.
+     * 토큰에 든 TSA 인증서는 누구나 만들 수 있으므로 genTime 기준으로 신뢰 앵커까지 이어져야 유효로 본다.
+     */
+    private X509Certificate verifyToken(TimeStampToken token, List<X509Certificate> pool,
+                                        TrustAnchorStore.Snapshot anchors, SignatureVerification v) throws Exception {
+        v.setTimestamp(token.getTimeStampInfo().getGenTime().toInstant());
+        addCertificates(token.toCMSSignedData(), pool);
+        @SuppressWarnings("unchecked")
+        Collection<X509CertificateHolder> matches = token.getCertificates().getMatches(token.getSID());
+        if (matches.isEmpty()) {
+            v.setTimestampValid(false);
+            v.getErrors().add("타임스탬프 토큰에 TSA 인증서가 없습니다.");
+            return null;
+        }
+        X509CertificateHolder tsa = matches.iterator().next();
+        try {
+            token.validate(new JcaSimpleSignerInfoVerifierBuilder().build(tsa));
+        } catch (Exception e) {
+            v.setTimestampValid(false);
+            v.getErrors().add("타임스탬프 검증 실패: " + e.getMessage());
+            return new JcaX509CertificateConverter().getCertificate(tsa);
+        }
+        X509Certificate tsaCert = new JcaX509CertificateConverter().getCertificate(tsa);
+        try {
+            buildPath(tsaCert, pool, anchors, v.getTimestamp());
+            v.setTimestampValid(true);
+        } catch (Exception e) {
+            v.setTimestampValid(false);
+            v.getErrors().add("TSA 인증서를 신뢰할 수 없어 타임스탬프를 인정하지 않습니다: " + e.getMessage());
+        }
+        return tsaCert;
+    }
+
+    /** 폐기 확인 없이 검증 시각 기준 PKIX 경로 구성 */
+    private static void validateChain(X509Certificate target, List<X509Certificate> pool,
+                                      TrustAnchorStore.Snapshot anchors, Instant at, SignatureVerification v) {
+        if (anchors.getAnchors().isEmpty()) {
+            v.getErrors().add("신뢰 앵커가 설정되지 않았습니다.");
+            return;
+        }
+        try {
+            PKIXCertPathBuilderResult result = buildPath(target, pool, anchors, at);
+
+            for (Certificate cert : result.getCertPath().getCertificates()) {
+                v.getChain().add(((X509Certificate) cert).getSubjectX500Principal().getName());
+            }
+            v.getChain().add(result.getTrustAnchor().getTrustedCert().getSubjectX500Principal().getName());
+            v.setChainValid(true);
+        } catch (Exception e) {
+            v.getErrors().add("신뢰할 수 있는 인증서 체인을 만들 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    /** 앵커가 없거나 경로를 만들 수 없으면 예외 */
+    private static PKIXCertPathBuilderResult buildPath(X509Certificate target, List<X509Certificate> pool,
+                                                       TrustAnchorStore.Snapshot anchors, Instant at) throws Exception {
+        if (anchors.getAnchors().isEmpty()) throw new CertPathBuilderException("신뢰 앵커가 설정되지 않았습니다.");
+        X509CertSelector selector = new X509CertSelector();
+        selector.setCertificate(target);
+        PKIXBuilderParameters params = new PKIXBuilderParameters(anchors.getAnchors(), selector);
+        params.setRevocationEnabled(false);
+        params.setDate(Date.from(at));
+        params.addCertStore(CertStore.getInstance("Collection", new CollectionCertStoreParameters(pool)));
+        return (PKIXCertPathBuilderResult) CertPathBuilder.getInstance("PKIX").build(params);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static X509CertificateHolder firstMatch(CMSSignedData signed, SignerInformation signer) {
+        Collection<X509CertificateHolder> matches = signed.getCertificates().getMatches(signer.getSID());
+        return matches.isEmpty() ? null : matches.iterator().next();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addCertificates(CMSSignedData signed, List<X509Certificate> pool) throws Exception {
+        JcaX509CertificateConverter converter = new JcaX509CertificateConverter();
+        for (X509CertificateHolder holder : (Collection<X509CertificateHolder>) signed.getCertificates().getMatches(null)) {
+            pool.add(converter.getCertificate(holder));
+        }
+    }
+
+    /** /DSS /Certs 의 인증서도 체인 구성에 쓴다 (LTV 보강된 외부 문서) */
+    private static boolean collectDssCertificates(PDDocument doc, List<X509Certificate> out) {
+        COSDictionary dss = doc.getDocumentCatalog().getCOSObject().getCOSDictionary(DSS);
+        if (dss == null) return false;
+        COSArray certs = dss.getCOSArray(CERTS);
+        if (certs == null) return true;
+        try {
+            CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            for (int i = 0; i < certs.size(); i++) {
+                COSBase item = certs.getObject(i);
+                if (!(item instanceof COSStream stream)) continue;
+                try (InputStream in = stream.createInputStream()) {
+                    out.add((X509Certificate) factory.generateCertificate(in));
+                } catch (Exception e) {
+                    log.debug("DSS 인증서를 읽을 수 없어 건너뜀", e);
+                }
+            }
+        } catch (CertificateException e) {
+            throw new IllegalStateException(e);
+        }
+        return true;
+    }
+
+    private PDDocument load(Path file, long size) throws IOException {
+        if (size >= signingProperties.getStreamingThreshold().toBytes()) {
+            return Loader.loadPDF(file.toFile(), IOUtils.createTempFileOnlyStreamCache());
+        }
+        return Loader.loadPDF(file.toFile());
+    }
+}
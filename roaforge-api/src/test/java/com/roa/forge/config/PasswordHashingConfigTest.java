@@ -0,0 +1,35 @@
+package com.roa.forge.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingConfigTest {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    /** 설정 cost 가 바뀌면 기존 해시가 재해시 대상이 되고, 접두사 없는 예전 BCrypt 해시도 검증된다 */
+    @Test
+    void costChangeTriggersRehash() {
+        PasswordEncoder low = PasswordHashingConfig.delegatingEncoder(properties(8));
+        PasswordEncoder high = PasswordHashingConfig.delegatingEncoder(properties(10));
+        String encoded = low.encode(PASSWORD);
+
+        assertThat(encoded).startsWith("{bcrypt}$2a$08$");
+        assertThat(high.matches(PASSWORD, encoded)).isTrue();
+        assertThat(high.upgradeEncoding(encoded)).isTrue();
+        assertThat(low.upgradeEncoding(encoded)).isFalse();
+        assertThat(low.upgradeEncoding(high.encode(PASSWORD))).isTrue();
+
+        String legacy = encoded.substring("{bcrypt}".length());
+        assertThat(high.matches(PASSWORD, legacy)).isTrue();
+        assertThat(low.upgradeEncoding(legacy)).isTrue();
+    }
+
+    private static PasswordHashingProperties properties(int cost) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(cost);
+        return properties;
+    }
+}
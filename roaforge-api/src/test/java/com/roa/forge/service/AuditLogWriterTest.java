@@ -0,0 +1,89 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.AuditProperties;
+import com.roa.forge.entity.ActivityLog;
+import com.roa.forge.entity.SignatureLevel;
+import com.roa.forge.entity.SignatureLog;
+import com.roa.forge.repository.SignatureLogRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 배치 기록 재시도 (기록 스레드는 띄우지 않고 submit 이 호출 스레드에서 바로 저장하는 경로로 확인) */
+class AuditLogWriterTest {
+
+    @Test
+    void retryPersistsFreshCopiesWithoutIdsAssignedByFailedAttempt() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+        EntityManager entityManager = mock(EntityManager.class);
+
+        // persist 는 시퀀스 id 를 할당하고, 첫 flush 만 실패시킨다
+        List<Object> persisted = new ArrayList<>();
+        List<Object> idsAtPersist = new ArrayList<>();
+        AtomicInteger nextId = new AtomicInteger(100);
+        doAnswer(inv -> {
+            Object entity = inv.getArgument(0);
+            idsAtPersist.add(ReflectionTestUtils.getField(entity, "id"));
+            ReflectionTestUtils.setField(entity, "id", (long) nextId.getAndIncrement());
+            persisted.add(entity);
+            return null;
+        }).when(entityManager).persist(any());
+        AtomicInteger flushes = new AtomicInteger();
+        doAnswer(inv -> {
+            if (flushes.getAndIncrement() == 0) throw new PersistenceException("connection reset");
+            return null;
+        }).when(entityManager).flush();
+
+        SignatureLogRepository signatureLogRepository = mock(SignatureLogRepository.class);
+        AuditLogWriter writer = new AuditLogWriter(new AuditProperties(), signatureLogRepository, transactionManager);
+        ReflectionTestUtils.setField(writer, "entityManager", entityManager);
+
+        SignatureLog original = SignatureLog.builder()
+                .documentId(1L).signer("alice").signatureLevel(SignatureLevel.B_T).build();
+        writer.submit(original);
+
+        assertThat(flushes).hasValue(2);
+        assertThat(persisted).hasSize(2);
+        assertThat(idsAtPersist).containsOnlyNulls();
+        assertThat(persisted.get(1)).isNotSameAs(original).isInstanceOf(SignatureLog.class);
+        SignatureLog retried = (SignatureLog) persisted.get(1);
+        assertThat(retried.getSignedAt()).isEqualTo(original.getSignedAt());
+        assertThat(retried.getSigner()).isEqualTo("alice");
+        assertThat(retried.getSignatureLevel()).isEqualTo(SignatureLevel.B_T);
+        verify(entityManager, times(0)).merge(any());
+        // 문서 수준 반영은 성공한 시도에서 새로 할당된 id 로 한 번
+        verify(signatureLogRepository).applyDocumentLevel(List.of(101L));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void activityLogCopyKeepsContentAndTimestamp() {
+        ActivityLog original = ActivityLog.builder().username("bob").action("LOGIN").detail("ok").build();
+        ReflectionTestUtils.setField(original, "id", 7L);
+
+        ActivityLog copy = original.copyWithoutId();
+
+        assertThat(copy.getId()).isNull();
+        assertThat(copy.getCreatedAt()).isEqualTo(original.getCreatedAt());
+        assertThat(copy.getUsername()).isEqualTo("bob");
+        assertThat(copy.getAction()).isEqualTo("LOGIN");
+        assertThat(copy.getDetail()).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,237 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.CollabProperties;
+import com.roa.forge.dto.FieldDelta;
+import com.roa.forge.dto.FieldLayoutDiff;
+import com.roa.forge.dto.FieldLayoutResult;
+import com.roa.forge.entity.FieldType;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 협업 세션의 델타 병합/저장/충돌 처리 (스케줄러는 돌리지 않고 broadcast/flush 를 직접 호출) */
+class CollaborativeLayoutServiceTest {
+
+    private static final Long DOC = 1L;
+
+    @Test
+    void repeatedMovesOfSameFieldAreMergedToLastValue() {
+        CollaborativeLayoutService.DocumentSession session = new CollaborativeLayoutService.DocumentSession();
+        session.accept(move(10L, 1, 1));
+        session.accept(resize(10L, 50, 20));
+        session.accept(move(10L, 2, 2));
+        session.accept(move(10L, 3, 3));
+
+        List<FieldDelta> outbound = session.drainOutbound();
+        assertThat(outbound).extracting(FieldDelta::getOp).containsExactly(FieldDelta.Op.MOVE, FieldDelta.Op.RESIZE);
+        assertThat(outbound.get(0).getX()).isEqualTo(3.0);
+        assertThat(session.drainOutbound()).isEmpty();
+
+        FieldLayoutDiff diff = session.drainPending();
+        assertThat(diff.getMoved()).singleElement().satisfies(m -> {
+            assertThat(m.getId()).isEqualTo(10L);
+            assertThat(m.getX()).isEqualTo(3.0);
+        });
+        assertThat(diff.getResized()).singleElement().satisfies(r -> assertThat(r.getW()).isEqualTo(50.0));
+        assertThat(session.drainPending()).isNull();
+    }
+
+    @Test
+    void changesToUnsavedFieldAreFoldedIntoCreate() {
+        CollaborativeLayoutService.DocumentSession session = new CollaborativeLayoutService.DocumentSession();
+        session.accept(add("c1"));
+        session.accept(move("c1", 7, 8));
+        session.accept(resize("c1", 30, 40));
+
+        FieldLayoutDiff diff = session.drainPending();
+        assertThat(diff.getMoved()).isEmpty();
+        assertThat(diff.getResized()).isEmpty();
+        assertThat(diff.getCreated()).singleElement().satisfies(c -> {
+            assertThat(c.getClientId()).isEqualTo("c1");
+            assertThat(c.getX()).isEqualTo(7.0);
+            assertThat(c.getW()).isEqualTo(30.0);
+        });
+    }
+
+    @Test
+    void changesDuringCreateSaveWaitForAssignedId() {
+        CollaborativeLayoutService.DocumentSession session = new CollaborativeLayoutService.DocumentSession();
+        session.accept(add("c1"));
+        assertThat(session.drainPending().getCreated()).hasSize(1);
+
+        // 생성 저장이 끝나기 전의 이동은 id 가 없어 보류된다
+        session.accept(move("c1", 5, 5));
+        assertThat(session.drainPending()).isNull();
+
+        session.assigned(Map.of("c1", 42L));
+        FieldLayoutDiff diff = session.drainPending();
+        assertThat(diff.getMoved()).singleElement().satisfies(m -> {
+            assertThat(m.getId()).isEqualTo(42L);
+            assertThat(m.getX()).isEqualTo(5.0);
+        });
+
+        // 매핑 이후 clientId 로 온 델타는 바로 id 로 바뀐다
+        session.accept(move("c1", 6, 6));
+        assertThat(session.drainPending().getMoved()).extracting(FieldLayoutDiff.Moved::getId).containsExactly(42L);
+    }
+
+    @Test
+    void removeWinsOverPendingMoveAndResize() {
+        CollaborativeLayoutService.DocumentSession session = new CollaborativeLayoutService.DocumentSession();
+        session.accept(move(10L, 1, 1));
+        session.accept(resize(10L, 5, 5));
+        session.accept(remove(10L));
+
+        assertThat(session.drainOutbound()).extracting(FieldDelta::getOp).containsExactly(FieldDelta.Op.REMOVE);
+        FieldLayoutDiff diff = session.drainPending();
+        assertThat(diff.getMoved()).isEmpty();
+        assertThat(diff.getResized()).isEmpty();
+        assertThat(diff.getDeleted()).containsExactly(10L);
+    }
+
+    @Test
+    void removingUnsavedFieldCancelsCreate() {
+        CollaborativeLayoutService.DocumentSession session = new CollaborativeLayoutService.DocumentSession();
+        session.accept(add("c1"));
+        session.accept(move("c1", 2, 2));
+        session.accept(remove("c1"));
+
+        assertThat(session.drainPending()).isNull();
+    }
+
+    @Test
+    void removeDuringCreateSaveDeletesAfterIdIsAssigned() {
+        CollaborativeLayoutService.DocumentSession session = new CollaborativeLayoutService.DocumentSession();
+        session.accept(add("c1"));
+        session.drainPending();
+        session.accept(move("c1", 2, 2));
+        session.accept(remove("c1"));
+
+        session.assigned(Map.of("c1", 42L));
+        FieldLayoutDiff diff = session.drainPending();
+        assertThat(diff.getMoved()).isEmpty();
+        assertThat(diff.getDeleted()).containsExactly(42L);
+    }
+
+    @Test
+    void retiredSessionRejectsDeltas() {
+        CollaborativeLayoutService.DocumentSession session = new CollaborativeLayoutService.DocumentSession();
+        session.accept(move(10L, 1, 1));
+        // 브로드캐스트 전에는 정리하지 않는다
+        assertThat(session.retireIfIdle(0)).isFalse();
+
+        session.drainOutbound();
+        assertThat(session.retireIfIdle(0)).isTrue();
+        assertThat(session.accept(move(10L, 2, 2))).isFalse();
+    }
+
+    @Test
+    void flushSavesMergedDiffOnceAndPublishesResult() {
+        FieldLayoutService fieldLayoutService = mock(FieldLayoutService.class);
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        FieldLayoutResult result = new FieldLayoutResult(3L, Map.of("c1", 42L));
+        when(fieldLayoutService.applySnapshot(eq(DOC), any())).thenReturn(result);
+        CollaborativeLayoutService service = service(fieldLayoutService, messagingTemplate);
+
+        service.accept(DOC, add("c1"), "alice");
+        service.accept(DOC, move(10L, 1, 1), "alice");
+        service.accept(DOC, move(10L, 9, 9), "bob");
+        service.flush();
+        service.flush();
+
+        ArgumentCaptor<FieldLayoutDiff> diff = ArgumentCaptor.forClass(FieldLayoutDiff.class);
+        verify(fieldLayoutService, times(1)).applySnapshot(eq(DOC), diff.capture());
+        assertThat(diff.getValue().getCreated()).hasSize(1);
+        assertThat(diff.getValue().getMoved()).singleElement().satisfies(m -> assertThat(m.getX()).isEqualTo(9.0));
+        verify(messagingTemplate).convertAndSend(CollaborativeLayoutService.topic(DOC) + "/saved", result);
+    }
+
+    @Test
+    void failedFlushAsksClientsToResync() {
+        FieldLayoutService fieldLayoutService = mock(FieldLayoutService.class);
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        when(fieldLayoutService.applySnapshot(eq(DOC), any())).thenThrow(new IllegalStateException("version conflict"));
+        CollaborativeLayoutService service = service(fieldLayoutService, messagingTemplate);
+
+        service.accept(DOC, move(10L, 1, 1), "alice");
+        service.flush();
+
+        verify(messagingTemplate).convertAndSend(eq(CollaborativeLayoutService.topic(DOC) + "/resync"), any(Object.class));
+        verify(messagingTemplate, never()).convertAndSend(eq(CollaborativeLayoutService.topic(DOC) + "/saved"), any(Object.class));
+    }
+
+    private static CollaborativeLayoutService service(FieldLayoutService fieldLayoutService,
+                                                      SimpMessagingTemplate messagingTemplate) {
+        return new CollaborativeLayoutService(fieldLayoutService, messagingTemplate,
+                new CollabProperties(), mock(TaskScheduler.class));
+    }
+
+    private static FieldDelta add(String clientId) {
+        FieldDelta d = delta(FieldDelta.Op.ADD, null, clientId);
+        d.setPage(1);
+        d.setX(0.0);
+        d.setY(0.0);
+        d.setW(100.0);
+        d.setH(20.0);
+        d.setType(FieldType.SIGNATURE);
+        return d;
+    }
+
+    private static FieldDelta move(Long id, double x, double y) {
+        return moveDelta(delta(FieldDelta.Op.MOVE, id, null), x, y);
+    }
+
+    private static FieldDelta move(String clientId, double x, double y) {
+        return moveDelta(delta(FieldDelta.Op.MOVE, null, clientId), x, y);
+    }
+
+    private static FieldDelta moveDelta(FieldDelta d, double x, double y) {
+        d.setPage(1);
+        d.setX(x);
+        d.setY(y);
+        return d;
+    }
+
+    private static FieldDelta resize(Long id, double w, double h) {
+        return resizeDelta(delta(FieldDelta.Op.RESIZE, id, null), w, h);
+    }
+
+    private static FieldDelta resize(String clientId, double w, double h) {
+        return resizeDelta(delta(FieldDelta.Op.RESIZE, null, clientId), w, h);
+    }
+
+    private static FieldDelta resizeDelta(FieldDelta d, double w, double h) {
+        d.setW(w);
+        d.setH(h);
+        return d;
+    }
+
+    private static FieldDelta remove(Long id) {
+        return delta(FieldDelta.Op.REMOVE, id, null);
+    }
+
+    private static FieldDelta remove(String clientId) {
+        return delta(FieldDelta.Op.REMOVE, null, clientId);
+    }
+
+    private static FieldDelta delta(FieldDelta.Op op, Long id, String clientId) {
+        FieldDelta d = new FieldDelta();
+        d.setOp(op);
+        d.setId(id);
+        d.setClientId(clientId);
+        return d;
+    }
+}
@@ -0,0 +1,85 @@
+package com.roa.forge.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 해시 풀 대기 중 시간 초과/인터럽트 처리 (해시는 테스트가 풀어 줄 때까지 멈추는 가짜 인코더) */
+class ExecutorPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(1);
+        pool.setMaxPoolSize(1);
+        pool.setQueueCapacity(1);
+        pool.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        pool.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdown();
+    }
+
+    @Test
+    void interruptRestoresFlagAndReportsUnavailable() {
+        PasswordEncoder encoder = new ExecutorPasswordEncoder(blocking(), pool, Duration.ofMinutes(1));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> encoder.matches("pw", "hash"))
+                    .isInstanceOf(PasswordHashingUnavailableException.class)
+                    .isNotInstanceOf(IllegalStateException.class);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+    }
+
+    @Test
+    void timeoutIsRejected() {
+        PasswordEncoder encoder = new ExecutorPasswordEncoder(blocking(), pool, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> encoder.encode("pw")).isInstanceOf(TaskRejectedException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    private PasswordEncoder blocking() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return true;
+            }
+        };
+    }
+
+    private void await() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
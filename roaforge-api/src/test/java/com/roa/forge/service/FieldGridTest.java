@@ -0,0 +1,93 @@
+package com.roa.forge.service;
+
+import com.roa.forge.dto.FieldBox;
+import com.roa.forge.dto.FieldOverlap;
+import com.roa.forge.entity.FieldType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/** 격자 등록/삭제/질의/겹침 - 여러 칸에 걸친 필드와 overflow 필드 포함 */
+class FieldGridTest {
+
+    private static final double CELL = 64;
+
+    @Test
+    void queryReportsFieldSpanningSeveralCellsOnce() {
+        FieldGrid grid = new FieldGrid(CELL);
+        grid.put(box(1L, 10, 10, 300, 200));
+        grid.put(box(2L, 500, 500, 10, 10));
+
+        assertThat(grid.query(0, 0, 400, 400, b -> true)).extracting(FieldBox::getId).containsExactly(1L);
+        assertThat(grid.query(0, 0, 1000, 1000, b -> true)).extracting(FieldBox::getId)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(grid.query(400, 400, 50, 50, b -> true)).isEmpty();
+    }
+
+    @Test
+    void putReplacesAndRemoveDeletesFromAllCells() {
+        FieldGrid grid = new FieldGrid(CELL);
+        grid.put(box(1L, 0, 0, 200, 200));
+        grid.put(box(1L, 1000, 1000, 10, 10));
+
+        assertThat(grid.size()).isEqualTo(1);
+        assertThat(grid.query(0, 0, 500, 500, b -> true)).isEmpty();
+        assertThat(grid.at(1005, 1005)).extracting(FieldBox::getId).containsExactly(1L);
+
+        assertThat(grid.remove(1L)).isTrue();
+        assertThat(grid.remove(1L)).isFalse();
+        assertThat(grid.size()).isZero();
+        assertThat(grid.at(1005, 1005)).isEmpty();
+    }
+
+    @Test
+    void overlapsListsEachPairOnceAndAppliesFilter() {
+        FieldGrid grid = new FieldGrid(CELL);
+        grid.put(box(1L, 0, 0, 100, 20));
+        grid.put(box(2L, 50, 10, 100, 20));
+        grid.put(box(3L, 120, 0, 100, 100));
+        // 변만 맞닿은 필드는 겹침이 아니다
+        grid.put(box(4L, 220, 0, 50, 50));
+
+        assertThat(grid.overlaps(b -> true)).extracting(FieldOverlap::getFirstId, FieldOverlap::getSecondId)
+                .containsExactlyInAnyOrder(tuple(1L, 2L), tuple(2L, 3L));
+        assertThat(grid.overlaps(b -> b.getId() != 2L)).isEmpty();
+    }
+
+    @Test
+    void hugeFieldsGoToOverflowAndAreStillFound() {
+        FieldGrid grid = new FieldGrid(CELL);
+        grid.put(box(1L, 0, 0, 100, 20));
+        // 칸으로 나누면 수십억 칸 / cellKey 가 int 범위를 넘는 크기
+        grid.put(box(2L, 0, 0, 1e9, 1e9));
+        grid.put(box(3L, 1e12, 1e12, 10, 10));
+
+        assertThat(grid.size()).isEqualTo(3);
+        assertThat(grid.at(50, 10)).extracting(FieldBox::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(grid.at(1e12 + 5, 1e12 + 5)).extracting(FieldBox::getId).containsExactly(3L);
+        assertThat(grid.query(0, 0, Double.MAX_VALUE, Double.MAX_VALUE, b -> true)).extracting(FieldBox::getId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(grid.overlaps(b -> true)).extracting(FieldOverlap::getFirstId, FieldOverlap::getSecondId)
+                .containsExactly(tuple(1L, 2L));
+
+        assertThat(grid.remove(2L)).isTrue();
+        assertThat(grid.at(50, 10)).extracting(FieldBox::getId).containsExactly(1L);
+        assertThat(grid.overlaps(b -> true)).isEmpty();
+    }
+
+    @Test
+    void farApartCellsDoNotCollide() {
+        FieldGrid grid = new FieldGrid(1);
+        // 칸 좌표가 음수/큰 값이어도 (cx, cy) 마다 다른 키
+        grid.put(box(1L, 5, 4_000_000_000.0, 1, 1));
+        grid.put(box(2L, 5, 5, 1, 1));
+
+        assertThat(grid.at(5.5, 5.5)).extracting(FieldBox::getId).containsExactly(2L);
+        assertThat(grid.query(0, 0, 10, 10, b -> true)).extracting(FieldBox::getId).containsExactly(2L);
+    }
+
+    private static FieldBox box(Long id, double x, double y, double w, double h) {
+        return new FieldBox(id, 1, x, y, w, h, FieldType.SIGNATURE);
+    }
+}
@@ -0,0 +1,183 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.SigningProperties;
+import com.roa.forge.config.StampingProperties;
+import com.roa.forge.entity.FieldType;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 큰 합성 양식(기본 50쪽, 2000개 필드)에 입력값을 새길 때 필드마다 내용 스트림/글꼴을 만드는 방식과
+ * FieldStamper(페이지당 스트림 하나, 문서당 글꼴 하나)를 비교한다.
+ * 기본 test 태스크에서는 제외되고 {@code ./gradlew benchmarkTest} 로 실행한다. docs/benchmarks/stamping.md 참고.
+ */
+@Tag("benchmark")
+class FieldStamperBenchmarkTest {
+
+    private static final int PAGES = Integer.getInteger("bench.pages", 50);
+    private static final int FIELDS = Integer.getInteger("bench.fields", 2000);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 5);
+    /** 비어 있으면 Helvetica. 한글 값을 쓰려면 TrueType 글꼴 경로를 준다 */
+    private static final String FONT_PATH = System.getProperty("bench.fontPath", "");
+    private static final int WARMUP = 2;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void perFieldVersusSinglePass() throws Exception {
+        Path source = dir.resolve("form.pdf");
+        writeBlankForm(source);
+        List<StampItem> items = syntheticItems();
+
+        StampingProperties stampingProperties = new StampingProperties();
+        stampingProperties.setFontPath(FONT_PATH);
+        FieldStamper stamper = new FieldStamper(new StampFontCache(stampingProperties), stampingProperties,
+                new SigningProperties());
+
+        Result perField = run("per-field", source, dir.resolve("per-field.pdf"),
+                target -> stampPerField(source, target, items));
+        Result singlePass = run("single-pass", source, dir.resolve("single-pass.pdf"),
+                target -> stamper.stamp(source, target, items));
+
+        System.out.printf("%npages=%d, fields=%d, font=%s, iterations=%d%n",
+                PAGES, FIELDS, FONT_PATH.isBlank() ? "Helvetica" : FONT_PATH, ITERATIONS);
+        System.out.println("mode         p50(ms)  alloc(MB)  output(KB)  streams/page");
+        System.out.println(perField);
+        System.out.println(singlePass);
+
+        assertThat(singlePass.streamsPerPage).isEqualTo(2);
+        assertThat(singlePass.outputBytes).isLessThan(perField.outputBytes);
+    }
+
+    private Result run(String mode, Path source, Path target, Stamp stamp) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) stamp.to(target);
+
+        long[] millis = new long[ITERATIONS];
+        long[] allocated = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long started = System.nanoTime();
+            stamp.to(target);
+            millis[i] = (System.nanoTime() - started) / 1_000_000;
+            allocated[i] = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        }
+        Arrays.sort(millis);
+        Arrays.sort(allocated);
+
+        int streamsPerPage;
+        try (PDDocument doc = Loader.loadPDF(target.toFile())) {
+            streamsPerPage = 0;
+            for (Iterator<PDStream> it = doc.getPage(0).getContentStreams(); it.hasNext(); it.next()) streamsPerPage++;
+        }
+        return new Result(mode, millis[ITERATIONS / 2], allocated[ITERATIONS / 2], Files.size(target), streamsPerPage);
+    }
+
+    /** 비교 기준: 필드마다 페이지를 찾아 내용 스트림을 열고 글꼴을 새로 넣는다 */
+    private static void stampPerField(Path source, Path target, List<StampItem> items) throws IOException {
+        try (PDDocument doc = Loader.loadPDF(source.toFile())) {
+            for (StampItem item : items) {
+                PDPage page = doc.getPage(item.getPage() - 1);
+                PDRectangle crop = page.getCropBox();
+                float x = crop.getLowerLeftX() + (float) item.getX();
+                float y = crop.getUpperRightY() - (float) item.getY() - (float) item.getH();
+                try (PDPageContentStream cs = new PDPageContentStream(doc, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
+                    if (item.getType() == FieldType.CHECKBOX) {
+                        cs.moveTo(x, y);
+                        cs.lineTo(x + (float) item.getW(), y + (float) item.getH());
+                        cs.stroke();
+                    } else {
+                        PDFont font = FONT_PATH.isBlank()
+                                ? new PDType1Font(Standard14Fonts.FontName.HELVETICA)
+                                : PDType0Font.load(doc, new File(FONT_PATH));
+                        cs.beginText();
+                        cs.setFont(font, 9);
+                        cs.newLineAtOffset(x + 2, y + 3);
+                        cs.showText(item.getValue());
+                        cs.endText();
+                    }
+                }
+            }
+            doc.save(target.toFile());
+        }
+    }
+
+    private static void writeBlankForm(Path file) throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            for (int i = 0; i < PAGES; i++) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                doc.addPage(page);
+                try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                    cs.addRect(36, 36, PDRectangle.A4.getWidth() - 72, PDRectangle.A4.getHeight() - 72);
+                    cs.stroke();
+                }
+            }
+            doc.save(file.toFile());
+        }
+    }
+
+    /** 페이지마다 2열 격자로 TEXT/DATE/CHECKBOX 를 번갈아 배치 */
+    private static List<StampItem> syntheticItems() {
+        List<StampItem> items = new ArrayList<>(FIELDS);
+        int perPage = (FIELDS + PAGES - 1) / PAGES;
+        int rows = (perPage + 1) / 2;
+        double rowHeight = (PDRectangle.A4.getHeight() - 80) / rows;
+        for (int i = 0; i < FIELDS; i++) {
+            int page = i / perPage + 1;
+            int slot = i % perPage;
+            double x = 40 + (slot % 2) * 260;
+            double y = 40 + (slot / 2) * rowHeight;
+            FieldType type = switch (i % 3) {
+                case 0 -> FieldType.TEXT;
+                case 1 -> FieldType.DATE;
+                default -> FieldType.CHECKBOX;
+            };
+            String value = switch (type) {
+                case TEXT -> "Applicant name " + i;
+                case DATE -> "2026-10-18";
+                default -> "true";
+            };
+            double w = type == FieldType.CHECKBOX ? 12 : 240;
+            items.add(new StampItem((long) i + 1, page, x, y, w, Math.min(14, rowHeight - 2), type, value));
+        }
+        return items;
+    }
+
+    @FunctionalInterface
+    private interface Stamp {
+        void to(Path target) throws Exception;
+    }
+
+    private record Result(String mode, long p50Ms, long allocatedBytes, long outputBytes, int streamsPerPage) {
+
+        @Override
+        public String toString() {
+            return String.format("%-12s %-8d %-10.1f %-11d %d", mode, p50Ms, allocatedBytes / 1048576.0,
+                    outputBytes / 1024, streamsPerPage);
+        }
+    }
+}
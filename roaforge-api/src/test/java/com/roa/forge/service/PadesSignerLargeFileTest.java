@@ -0,0 +1,184 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.SigningProperties;
+import org.bouncycastle.asn1.ASN1InputStream;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.cms.CMSAttributes;
+import org.bouncycastle.asn1.cms.ContentInfo;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * 1GB 합성 PDF 를 작은 힙에서 서명한다. 기본 test 태스크에서는 제외되고
+ * {@code ./gradlew largeFileTest} (-Xmx256m) 로 실행한다.
+ */
+@Tag("large-file")
+class PadesSignerLargeFileTest {
+
+    private static final long PADDING_BYTES = 1024L * 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void signsOneGigabytePdfWithFlatHeap() throws Exception {
+        assumeThat(Runtime.getRuntime().maxMemory()).isLessThan(PADDING_BYTES);
+
+        Path source = dir.resolve("large.pdf");
+        Path target = dir.resolve("large-signed.pdf");
+        writeSyntheticPdf(source, PADDING_BYTES);
+
+        SigningProperties props = new SigningProperties();
+        PadesSigner signer = new PadesSigner(new CmsSignatureService(), props);
+        SignerCredential credential = selfSigned();
+
+        signer.sign(source, target, new SignatureSlot(1L, 1, 50, 50, 200, 60), "tester", credential);
+
+        assertThat(Files.size(target)).isGreaterThan(Files.size(source));
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ)) {
+            long[] range = MappedByteRangeSupport.findByteRange(channel, Files.size(source));
+            SignerInformation info = readContents(channel, range).getSignerInfos().getSigners().iterator().next();
+            byte[] signedDigest = ASN1OctetString.getInstance(info.getSignedAttributes()
+                    .get(CMSAttributes.messageDigest).getAttrValues().getObjectAt(0)).getOctets();
+
+            assertThat(signedDigest).isEqualTo(streamDigest(target, range));
+            assertThat(info.getSignedAttributes().get(CMSAttributes.signingTime)).isNull();
+        }
+    }
+
+    /** 1 페이지 + 사용되지 않는 대용량 Form XObject 로 구성된 PDF 를 직접 기록 */
+    private static void writeSyntheticPdf(Path file, long padding) throws IOException {
+        List<Long> offsets = new ArrayList<>();
+        try (CountingOutput out = new CountingOutput(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.ascii("%PDF-1.7\n");
+            offsets.add(out.count);
+            out.ascii("1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n");
+            offsets.add(out.count);
+            out.ascii("2 0 obj\n<< /Type /Pages /Kids [3 0 R] /Count 1 >>\nendobj\n");
+            offsets.add(out.count);
+            out.ascii("3 0 obj\n<< /Type /Page /Parent 2 0 R /MediaBox [0 0 595 842] "
+                    + "/Resources << /XObject << /Pad 5 0 R >> >> /Contents 4 0 R >>\nendobj\n");
+            offsets.add(out.count);
+            String content = "BT ET\n";
+            out.ascii("4 0 obj\n<< /Length " + content.length() + " >>\nstream\n" + content + "\nendstream\nendobj\n");
+            offsets.add(out.count);
+            out.ascii("5 0 obj\n<< /Type /XObject /Subtype /Form /BBox [0 0 1 1] /Length " + padding + " >>\nstream\n");
+            byte[] spaces = new byte[1 << 20];
+            Arrays.fill(spaces, (byte) ' ');
+            for (long written = 0; written < padding; written += spaces.length) {
+                out.write(spaces, 0, (int) Math.min(spaces.length, padding - written));
+            }
+            out.ascii("\nendstream\nendobj\n");
+
+            long xref = out.count;
+            StringBuilder sb = new StringBuilder("xref\n0 6\n0000000000 65535 f \n");
+            for (long off : offsets) sb.append(String.format("%010d 00000 n \n", off));
+            sb.append("trailer\n<< /Size 6 /Root 1 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+            out.ascii(sb.toString());
+        }
+    }
+
+    /** /Contents 는 0 으로 패딩되어 있으므로 첫 번째 DER 객체만 읽는다 */
+    private static CMSSignedData readContents(FileChannel channel, long[] range) throws Exception {
+        ByteBuffer buf = ByteBuffer.allocate((int) (range[2] - range[1] - 2));
+        channel.read(buf, range[1] + 1);
+        byte[] raw = HexFormat.of().parseHex(new String(buf.array(), StandardCharsets.US_ASCII));
+        try (ASN1InputStream asn1 = new ASN1InputStream(raw)) {
+            return new CMSSignedData(ContentInfo.getInstance(asn1.readObject()));
+        }
+    }
+
+    /** 검증용: mmap 이 아닌 일반 스트림으로 ByteRange 다이제스트 */
+    private static byte[] streamDigest(Path file, long[] range) throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] buf = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(file)) {
+            long pos = 0;
+            for (int i = 0; i < 4; i += 2) {
+                in.skipNBytes(range[i] - pos);
+                long remaining = range[i + 1];
+                while (remaining > 0) {
+                    int n = in.read(buf, 0, (int) Math.min(buf.length, remaining));
+                    md.update(buf, 0, n);
+                    remaining -= n;
+                }
+                pos = range[i] + range[i + 1];
+            }
+        }
+        return md.digest();
+    }
+
+    private static SignerCredential selfSigned() throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
+        kpg.initialize(2048);
+        KeyPair kp = kpg.generateKeyPair();
+        X500Name name = new X500Name("CN=RoaForge Test Signer");
+        Date now = new Date();
+        X509Certificate cert = new JcaX509CertificateConverter().getCertificate(
+                new JcaX509v3CertificateBuilder(name, BigInteger.ONE, now,
+                        new Date(now.getTime() + 86_400_000L), name, kp.getPublic())
+                        .build(new JcaContentSignerBuilder("SHA256withRSA").build(kp.getPrivate())));
+        return new SignerCredential("test", kp.getPrivate(), new X509Certificate[]{cert});
+    }
+
+    private static final class CountingOutput extends OutputStream {
+        private final OutputStream delegate;
+        private long count;
+
+        CountingOutput(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        void ascii(String s) throws IOException {
+            write(s.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.PasswordHashingConfig;
+import com.roa.forge.config.PasswordHashingProperties;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BCrypt cost 별 로그인(비밀번호 검증) 처리량.
+ * 요청 스레드 bench.clients 개가 동시에 로그인하고, 검증은 ExecutorPasswordEncoder 의 고정 풀에서만 돈다.
+ * 기본 test 태스크에서는 제외되고 {@code ./gradlew benchmarkTest} 로 실행한다. docs/benchmarks/password-hashing.md 참고.
+ */
+@Tag("benchmark")
+class PasswordHashingBenchmarkTest {
+
+    private static final int[] COSTS = Arrays.stream(System.getProperty("bench.costs", "8,10,12").split(","))
+            .mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 32);
+    private static final int LOGINS = Integer.getInteger("bench.logins", 200);
+    private static final int POOL = Integer.getInteger("bench.pool",
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Test
+    void loginThroughputByCost() throws Exception {
+        System.out.printf("%nclients=%d, logins=%d, pool=%d, cores=%d%n",
+                CLIENTS, LOGINS, POOL, Runtime.getRuntime().availableProcessors());
+        System.out.println("cost  logins/s  p50(ms)  p99(ms)  rejected");
+        for (int cost : COSTS) {
+            System.out.println(run(cost));
+        }
+    }
+
+    private Result run(int cost) throws Exception {
+        PasswordHashingProperties properties = properties(cost);
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(POOL);
+        pool.setMaxPoolSize(POOL);
+        pool.setQueueCapacity(properties.getQueueCapacity());
+        pool.setThreadNamePrefix("bench-hash-");
+        pool.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        pool.initialize();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            PasswordEncoder encoder = new ExecutorPasswordEncoder(
+                    PasswordHashingConfig.delegatingEncoder(properties), pool, Duration.ofMinutes(1));
+            String stored = encoder.encode(PASSWORD);
+            for (int i = 0; i < POOL; i++) encoder.matches(PASSWORD, stored);
+
+            AtomicInteger remaining = new AtomicInteger(LOGINS);
+            AtomicInteger rejected = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    start.await();
+                    while (remaining.getAndDecrement() > 0) {
+                        long t0 = System.nanoTime();
+                        try {
+                            assertThat(encoder.matches(PASSWORD, stored)).isTrue();
+                            latencies.add(System.nanoTime() - t0);
+                        } catch (TaskRejectedException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            List<Long> all = new ArrayList<>();
+            for (Future<List<Long>> f : futures) all.addAll(f.get());
+            long elapsed = System.nanoTime() - started;
+
+            long[] sorted = all.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new Result(cost, all.size() * 1e9 / elapsed,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), rejected.get());
+        } finally {
+            clients.shutdownNow();
+            pool.shutdown();
+        }
+    }
+
+    private static PasswordHashingProperties properties(int cost) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(cost);
+        return properties;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1e6;
+    }
+
+    private record Result(int cost, double perSecond, double p50Ms, double p99Ms, int rejected) {
+
+        @Override
+        public String toString() {
+            return String.format("%-5d %-9.1f %-8.1f %-8.1f %d", cost, perSecond, p50Ms, p99Ms, rejected);
+        }
+    }
+}
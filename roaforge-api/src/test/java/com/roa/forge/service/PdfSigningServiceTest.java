@@ -0,0 +1,107 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.SigningProperties;
+import com.roa.forge.dto.SignResponse;
+import com.roa.forge.dto.SigningContext;
+import com.roa.forge.entity.Document;
+import com.roa.forge.repository.DocumentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** 서명 워커 풀 동시성/거절 처리 (PDF 처리 협력 객체는 모두 mock) */
+class PdfSigningServiceTest {
+
+    private static final SigningContext CONTEXT = new SigningContext("tester", "127.0.0.1", "junit");
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch proceed = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+    private PdfSigningService service;
+
+    @BeforeEach
+    void setUp() {
+        // 워커 1개, 대기열 없음 - 두 번째 제출부터 바로 거절된다
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        // 문서 1 조회는 테스트가 풀어 줄 때까지 멈춘다. 어느 문서든 결국 "없는 문서"로 끝난다
+        DocumentRepository documentRepository = mock(DocumentRepository.class);
+        when(documentRepository.findById(any())).thenAnswer(invocation -> {
+            if (Long.valueOf(1L).equals(invocation.getArgument(0))) {
+                entered.countDown();
+                assertThat(proceed.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            return Optional.<Document>empty();
+        });
+
+        service = new PdfSigningService(documentRepository,
+                mock(DocumentTemplateService.class),
+                mock(AuditLogWriter.class),
+                mock(SignerCredentialProvider.class),
+                mock(FieldStamper.class),
+                mock(PadesSigner.class),
+                mock(CmsSignatureService.class),
+                mock(LtvService.class),
+                new DocumentFileLocks(),
+                mock(StorageService.class),
+                new SigningProperties(),
+                mock(PlatformTransactionManager.class),
+                executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        proceed.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void concurrentSigningOfSameDocumentIsRejected() throws Exception {
+        var first = service.signAsync(1L, CONTEXT);
+        assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 같은 문서는 서명 중이라 거절, 다른 문서는 막히지 않는다
+        assertThatThrownBy(() -> service.sign(1L, CONTEXT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 서명 중");
+        assertThatThrownBy(() -> service.sign(2L, CONTEXT))
+                .isInstanceOf(DocumentNotFoundException.class);
+
+        proceed.countDown();
+        assertThatThrownBy(first::join).hasCauseInstanceOf(DocumentNotFoundException.class);
+        // 끝나면 잠금이 풀려 다시 시도할 수 있다
+        assertThatThrownBy(() -> service.sign(1L, CONTEXT)).isInstanceOf(DocumentNotFoundException.class);
+    }
+
+    @Test
+    void batchReportsRejectedDocumentsInsteadOfFailing() throws Exception {
+        var batch = service.signAllAsync(List.of(1L, 2L, 3L, 2L), CONTEXT);
+        assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+        proceed.countDown();
+
+        List<SignResponse> results = batch.get(10, TimeUnit.SECONDS);
+        assertThat(results).extracting(SignResponse::getDocumentId).containsExactly(1L, 2L, 3L);
+        assertThat(results.get(0).getError()).contains("문서를 찾을 수 없습니다");
+        assertThat(results.get(1).getError()).isEqualTo(PdfSigningService.BUSY_MESSAGE);
+        assertThat(results.get(2).getError()).isEqualTo(PdfSigningService.BUSY_MESSAGE);
+    }
+}
@@ -0,0 +1,88 @@
+package com.roa.forge.service;
+
+import org.apache.pdfbox.pdfwriter.compress.CompressParameters;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PdfTrailerInspectorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsPageCountFromClassicXrefTable() throws Exception {
+        Path file = dir.resolve("classic.pdf");
+        try (PDDocument doc = new PDDocument()) {
+            for (int i = 0; i < 3; i++) doc.addPage(new PDPage());
+            doc.save(file.toFile(), CompressParameters.NO_COMPRESSION);
+        }
+        assertThat(inspect(file)).hasValue(3);
+    }
+
+    @Test
+    void followsIncrementalUpdateAndIgnoresNestedKeys() throws Exception {
+        Path file = dir.resolve("incremental.pdf");
+        Files.writeString(file, incrementalPdf(), StandardCharsets.ISO_8859_1);
+        assertThat(inspect(file)).hasValue(12);
+    }
+
+    @Test
+    void leavesXrefStreamsToFallback() throws Exception {
+        Path file = dir.resolve("compressed.pdf");
+        try (PDDocument doc = new PDDocument()) {
+            doc.addPage(new PDPage());
+            doc.save(file.toFile());
+        }
+        assertThat(inspect(file)).isEmpty();
+    }
+
+    @Test
+    void rejectsNonPdf() throws Exception {
+        Path file = dir.resolve("garbage.pdf");
+        Files.writeString(file, "not a pdf");
+        assertThat(inspect(file)).isEmpty();
+    }
+
+    private static OptionalInt inspect(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            return PdfTrailerInspector.pageCount(channel);
+        }
+    }
+
+    /** 7쪽 원본 + /Count 를 12 로 바꾼 증분 업데이트. 하위 사전과 문자열에 같은 키를 넣어 둔다 */
+    private static String incrementalPdf() {
+        StringBuilder sb = new StringBuilder("%PDF-1.4\n");
+        List<Integer> offsets = new ArrayList<>();
+        offsets.add(sb.length());
+        sb.append("1 0 obj\n<< /Type /Catalog /Lang (en (x) /Pages 9) /Pages 2 0 R >>\nendobj\n");
+        offsets.add(sb.length());
+        sb.append("2 0 obj\n<< /Type /Pages /Kids [3 0 R] /Resources << /Count 99 >> /Count 7 >>\nendobj\n");
+        offsets.add(sb.length());
+        sb.append("3 0 obj\n<< /Type /Page /Parent 2 0 R >>\nendobj\n");
+        int xref = sb.length();
+        sb.append("xref\n0 4\n0000000000 65535 f\r\n");
+        offsets.forEach(o -> sb.append(String.format("%010d 00000 n\r\n", o)));
+        sb.append("trailer\n<< /Size 4 /Root 1 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+
+        int updated = sb.length();
+        sb.append("2 0 obj\n<< /Type /Pages /Kids [3 0 R] /Count 12 >>\nendobj\n");
+        int xref2 = sb.length();
+        sb.append("xref\n0 1\n0000000000 65535 f \n2 1\n").append(String.format("%010d 00000 n \n", updated));
+        sb.append("trailer\n<< /Size 4 /Root 1 0 R /Prev ").append(xref).append(" >>\nstartxref\n")
+                .append(xref2).append("\n%%EOF\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,134 @@
+package com.roa.forge.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuotaCounterTest {
+
+    @Test
+    void concurrentReservationsNeverExceedLimit() throws Exception {
+        QuotaCounter counter = new QuotaCounter();
+        counter.reconcile(1_000, 0, counter.commitCount());
+
+        int threads = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                int granted = 0;
+                for (int i = 0; i < 500; i++) {
+                    if (counter.tryReserve(1)) {
+                        granted++;
+                        // 일부는 롤백된 것처럼 반환
+                        if (i % 10 == 0) {
+                            counter.release(1);
+                            granted--;
+                        } else {
+                            counter.commit(1);
+                        }
+                    }
+                }
+                return granted;
+            }));
+        }
+        start.countDown();
+        int granted = 0;
+        for (Future<Integer> f : results) granted += f.get();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted).isEqualTo(1_000);
+        assertThat(counter.used()).isEqualTo(1_000);
+        assertThat(counter.reserved()).isZero();
+        assertThat(counter.tryReserve(1)).isFalse();
+    }
+
+    @Test
+    void reconcileKeepsInFlightReservations() {
+        QuotaCounter counter = new QuotaCounter();
+        counter.reconcile(10, 7, counter.commitCount());
+        assertThat(counter.tryReserve(2)).isTrue();
+
+        // 다른 곳에서 3건이 삭제됨
+        counter.reconcile(10, 4, counter.commitCount());
+        assertThat(counter.used()).isEqualTo(4);
+        assertThat(counter.reserved()).isEqualTo(2);
+        assertThat(counter.tryReserve(4)).isTrue();
+        assertThat(counter.tryReserve(1)).isFalse();
+    }
+
+    @Test
+    void reconcileSkipsWhenCommitRaced() {
+        QuotaCounter counter = new QuotaCounter();
+        counter.reconcile(10, 0, counter.commitCount());
+        long before = counter.commitCount();
+        assertThat(counter.tryReserve(1)).isTrue();
+        counter.commit(1);
+
+        assertThat(counter.reconcile(10, 0, before)).isFalse();
+        assertThat(counter.used()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileInterleavedWithCommitsNeverUndercounts() throws Exception {
+        long limit = 5_000;
+        QuotaCounter counter = new QuotaCounter();
+        counter.reconcile(limit, 0, counter.commitCount());
+        // DB 에 커밋된 행 수 - 실제 서비스처럼 행이 커밋된 뒤 commit() 을 부른다
+        AtomicLong rows = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<Integer> reconciler = pool.submit(() -> {
+            start.await();
+            int applied = 0;
+            while (running.get()) {
+                long before = counter.commitCount();
+                long committed = rows.get();
+                if (counter.reconcile(limit, committed, before)) applied++;
+            }
+            return applied;
+        });
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2_000; i++) {
+                    if (!counter.tryReserve(1)) continue;
+                    rows.incrementAndGet();
+                    counter.commit(1);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : workers) f.get();
+        running.set(false);
+        assertThat(reconciler.get()).isPositive();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // 적게 잡혔다면 한도를 넘겨 예약이 나갔을 것
+        assertThat(rows.get()).isLessThanOrEqualTo(limit);
+        assertThat(counter.used()).isGreaterThanOrEqualTo(rows.get());
+        assertThat(counter.reserved()).isZero();
+
+        counter.reconcile(limit, rows.get(), counter.commitCount());
+        assertThat(counter.used()).isEqualTo(rows.get());
+    }
+}
@@ -0,0 +1,169 @@
+package com.roa.forge.service;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 서명된 리비전 뒤 증분 업데이트 판별 - 원본 저장 직후 길이를 서명된 리비전 끝으로 본다 */
+class RevisionChangeInspectorTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] certificate;
+
+    private Path base;
+    private long signedLength;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (certificate == null) certificate = selfSigned();
+        base = dir.resolve("base.pdf");
+        try (PDDocument doc = new PDDocument()) {
+            PDPage page = new PDPage();
+            doc.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(doc, page)) {
+                content.addRect(10, 10, 100, 50);
+                content.stroke();
+            }
+            doc.save(base.toFile());
+        }
+        signedLength = Files.size(base);
+    }
+
+    @Test
+    void dssOnlyUpdateIsAllowed() throws Exception {
+        Path file = update("dss.pdf", doc -> addDss(doc));
+        assertThat(inspect(file)).isTrue();
+    }
+
+    @Test
+    void pageChangeIsRejected() throws Exception {
+        Path file = update("page.pdf", doc -> {
+            addDss(doc);
+            PDPage page = doc.getPage(0);
+            page.setMediaBox(new PDRectangle(100, 100));
+            page.getCOSObject().setNeedToBeUpdated(true);
+        });
+        assertThat(inspect(file)).isFalse();
+    }
+
+    @Test
+    void otherCatalogChangeIsRejected() throws Exception {
+        Path file = update("catalog.pdf", doc -> {
+            addDss(doc);
+            doc.getDocumentCatalog().getCOSObject().setString(COSName.LANG, "en");
+        });
+        assertThat(inspect(file)).isFalse();
+    }
+
+    @Test
+    void existingObjectListedUnderDssIsRejected() throws Exception {
+        // 기존 페이지 내용 스트림을 인증서 바이트로 바꿔 치고 /DSS /Certs 에 끼워 넣는다
+        Path file = update("hijack.pdf", doc -> {
+            COSStream contents = (COSStream) doc.getPage(0).getCOSObject().getDictionaryObject(COSName.CONTENTS);
+            try (OutputStream out = contents.createRawOutputStream()) {
+                out.write(certificate);
+            }
+            contents.removeItem(COSName.FILTER);
+            contents.setNeedToBeUpdated(true);
+            addDss(doc, contents);
+        });
+        assertThat(inspect(file)).isFalse();
+    }
+
+    @Test
+    void nonCertificateStreamUnderDssIsRejected() throws Exception {
+        Path file = update("junk.pdf", doc -> {
+            COSStream junk = doc.getDocument().createCOSStream();
+            try (OutputStream out = junk.createOutputStream()) {
+                out.write("0 0 m 100 100 l S".getBytes());
+            }
+            addDss(doc, junk);
+        });
+        assertThat(inspect(file)).isFalse();
+    }
+
+    @Test
+    void untouchedRevisionIsAllowed() throws Exception {
+        try (PDDocument doc = Loader.loadPDF(base.toFile())) {
+            assertThat(RevisionChangeInspector.onlyDssAdded(base, signedLength, doc)).isTrue();
+        }
+    }
+
+    private interface Change {
+        void apply(PDDocument doc) throws IOException;
+    }
+
+    private Path update(String name, Change change) throws IOException {
+        Path file = dir.resolve(name);
+        try (PDDocument doc = Loader.loadPDF(base.toFile());
+             OutputStream out = Files.newOutputStream(file)) {
+            change.apply(doc);
+            doc.saveIncremental(out);
+        }
+        return file;
+    }
+
+    /** LtvAugmenter 와 같은 방식으로 /DSS /Certs 에 인증서 스트림 하나 추가 */
+    private static void addDss(PDDocument doc) throws IOException {
+        COSStream cert = doc.getDocument().createCOSStream();
+        try (OutputStream out = cert.createOutputStream(COSName.FLATE_DECODE)) {
+            out.write(certificate);
+        }
+        addDss(doc, cert);
+    }
+
+    private static void addDss(PDDocument doc, COSStream cert) {
+        COSDictionary catalog = doc.getDocumentCatalog().getCOSObject();
+        COSArray certs = new COSArray();
+        certs.add(cert);
+        certs.setNeedToBeUpdated(true);
+        COSDictionary dss = new COSDictionary();
+        dss.setItem(COSName.getPDFName("Certs"), certs);
+        dss.setNeedToBeUpdated(true);
+        catalog.setItem(COSName.getPDFName("DSS"), dss);
+        catalog.setNeedToBeUpdated(true);
+    }
+
+    private boolean inspect(Path file) throws IOException {
+        try (PDDocument doc = Loader.loadPDF(file.toFile())) {
+            return RevisionChangeInspector.onlyDssAdded(file, signedLength, doc);
+        }
+    }
+
+    private static byte[] selfSigned() throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC");
+        kpg.initialize(256);
+        KeyPair keys = kpg.generateKeyPair();
+        X500Name name = new X500Name("CN=DSS Test");
+        return new JcaX509v3CertificateBuilder(name, BigInteger.ONE,
+                new Date(System.currentTimeMillis() - 60_000), new Date(System.currentTimeMillis() + 86_400_000L),
+                name, keys.getPublic())
+                .build(new JcaContentSignerBuilder("SHA256withECDSA").build(keys.getPrivate()))
+                .getEncoded();
+    }
+}
@@ -0,0 +1,208 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.PkiProperties;
+import org.springframework.util.unit.DataSize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.net.http.HttpClient;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 로컬 스텁 응답기(StubPkiResponder)를 상대로 한 OCSP/CRL 캐시 동작 */
+class RevocationDataServiceTest {
+
+    private StubPkiResponder responder;
+    private MutableClock clock;
+    private RevocationDataService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        responder = new StubPkiResponder(Duration.ofMillis(300), Duration.ofMinutes(10));
+        clock = new MutableClock(Instant.now());
+        PkiProperties properties = new PkiProperties();
+        service = new RevocationDataService(
+                new PkiHttpTransport(HttpClient.newHttpClient(), properties), properties, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        responder.close();
+    }
+
+    @Test
+    void concurrentMissesShareOneFetch() throws Exception {
+        X509Certificate cert = responder.issue(BigInteger.valueOf(1001));
+        int callers = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<OcspResponseData>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return service.ocsp(cert, responder.caCert());
+                }));
+            }
+            start.countDown();
+            for (Future<OcspResponseData> f : results) {
+                assertThat(f.get().getStatus()).isEqualTo(OcspResponseData.Status.GOOD);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(responder.ocspRequests()).isEqualTo(1);
+        assertThat(service.stats().getFetchCount()).isEqualTo(1);
+        assertThat(service.stats().getCollapsedCount() + service.stats().getHitCount()).isEqualTo(callers - 1);
+    }
+
+    @Test
+    void entryExpiresAtNextUpdate() throws Exception {
+        X509Certificate cert = responder.issue(BigInteger.valueOf(2002));
+
+        service.ocsp(cert, responder.caCert());
+        clock.advance(Duration.ofMinutes(9));
+        service.ocsp(cert, responder.caCert());
+        assertThat(responder.ocspRequests()).isEqualTo(1);
+
+        responder.revoke(BigInteger.valueOf(2002), new Date());
+        clock.advance(Duration.ofMinutes(2));
+        OcspResponseData refreshed = service.ocsp(cert, responder.caCert());
+        assertThat(responder.ocspRequests()).isEqualTo(2);
+        assertThat(refreshed.getStatus()).isEqualTo(OcspResponseData.Status.REVOKED);
+    }
+
+    @Test
+    void crlLookupUsesPackedSerials() throws Exception {
+        // CRL 시각은 초 단위
+        Date when = new Date((System.currentTimeMillis() - 60_000) / 1000 * 1000);
+        BigInteger big = new BigInteger("7f3a9c01d2e4b5a6978812345678abcdef", 16);
+        responder.revoke(BigInteger.valueOf(5), when);
+        responder.revoke(BigInteger.valueOf(0x1234), when);
+        responder.revoke(big, when);
+        for (int i = 0; i < 1000; i++) {
+            responder.revoke(BigInteger.valueOf(100_000L + i * 7L), when);
+        }
+        X509Certificate cert = responder.issue(BigInteger.valueOf(3003));
+
+        CrlData crl = service.crl(cert, responder.caCert());
+        service.crl(cert, responder.caCert());
+
+        assertThat(responder.crlRequests()).isEqualTo(1);
+        assertThat(crl.getRevoked().size()).isEqualTo(1003);
+        assertThat(crl.isRevoked(BigInteger.valueOf(5))).isTrue();
+        assertThat(crl.isRevoked(BigInteger.valueOf(0x1234))).isTrue();
+        assertThat(crl.isRevoked(big)).isTrue();
+        assertThat(crl.isRevoked(BigInteger.valueOf(100_007))).isTrue();
+        assertThat(crl.isRevoked(BigInteger.valueOf(100_008))).isFalse();
+        assertThat(crl.isRevoked(BigInteger.valueOf(3003))).isFalse();
+        assertThat(crl.isRevoked(big.add(BigInteger.ONE))).isFalse();
+        assertThat(crl.revocationTime(big)).contains(when.toInstant());
+    }
+
+    @Test
+    void staleOrNotYetValidResponsesAreRejected() throws Exception {
+        X509Certificate cert = responder.issue(BigInteger.valueOf(4004));
+
+        // 응답 nextUpdate(+10분)가 시계 차이(5분)를 넘겨 지났다
+        clock.advance(Duration.ofMinutes(20));
+        assertThatThrownBy(() -> service.ocsp(cert, responder.caCert()))
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("만료");
+        assertThatThrownBy(() -> service.crl(cert, responder.caCert()))
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("만료");
+
+        // 응답 thisUpdate 가 시계 차이를 넘겨 미래다
+        clock.advance(Duration.ofMinutes(-40));
+        assertThatThrownBy(() -> service.ocsp(cert, responder.caCert()))
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("아직 유효하지 않습니다");
+
+        clock.advance(Duration.ofMinutes(20));
+        service.ocsp(cert, responder.caCert());
+        service.ocsp(cert, responder.caCert());
+        assertThat(responder.ocspRequests()).isEqualTo(3);
+        assertThat(service.stats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void crlBodiesOverBudgetAreNotKept() throws Exception {
+        PkiProperties properties = new PkiProperties();
+        properties.setRevocationCrlCacheBytes(DataSize.ofBytes(64));
+        RevocationDataService small = new RevocationDataService(
+                new PkiHttpTransport(HttpClient.newHttpClient(), properties), properties, clock);
+        X509Certificate cert = responder.issue(BigInteger.valueOf(5005));
+
+        small.crl(cert, responder.caCert());
+        small.crl(cert, responder.caCert());
+
+        assertThat(responder.crlRequests()).isEqualTo(2);
+        assertThat(small.stats().getCrlEntries()).isZero();
+        assertThat(small.stats().getCrlBytes()).isZero();
+    }
+
+    @Test
+    void revokedSerialsHandlesMixedWidths() {
+        Map<BigInteger, Instant> entries = new HashMap<>();
+        entries.put(BigInteger.ZERO, null);
+        entries.put(BigInteger.valueOf(255), Instant.EPOCH);
+        entries.put(BigInteger.valueOf(256), Instant.EPOCH);
+        entries.put(BigInteger.valueOf(-3), Instant.EPOCH);
+        entries.put(BigInteger.ONE.shiftLeft(159), Instant.EPOCH);
+        RevokedSerials serials = RevokedSerials.of(entries);
+
+        assertThat(serials.size()).isEqualTo(5);
+        assertThat(serials.revocationTime(BigInteger.ZERO)).contains(Instant.MIN);
+        assertThat(serials.contains(BigInteger.valueOf(255))).isTrue();
+        assertThat(serials.contains(BigInteger.valueOf(256))).isTrue();
+        assertThat(serials.contains(BigInteger.valueOf(-3))).isTrue();
+        assertThat(serials.contains(BigInteger.valueOf(3))).isFalse();
+        assertThat(serials.contains(BigInteger.ONE.shiftLeft(159))).isTrue();
+        assertThat(serials.contains(BigInteger.ONE.shiftLeft(160))).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
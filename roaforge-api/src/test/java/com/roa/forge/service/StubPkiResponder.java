@@ -0,0 +1,176 @@
+package com.roa.forge.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.Req;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 CA + OCSP 응답기 + CRL 배포 지점 (테스트용).
+ * 발급한 인증서의 AIA/CDP 가 이 서버를 가리키고, 응답 nextUpdate 는 응답 시각 + nextUpdateAfter 다.
+ */
+final class StubPkiResponder implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final KeyPair caKeys;
+    private final X509Certificate caCert;
+    private final Map<BigInteger, Date> revoked = new ConcurrentHashMap<>();
+    private final AtomicInteger ocspRequests = new AtomicInteger();
+    private final AtomicInteger crlRequests = new AtomicInteger();
+    private final Duration delay;
+    private final Duration nextUpdateAfter;
+
+    StubPkiResponder(Duration delay, Duration nextUpdateAfter) throws Exception {
+        this.delay = delay;
+        this.nextUpdateAfter = nextUpdateAfter;
+
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC");
+        kpg.initialize(256);
+        this.caKeys = kpg.generateKeyPair();
+        X500Name name = new X500Name("CN=Stub CA");
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(name, BigInteger.ONE,
+                new Date(System.currentTimeMillis() - 60_000), new Date(System.currentTimeMillis() + 86_400_000L),
+                name, caKeys.getPublic());
+        builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+        this.caCert = new JcaX509CertificateConverter().getCertificate(builder.build(signer()));
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/ocsp", exchange -> respond(exchange, "application/ocsp-response", () -> {
+            ocspRequests.incrementAndGet();
+            return ocspResponse(new OCSPReq(exchange.getRequestBody().readAllBytes()));
+        }));
+        server.createContext("/crl", exchange -> respond(exchange, "application/pkix-crl", () -> {
+            crlRequests.incrementAndGet();
+            return crl();
+        }));
+        server.start();
+    }
+
+    X509Certificate caCert() {
+        return caCert;
+    }
+
+    X509Certificate issue(BigInteger serial) throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC");
+        kpg.initialize(256);
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caCert, serial,
+                new Date(System.currentTimeMillis() - 60_000), new Date(System.currentTimeMillis() + 86_400_000L),
+                new X500Name("CN=Signer " + serial), kpg.generateKeyPair().getPublic());
+        builder.addExtension(Extension.authorityInfoAccess, false, new AuthorityInformationAccess(
+                AccessDescription.id_ad_ocsp, new GeneralName(GeneralName.uniformResourceIdentifier, baseUrl() + "/ocsp")));
+        builder.addExtension(Extension.cRLDistributionPoints, false, new CRLDistPoint(new DistributionPoint[]{
+                new DistributionPoint(new DistributionPointName(new GeneralNames(
+                        new GeneralName(GeneralName.uniformResourceIdentifier, baseUrl() + "/crl"))), null, null)}));
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer()));
+    }
+
+    void revoke(BigInteger serial, Date when) {
+        revoked.put(serial, when);
+    }
+
+    int ocspRequests() {
+        return ocspRequests.get();
+    }
+
+    int crlRequests() {
+        return crlRequests.get();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private byte[] ocspResponse(OCSPReq request) throws Exception {
+        Date now = new Date();
+        Date next = new Date(now.getTime() + nextUpdateAfter.toMillis());
+        BasicOCSPRespBuilder builder = new BasicOCSPRespBuilder(new RespID(new X500Name("CN=Stub CA")));
+        for (Req req : request.getRequestList()) {
+            Date revokedAt = revoked.get(req.getCertID().getSerialNumber());
+            CertificateStatus status = revokedAt == null ? CertificateStatus.GOOD
+                    : new RevokedStatus(revokedAt, CRLReason.keyCompromise);
+            builder.addResponse(req.getCertID(), status, now, next);
+        }
+        X509CertificateHolder[] chain = {new JcaX509CertificateHolder(caCert)};
+        return new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, builder.build(signer(), chain, now)).getEncoded();
+    }
+
+    private byte[] crl() throws Exception {
+        Date now = new Date();
+        X509v2CRLBuilder builder = new X509v2CRLBuilder(new X500Name("CN=Stub CA"), now);
+        builder.setNextUpdate(new Date(now.getTime() + nextUpdateAfter.toMillis()));
+        revoked.forEach((serial, when) -> builder.addCRLEntry(serial, when, CRLReason.keyCompromise));
+        return builder.build(signer()).getEncoded();
+    }
+
+    private ContentSigner signer() throws Exception {
+        return new JcaContentSignerBuilder("SHA256withECDSA").build(caKeys.getPrivate());
+    }
+
+    private interface Body {
+        byte[] get() throws Exception;
+    }
+
+    private void respond(HttpExchange exchange, String contentType, Body body) {
+        try {
+            Thread.sleep(delay.toMillis());
+            byte[] encoded = body.get();
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, encoded.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(encoded);
+            }
+        } catch (Exception e) {
+            try {
+                exchange.sendResponseHeaders(500, -1);
+            } catch (Exception ignored) {
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.roa.forge.service;
+
+import com.roa.forge.config.PkiProperties;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 TSA 를 동시에 수천 번 호출할 때 플랫폼 스레드 풀(Tomcat 기본 200) 과 가상 스레드를 비교한다.
+ * 기본 test 태스크에서는 제외되고 {@code ./gradlew benchmarkTest} 로 실행한다.
+ * 방법과 해석은 docs/benchmarks/virtual-threads.md 참고.
+ */
+@Tag("benchmark")
+class TimestampClientBenchmarkTest {
+
+    private static final int REQUESTS = Integer.getInteger("bench.requests", 5000);
+    private static final Duration UPSTREAM_DELAY = Duration.ofMillis(Long.getLong("bench.delayMs", 200));
+    /** server.tomcat.threads.max 기본값 */
+    private static final int PLATFORM_THREADS = Integer.getInteger("bench.platformThreads", 200);
+    private static final int WARMUP = 200;
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        try (StubTsaServer tsa = new StubTsaServer(UPSTREAM_DELAY)) {
+            Result platform = run("platform", tsa, () -> Executors.newFixedThreadPool(PLATFORM_THREADS),
+                    Executors.newFixedThreadPool(16));
+            Result virtual = run("virtual", tsa, Executors::newVirtualThreadPerTaskExecutor,
+                    Executors.newVirtualThreadPerTaskExecutor());
+
+            System.out.printf("%nrequests=%d, upstream delay=%dms, platform threads=%d%n",
+                    REQUESTS, UPSTREAM_DELAY.toMillis(), PLATFORM_THREADS);
+            System.out.println("mode      wall(ms)  req/s    p50(ms)  p99(ms)  max(ms)  failed");
+            System.out.println(platform);
+            System.out.println(virtual);
+
+            assertThat(platform.failed).isZero();
+            assertThat(virtual.failed).isZero();
+        }
+    }
+
+    private Result run(String mode, StubTsaServer tsa, Supplier<ExecutorService> requestThreads,
+                       ExecutorService clientExecutor) throws Exception {
+        PkiProperties properties = new PkiProperties();
+        properties.setTsaUrl(tsa.url());
+        properties.setRequestTimeout(Duration.ofMinutes(2));
+        // 상대 서버 보호용 상한이 비교를 가리지 않도록 충분히 크게
+        properties.setMaxConcurrentRequests(REQUESTS);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+        TimestampClient client = new TimestampClient(new PkiHttpTransport(httpClient, properties), properties);
+
+        try (httpClient; ExecutorService requests = requestThreads.get()) {
+            fire(client, requests, WARMUP, new long[WARMUP]);
+
+            long[] latencies = new long[REQUESTS];
+            long started = System.nanoTime();
+            int failed = fire(client, requests, REQUESTS, latencies);
+            long wallNanos = System.nanoTime() - started;
+            return Result.of(mode, wallNanos, latencies, failed);
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    /** 요청을 한꺼번에 넣고 (큐 대기 포함) 제출 시점부터 완료까지를 지연으로 잰다 */
+    private static int fire(TimestampClient client, ExecutorService requests, int count, long[] latencies)
+            throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(count);
+        AtomicInteger failed = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            long submitted = System.nanoTime();
+            requests.execute(() -> {
+                try {
+                    byte[] data = new byte[64];
+                    ThreadLocalRandom.current().nextBytes(data);
+                    client.timestamp(data);
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - submitted;
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(10, TimeUnit.MINUTES)).isTrue();
+        return failed.get();
+    }
+
+    private record Result(String mode, long wallMs, double throughput, long p50, long p99, long max, int failed) {
+
+        static Result of(String mode, long wallNanos, long[] latencies, int failed) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return new Result(mode,
+                    TimeUnit.NANOSECONDS.toMillis(wallNanos),
+                    latencies.length / (wallNanos / 1e9),
+                    TimeUnit.NANOSECONDS.toMillis(sorted[(int) (sorted.length * 0.50)]),
+                    TimeUnit.NANOSECONDS.toMillis(sorted[Math.min(sorted.length - 1, (int) (sorted.length * 0.99))]),
+                    TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length - 1]),
+                    failed);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-9s %-9d %-8.0f %-8d %-8d %-8d %d", mode, wallMs, throughput, p50, p99, max, failed);
+        }
+    }
+}